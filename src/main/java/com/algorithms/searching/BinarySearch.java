@@ -1,5 +1,13 @@
 package com.algorithms.searching;
 
+import java.util.List;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Provides a static method to perform binary search on a sorted array.
  * <p>
@@ -16,6 +24,59 @@ package com.algorithms.searching;
  *            the {@code Comparable} interface to allow comparisons.
  */
 public class BinarySearch {
+    private static final int INTERLEAVE = 4;
+    private static final int PARALLEL_BATCH = 1 << 15;
+
+    /**
+     * Searches one slice of a key batch, writing into the matching slice of the results.
+     */
+    private interface BatchSlice {
+
+        /**
+         * Searches the keys of a slice.
+         *
+         * @param fromKey The index of the first key of the slice (inclusive).
+         * @param toKey   The index after the last key of the slice (exclusive).
+         */
+        void search(int fromKey, int toKey);
+    }
+
+    /**
+     * Splits a key batch in halves until the slices are small enough to search sequentially.
+     */
+    private static final class BatchTask extends RecursiveAction {
+        private final BatchSlice slice;
+        private final int fromKey;
+        private final int toKey;
+
+        /**
+         * Constructs a task over a range of keys.
+         *
+         * @param slice   The sequential search of a slice.
+         * @param fromKey The index of the first key (inclusive).
+         * @param toKey   The index after the last key (exclusive).
+         */
+        BatchTask(BatchSlice slice, int fromKey, int toKey) {
+            this.slice = slice;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        /**
+         * Searches the range directly or forks its two halves.
+         */
+        @Override
+        protected void compute() {
+            if (toKey - fromKey <= PARALLEL_BATCH) {
+                slice.search(fromKey, toKey);
+                return;
+            }
+
+            int mid = (fromKey + toKey) >>> 1;
+            invokeAll(new BatchTask(slice, fromKey, mid), new BatchTask(slice, mid, toKey));
+        }
+    }
+
     /**
      * Searches for a specified key in a sorted array using the binary search algorithm.
      * <p>
@@ -30,26 +91,778 @@ public class BinarySearch {
      * @return The index of the key if found, otherwise -1.
      */
     public static <T extends Comparable<T>> int search(T[] sortedArray, T key) {
-       int low = 0;
-       int high = sortedArray.length - 1;
-
-       while (low <= high) {
-           int mid = (low + high) / 2;
-
-           if (sortedArray[mid].compareTo(key) == 0) {
-               return mid;
-           }
-           if (sortedArray[mid].compareTo(key) < 0) {
-               low = mid + 1;
-           }
-           if (sortedArray[mid].compareTo(key) > 0) {
-               high = mid - 1;
-           }
-       }
+        int low = 0;
+        int high = sortedArray.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = sortedArray[mid].compareTo(key);
+
+            if (cmp < 0) {
+                low = mid + 1;
+            }
+            else if (cmp > 0) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
 
         return -1;
     }
 
+    /**
+     * Searches for a specified key in a sorted {@code int} array.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The index of the first occurrence of the key if found, otherwise -1.
+     */
+    public static int search(int[] sortedArray, int key) {
+        return search(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Searches for a specified key in a range of a sorted {@code int} array.
+     * <p>
+     * The range is first narrowed with a branchless lower-bound loop (see
+     * {@link #lowerBoundIndex(int[], int, int, int)}) and the candidate is then checked for
+     * equality once, so the search does exactly one comparison per halving step.
+     * </p>
+     *
+     * @param sortedArray The array to search, sorted in ascending order within the range.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The index of the first occurrence of the key in the range if found, otherwise -1.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int search(int[] sortedArray, int fromIndex, int toIndex, int key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+
+        int index = lowerBoundIndex(sortedArray, fromIndex, toIndex, key);
+        return index < toIndex && sortedArray[index] == key ? index : -1;
+    }
+
+    /**
+     * Searches for a specified key in a sorted {@code long} array.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The index of the first occurrence of the key if found, otherwise -1.
+     */
+    public static int search(long[] sortedArray, long key) {
+        return search(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Searches for a specified key in a range of a sorted {@code long} array, with one
+     * branchless comparison per halving step.
+     *
+     * @param sortedArray The array to search, sorted in ascending order within the range.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The index of the first occurrence of the key in the range if found, otherwise -1.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int search(long[] sortedArray, int fromIndex, int toIndex, long key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+
+        int index = lowerBoundIndex(sortedArray, fromIndex, toIndex, key);
+        return index < toIndex && sortedArray[index] == key ? index : -1;
+    }
+
+    /**
+     * Searches for a specified key in a sorted {@code double} array.
+     *
+     * @param sortedArray The array to search, sorted in the order of {@link Double#compare}.
+     * @param key         The value to search for.
+     * @return The index of the first occurrence of the key if found, otherwise -1.
+     */
+    public static int search(double[] sortedArray, double key) {
+        return search(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Searches for a specified key in a range of a sorted {@code double} array, with one
+     * comparison per halving step.
+     * <p>
+     * Values are ordered as by {@link Double#compare} and {@link java.util.Arrays#sort(double[])}:
+     * {@code -0.0} sorts before {@code 0.0} and {@code NaN} sorts last and can be found.
+     * </p>
+     *
+     * @param sortedArray The array to search, sorted in the order of {@link Double#compare}.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The index of the first occurrence of the key in the range if found, otherwise -1.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int search(double[] sortedArray, int fromIndex, int toIndex, double key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+
+        int index = lowerBoundIndex(sortedArray, fromIndex, toIndex, key);
+        return index < toIndex && Double.compare(sortedArray[index], key) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first element of a sorted array that is not less than a key: the
+     * first occurrence of the key if it is present, otherwise its insertion point.
+     *
+     * @param <T>         The type of elements in the array, which must implement {@code Comparable}.
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static <T extends Comparable<T>> int lowerBound(T[] sortedArray, T key) {
+        int low = 0;
+        int high = sortedArray.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (sortedArray[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element of a sorted array that is greater than a key: one
+     * past the last occurrence of the key if it is present.
+     *
+     * @param <T>         The type of elements in the array, which must implement {@code Comparable}.
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The upper-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static <T extends Comparable<T>> int upperBound(T[] sortedArray, T key) {
+        int low = 0;
+        int high = sortedArray.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (sortedArray[mid].compareTo(key) <= 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the run of elements equal to a key in a sorted array, in O(log n).
+     *
+     * @param <T>         The type of elements in the array, which must implement {@code Comparable}.
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return A two-element array {@code {lowerBound, upperBound}}; the run is empty when both
+     *         are equal.
+     */
+    public static <T extends Comparable<T>> int[] equalRange(T[] sortedArray, T key) {
+        return new int[] {lowerBound(sortedArray, key), upperBound(sortedArray, key)};
+    }
+
+    /**
+     * Counts the elements of a sorted array that lie between two keys, in O(log n).
+     *
+     * @param <T>         The type of elements in the array, which must implement {@code Comparable}.
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param lowKey      The smallest value to count (inclusive).
+     * @param highKey     The largest value to count (inclusive).
+     * @return The number of elements {@code e} with {@code lowKey <= e <= highKey}, or 0 if
+     *         {@code lowKey > highKey}.
+     */
+    public static <T extends Comparable<T>> int countInRange(T[] sortedArray, T lowKey, T highKey) {
+        if (lowKey.compareTo(highKey) > 0) {
+            return 0;
+        }
+
+        return upperBound(sortedArray, highKey) - lowerBound(sortedArray, lowKey);
+    }
+
+    /**
+     * Searches for a key in an array sorted by a comparator.
+     *
+     * @param <T>         The type of elements in the array.
+     * @param sortedArray The array to search, sorted in ascending order of the comparator.
+     * @param key         The value to search for.
+     * @param comparator  The comparator the array is sorted by.
+     * @return The index of the first element equal to the key under the comparator, otherwise -1.
+     */
+    public static <T> int search(T[] sortedArray, T key, Comparator<? super T> comparator) {
+        int index = lowerBound(sortedArray, key, comparator);
+        return index < sortedArray.length && comparator.compare(sortedArray[index], key) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first element of an array sorted by a comparator that is not less
+     * than a key.
+     *
+     * @param <T>         The type of elements in the array.
+     * @param sortedArray The array to search, sorted in ascending order of the comparator.
+     * @param key         The value to search for.
+     * @param comparator  The comparator the array is sorted by.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static <T> int lowerBound(T[] sortedArray, T key, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedArray.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (comparator.compare(sortedArray[mid], key) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Searches for a key in a list sorted by a comparator.
+     * <p>
+     * The list should implement {@link RandomAccess}: every probe is a {@link List#get(int)}, which
+     * costs O(n) on a linked list.
+     * </p>
+     *
+     * @param <T>        The type of elements in the list.
+     * @param sortedList The list to search, sorted in ascending order of the comparator.
+     * @param key        The value to search for.
+     * @param comparator The comparator the list is sorted by.
+     * @return The index of the first element equal to the key under the comparator, otherwise -1.
+     */
+    public static <T> int search(List<? extends T> sortedList, T key, Comparator<? super T> comparator) {
+        int index = lowerBound(sortedList, key, comparator);
+        return index < sortedList.size() && comparator.compare(sortedList.get(index), key) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first element of a list sorted by a comparator that is not less
+     * than a key. The list should implement {@link RandomAccess}.
+     *
+     * @param <T>        The type of elements in the list.
+     * @param sortedList The list to search, sorted in ascending order of the comparator.
+     * @param key        The value to search for.
+     * @param comparator The comparator the list is sorted by.
+     * @return The lower-bound index, between 0 and {@code sortedList.size()}.
+     */
+    public static <T> int lowerBound(List<? extends T> sortedList, T key, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedList.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (comparator.compare(sortedList.get(mid), key) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Searches an array of records sorted by an {@code int} key for the first record with a key.
+     * <p>
+     * The key is read from each probed record by the extractor and compared as a primitive, so a
+     * lookup needs neither a probe record nor a parallel key array, and does not allocate.
+     * </p>
+     *
+     * @param <T>          The type of records in the array.
+     * @param sortedArray  The array to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key, otherwise -1.
+     */
+    public static <T> int searchByInt(T[] sortedArray, ToIntFunction<? super T> keyExtractor, int key) {
+        int index = lowerBoundByInt(sortedArray, keyExtractor, key);
+        return index < sortedArray.length && keyExtractor.applyAsInt(sortedArray[index]) == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record of an array sorted by an {@code int} key whose key is
+     * not less than a key.
+     *
+     * @param <T>          The type of records in the array.
+     * @param sortedArray  The array to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static <T> int lowerBoundByInt(T[] sortedArray, ToIntFunction<? super T> keyExtractor, int key) {
+        int base = 0;
+        int length = sortedArray.length;
+
+        if (length == 0) {
+            return 0;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = keyExtractor.applyAsInt(sortedArray[base + half - 1]) < key ? base + half : base;
+            length -= half;
+        }
+
+        return keyExtractor.applyAsInt(sortedArray[base]) < key ? base + 1 : base;
+    }
+
+    /**
+     * Searches a list of records sorted by an {@code int} key for the first record with a key,
+     * without allocating. The list should implement {@link RandomAccess}.
+     *
+     * @param <T>          The type of records in the list.
+     * @param sortedList   The list to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key, otherwise -1.
+     */
+    public static <T> int searchByInt(List<? extends T> sortedList, ToIntFunction<? super T> keyExtractor, int key) {
+        int index = lowerBoundByInt(sortedList, keyExtractor, key);
+        return index < sortedList.size() && keyExtractor.applyAsInt(sortedList.get(index)) == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record of a list sorted by an {@code int} key whose key is
+     * not less than a key. The list should implement {@link RandomAccess}.
+     *
+     * @param <T>          The type of records in the list.
+     * @param sortedList   The list to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The lower-bound index, between 0 and {@code sortedList.size()}.
+     */
+    public static <T> int lowerBoundByInt(List<? extends T> sortedList, ToIntFunction<? super T> keyExtractor,
+                                          int key) {
+        int base = 0;
+        int length = sortedList.size();
+
+        if (length == 0) {
+            return 0;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = keyExtractor.applyAsInt(sortedList.get(base + half - 1)) < key ? base + half : base;
+            length -= half;
+        }
+
+        return keyExtractor.applyAsInt(sortedList.get(base)) < key ? base + 1 : base;
+    }
+
+    /**
+     * Searches an array of records sorted by a {@code long} key for the first record with a key,
+     * without allocating.
+     *
+     * @param <T>          The type of records in the array.
+     * @param sortedArray  The array to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key, otherwise -1.
+     */
+    public static <T> int searchByLong(T[] sortedArray, ToLongFunction<? super T> keyExtractor, long key) {
+        int index = lowerBoundByLong(sortedArray, keyExtractor, key);
+        return index < sortedArray.length && keyExtractor.applyAsLong(sortedArray[index]) == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record of an array sorted by a {@code long} key whose key is
+     * not less than a key.
+     *
+     * @param <T>          The type of records in the array.
+     * @param sortedArray  The array to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static <T> int lowerBoundByLong(T[] sortedArray, ToLongFunction<? super T> keyExtractor, long key) {
+        int base = 0;
+        int length = sortedArray.length;
+
+        if (length == 0) {
+            return 0;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = keyExtractor.applyAsLong(sortedArray[base + half - 1]) < key ? base + half : base;
+            length -= half;
+        }
+
+        return keyExtractor.applyAsLong(sortedArray[base]) < key ? base + 1 : base;
+    }
+
+    /**
+     * Searches a list of records sorted by a {@code long} key for the first record with a key,
+     * without allocating. The list should implement {@link RandomAccess}.
+     *
+     * @param <T>          The type of records in the list.
+     * @param sortedList   The list to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key, otherwise -1.
+     */
+    public static <T> int searchByLong(List<? extends T> sortedList, ToLongFunction<? super T> keyExtractor,
+                                       long key) {
+        int index = lowerBoundByLong(sortedList, keyExtractor, key);
+        return index < sortedList.size() && keyExtractor.applyAsLong(sortedList.get(index)) == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record of a list sorted by a {@code long} key whose key is
+     * not less than a key. The list should implement {@link RandomAccess}.
+     *
+     * @param <T>          The type of records in the list.
+     * @param sortedList   The list to search, sorted in ascending order of the extracted key.
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The lower-bound index, between 0 and {@code sortedList.size()}.
+     */
+    public static <T> int lowerBoundByLong(List<? extends T> sortedList, ToLongFunction<? super T> keyExtractor,
+                                           long key) {
+        int base = 0;
+        int length = sortedList.size();
+
+        if (length == 0) {
+            return 0;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = keyExtractor.applyAsLong(sortedList.get(base + half - 1)) < key ? base + half : base;
+            length -= half;
+        }
+
+        return keyExtractor.applyAsLong(sortedList.get(base)) < key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first element of a sorted {@code int} array that is not less than a
+     * key: the first occurrence of the key if it is present, otherwise its insertion point.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static int lowerBound(int[] sortedArray, int key) {
+        return lowerBoundIndex(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Returns the index of the first element of a range that is not less than a key.
+     *
+     * @param sortedArray The array to search, sorted in ascending order within the range.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int lowerBound(int[] sortedArray, int fromIndex, int toIndex, int key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+        return lowerBoundIndex(sortedArray, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Returns the index of the first element of a sorted {@code int} array that is greater than a
+     * key: one past the last occurrence of the key if it is present.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The upper-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static int upperBound(int[] sortedArray, int key) {
+        return upperBoundIndex(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Returns the index of the first element of a range that is greater than a key.
+     *
+     * @param sortedArray The array to search, sorted in ascending order within the range.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The upper-bound index, between {@code fromIndex} and {@code toIndex}.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int upperBound(int[] sortedArray, int fromIndex, int toIndex, int key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+        return upperBoundIndex(sortedArray, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Returns the run of elements equal to a key in a sorted {@code int} array, in O(log n)
+     * however long the run is.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return A two-element array {@code {lowerBound, upperBound}}; the run is empty when both
+     *         are equal.
+     */
+    public static int[] equalRange(int[] sortedArray, int key) {
+        int low = lowerBoundIndex(sortedArray, 0, sortedArray.length, key);
+        return new int[] {low, upperBoundIndex(sortedArray, low, sortedArray.length, key)};
+    }
+
+    /**
+     * Counts the elements of a sorted {@code int} array that lie between two keys, in O(log n).
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param lowKey      The smallest value to count (inclusive).
+     * @param highKey     The largest value to count (inclusive).
+     * @return The number of elements {@code e} with {@code lowKey <= e <= highKey}, or 0 if
+     *         {@code lowKey > highKey}.
+     */
+    public static int countInRange(int[] sortedArray, int lowKey, int highKey) {
+        if (lowKey > highKey) {
+            return 0;
+        }
+
+        int low = lowerBoundIndex(sortedArray, 0, sortedArray.length, lowKey);
+        return upperBoundIndex(sortedArray, low, sortedArray.length, highKey) - low;
+    }
+
+    /**
+     * Returns the lower bound of a key by galloping from a hint, for cursor-style lookups where
+     * consecutive keys are close together. The search probes 1, 2, 4, ... elements away from
+     * the hint, forwards or backwards, and then bisects the last gap, so it costs O(log d) where
+     * d is the distance between the hint and the result, instead of O(log n).
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param hint        The position to start from, usually the previous result.
+     * @param key         The value to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     * @throws ArrayIndexOutOfBoundsException If the hint is not between 0 and the array length.
+     */
+    public static int gallopLowerBound(int[] sortedArray, int hint, int key) {
+        int n = sortedArray.length;
+
+        if (hint < 0 || hint > n) {
+            throw new ArrayIndexOutOfBoundsException(hint);
+        }
+        if (hint < n && sortedArray[hint] < key) {
+            return gallopIndex(sortedArray, hint + 1, n, key);
+        }
+
+        // the result is at or before the hint: gallop backwards to an element less than the key.
+        int high = hint;
+        int step = 1;
+
+        while (high > 0 && sortedArray[high - 1] >= key) {
+            int next = high > step ? high - step : 0;
+            if (sortedArray[next] < key) {
+                return lowerBoundIndex(sortedArray, next + 1, high - 1, key);
+            }
+
+            high = next;
+            step = step < (1 << 30) ? step << 1 : step;
+        }
+
+        return high;
+    }
+
+    /**
+     * Returns the index of the first element of a sorted {@code long} array that is not less than a
+     * key: the first occurrence of the key if it is present, otherwise its insertion point.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static int lowerBound(long[] sortedArray, long key) {
+        return lowerBoundIndex(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Returns the index of the first element of a range that is not less than a key.
+     *
+     * @param sortedArray The array to search, sorted in ascending order within the range.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int lowerBound(long[] sortedArray, int fromIndex, int toIndex, long key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+        return lowerBoundIndex(sortedArray, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Returns the index of the first element of a sorted {@code long} array that is greater than a
+     * key: one past the last occurrence of the key if it is present.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return The upper-bound index, between 0 and {@code sortedArray.length}.
+     */
+    public static int upperBound(long[] sortedArray, long key) {
+        return upperBoundIndex(sortedArray, 0, sortedArray.length, key);
+    }
+
+    /**
+     * Returns the index of the first element of a range that is greater than a key.
+     *
+     * @param sortedArray The array to search, sorted in ascending order within the range.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The upper-bound index, between {@code fromIndex} and {@code toIndex}.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int upperBound(long[] sortedArray, int fromIndex, int toIndex, long key) {
+        checkRange(sortedArray.length, fromIndex, toIndex);
+        return upperBoundIndex(sortedArray, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Returns the run of elements equal to a key in a sorted {@code long} array, in O(log n)
+     * however long the run is.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param key         The value to search for.
+     * @return A two-element array {@code {lowerBound, upperBound}}; the run is empty when both
+     *         are equal.
+     */
+    public static int[] equalRange(long[] sortedArray, long key) {
+        int low = lowerBoundIndex(sortedArray, 0, sortedArray.length, key);
+        return new int[] {low, upperBoundIndex(sortedArray, low, sortedArray.length, key)};
+    }
+
+    /**
+     * Counts the elements of a sorted {@code long} array that lie between two keys, in O(log n).
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param lowKey      The smallest value to count (inclusive).
+     * @param highKey     The largest value to count (inclusive).
+     * @return The number of elements {@code e} with {@code lowKey <= e <= highKey}, or 0 if
+     *         {@code lowKey > highKey}.
+     */
+    public static int countInRange(long[] sortedArray, long lowKey, long highKey) {
+        if (lowKey > highKey) {
+            return 0;
+        }
+
+        int low = lowerBoundIndex(sortedArray, 0, sortedArray.length, lowKey);
+        return upperBoundIndex(sortedArray, low, sortedArray.length, highKey) - low;
+    }
+
+    /**
+     * Returns the lower bound of a key by galloping from a hint, for cursor-style lookups where
+     * consecutive keys are close together. The search probes 1, 2, 4, ... elements away from
+     * the hint, forwards or backwards, and then bisects the last gap, so it costs O(log d) where
+     * d is the distance between the hint and the result, instead of O(log n).
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param hint        The position to start from, usually the previous result.
+     * @param key         The value to search for.
+     * @return The lower-bound index, between 0 and {@code sortedArray.length}.
+     * @throws ArrayIndexOutOfBoundsException If the hint is not between 0 and the array length.
+     */
+    public static int gallopLowerBound(long[] sortedArray, int hint, long key) {
+        int n = sortedArray.length;
+
+        if (hint < 0 || hint > n) {
+            throw new ArrayIndexOutOfBoundsException(hint);
+        }
+        if (hint < n && sortedArray[hint] < key) {
+            return gallopIndex(sortedArray, hint + 1, n, key);
+        }
+
+        // the result is at or before the hint: gallop backwards to an element less than the key.
+        int high = hint;
+        int step = 1;
+
+        while (high > 0 && sortedArray[high - 1] >= key) {
+            int next = high > step ? high - step : 0;
+            if (sortedArray[next] < key) {
+                return lowerBoundIndex(sortedArray, next + 1, high - 1, key);
+            }
+
+            high = next;
+            step = step < (1 << 30) ? step << 1 : step;
+        }
+
+        return high;
+    }
+
+    /**
+     * Searches a sorted {@code int} array for a whole batch of keys.
+     * <p>
+     * {@code results[i]} receives the index of the first occurrence of {@code keys[i]}, or -1,
+     * exactly as {@link #search(int[], int)} would return. The batch is searched in the cheapest
+     * way for its shape:
+     * </p>
+     * <ul>
+     *     <li>Sorted keys are answered by a single merge-like pass: each key gallops forward from
+     *     the position of the previous one, so a batch of m keys costs O(m log(n / m)) and walks
+     *     the array in one direction only.</li>
+     *     <li>Unsorted keys are searched {@value #INTERLEAVE} at a time with interleaved
+     *     branchless loops. The searches are independent, so the CPU overlaps their cache misses
+     *     instead of waiting for each one in turn.</li>
+     *     <li>Batches larger than {@value #PARALLEL_BATCH} keys are split across the common
+     *     {@link ForkJoinPool}.</li>
+     * </ul>
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param keys        The values to search for.
+     * @param results     The array receiving one result per key.
+     * @throws IllegalArgumentException If {@code results} is shorter than {@code keys}.
+     */
+    public static void searchAll(int[] sortedArray, int[] keys, int[] results) {
+        checkResults(keys.length, results.length);
+
+        BatchSlice slice = isSorted(keys)
+                ? (fromKey, toKey) -> searchSortedKeys(sortedArray, keys, results, fromKey, toKey)
+                : (fromKey, toKey) -> searchInterleaved(sortedArray, keys, results, fromKey, toKey);
+
+        searchBatch(slice, keys.length);
+    }
+
+    /**
+     * Searches a sorted {@code long} array for a whole batch of keys, with the strategies of
+     * {@link #searchAll(int[], int[], int[])}.
+     *
+     * @param sortedArray The array to search, sorted in ascending order.
+     * @param keys        The values to search for.
+     * @param results     The array receiving one result per key.
+     * @throws IllegalArgumentException If {@code results} is shorter than {@code keys}.
+     */
+    public static void searchAll(long[] sortedArray, long[] keys, int[] results) {
+        checkResults(keys.length, results.length);
+
+        BatchSlice slice = isSorted(keys)
+                ? (fromKey, toKey) -> searchSortedKeys(sortedArray, keys, results, fromKey, toKey)
+                : (fromKey, toKey) -> searchInterleaved(sortedArray, keys, results, fromKey, toKey);
+
+        searchBatch(slice, keys.length);
+    }
+
     /**
      * Performs a recursive binary search on a sorted array to find the index of the specified key.
      *
@@ -91,4 +904,409 @@ public class BinarySearch {
 
         return -1;
     }
+
+    /**
+     * Returns the index of the first element of a range that is not less than the key.
+     * <p>
+     * The loop keeps a base index and a remaining length instead of low/high bounds. Every step
+     * halves the length and moves the base with a single comparison whose result only selects
+     * between two values, which the JIT compiles to a conditional move: the loop has no
+     * data-dependent branch to mispredict and always runs ceil(log2 n) times.
+     * </p>
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int lowerBoundIndex(int[] sortedArray, int fromIndex, int toIndex, int key) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+
+        if (length == 0) {
+            return fromIndex;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = sortedArray[base + half - 1] < key ? base + half : base;
+            length -= half;
+        }
+
+        return sortedArray[base] < key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first element of a range that is not less than the key, using the
+     * branchless loop of {@link #lowerBoundIndex(int[], int, int, int)}.
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int lowerBoundIndex(long[] sortedArray, int fromIndex, int toIndex, long key) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+
+        if (length == 0) {
+            return fromIndex;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = sortedArray[base + half - 1] < key ? base + half : base;
+            length -= half;
+        }
+
+        return sortedArray[base] < key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first element of a range that is not less than the key in the
+     * order of {@link Double#compare}, using the loop of
+     * {@link #lowerBoundIndex(int[], int, int, int)}.
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int lowerBoundIndex(double[] sortedArray, int fromIndex, int toIndex, double key) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+
+        if (length == 0) {
+            return fromIndex;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = Double.compare(sortedArray[base + half - 1], key) < 0 ? base + half : base;
+            length -= half;
+        }
+
+        return Double.compare(sortedArray[base], key) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Runs a batch search sequentially, or across the common fork-join pool when the batch is
+     * large and more than one core is available.
+     *
+     * @param slice The sequential search of a slice of keys.
+     * @param keys  The number of keys.
+     */
+    private static void searchBatch(BatchSlice slice, int keys) {
+        if (keys <= PARALLEL_BATCH || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            slice.search(0, keys);
+        }
+        else {
+            ForkJoinPool.commonPool().invoke(new BatchTask(slice, 0, keys));
+        }
+    }
+
+    /**
+     * Answers a slice of sorted keys in one forward pass, galloping from the lower bound of each
+     * key to the next.
+     *
+     * @param sortedArray The array to search.
+     * @param keys        The sorted keys.
+     * @param results     The array receiving the results.
+     * @param fromKey     The index of the first key of the slice (inclusive).
+     * @param toKey       The index after the last key of the slice (exclusive).
+     */
+    private static void searchSortedKeys(int[] sortedArray, int[] keys, int[] results, int fromKey, int toKey) {
+        int n = sortedArray.length;
+        int cursor = 0;
+
+        for (int i = fromKey; i < toKey; i++) {
+            int key = keys[i];
+            cursor = gallopIndex(sortedArray, cursor, n, key);
+            results[i] = cursor < n && sortedArray[cursor] == key ? cursor : -1;
+        }
+    }
+
+    /**
+     * Answers a slice of sorted keys in one forward pass, galloping from the lower bound of each
+     * key to the next.
+     *
+     * @param sortedArray The array to search.
+     * @param keys        The sorted keys.
+     * @param results     The array receiving the results.
+     * @param fromKey     The index of the first key of the slice (inclusive).
+     * @param toKey       The index after the last key of the slice (exclusive).
+     */
+    private static void searchSortedKeys(long[] sortedArray, long[] keys, int[] results, int fromKey, int toKey) {
+        int n = sortedArray.length;
+        int cursor = 0;
+
+        for (int i = fromKey; i < toKey; i++) {
+            long key = keys[i];
+            cursor = gallopIndex(sortedArray, cursor, n, key);
+            results[i] = cursor < n && sortedArray[cursor] == key ? cursor : -1;
+        }
+    }
+
+    /**
+     * Answers a slice of unsorted keys several at a time. All searches over the same array take
+     * the same number of steps, so the loops run in lockstep and their loads are in flight
+     * together.
+     *
+     * @param sortedArray The array to search.
+     * @param keys        The keys.
+     * @param results     The array receiving the results.
+     * @param fromKey     The index of the first key of the slice (inclusive).
+     * @param toKey       The index after the last key of the slice (exclusive).
+     */
+    private static void searchInterleaved(int[] sortedArray, int[] keys, int[] results, int fromKey, int toKey) {
+        int n = sortedArray.length;
+        int i = fromKey;
+
+        for (; i + INTERLEAVE <= toKey && n > 0; i += INTERLEAVE) {
+            int k0 = keys[i];
+            int k1 = keys[i + 1];
+            int k2 = keys[i + 2];
+            int k3 = keys[i + 3];
+            int b0 = 0;
+            int b1 = 0;
+            int b2 = 0;
+            int b3 = 0;
+
+            for (int length = n; length > 1; ) {
+                int half = length >>> 1;
+                b0 = sortedArray[b0 + half - 1] < k0 ? b0 + half : b0;
+                b1 = sortedArray[b1 + half - 1] < k1 ? b1 + half : b1;
+                b2 = sortedArray[b2 + half - 1] < k2 ? b2 + half : b2;
+                b3 = sortedArray[b3 + half - 1] < k3 ? b3 + half : b3;
+                length -= half;
+            }
+
+            results[i] = sortedArray[b0] == k0 ? b0 : -1;
+            results[i + 1] = sortedArray[b1] == k1 ? b1 : -1;
+            results[i + 2] = sortedArray[b2] == k2 ? b2 : -1;
+            results[i + 3] = sortedArray[b3] == k3 ? b3 : -1;
+        }
+
+        for (; i < toKey; i++) {
+            results[i] = search(sortedArray, 0, n, keys[i]);
+        }
+    }
+
+    /**
+     * Answers a slice of unsorted keys several at a time, as
+     * {@link #searchInterleaved(int[], int[], int[], int, int)} does.
+     *
+     * @param sortedArray The array to search.
+     * @param keys        The keys.
+     * @param results     The array receiving the results.
+     * @param fromKey     The index of the first key of the slice (inclusive).
+     * @param toKey       The index after the last key of the slice (exclusive).
+     */
+    private static void searchInterleaved(long[] sortedArray, long[] keys, int[] results, int fromKey, int toKey) {
+        int n = sortedArray.length;
+        int i = fromKey;
+
+        for (; i + INTERLEAVE <= toKey && n > 0; i += INTERLEAVE) {
+            long k0 = keys[i];
+            long k1 = keys[i + 1];
+            long k2 = keys[i + 2];
+            long k3 = keys[i + 3];
+            int b0 = 0;
+            int b1 = 0;
+            int b2 = 0;
+            int b3 = 0;
+
+            for (int length = n; length > 1; ) {
+                int half = length >>> 1;
+                b0 = sortedArray[b0 + half - 1] < k0 ? b0 + half : b0;
+                b1 = sortedArray[b1 + half - 1] < k1 ? b1 + half : b1;
+                b2 = sortedArray[b2 + half - 1] < k2 ? b2 + half : b2;
+                b3 = sortedArray[b3 + half - 1] < k3 ? b3 + half : b3;
+                length -= half;
+            }
+
+            results[i] = sortedArray[b0] == k0 ? b0 : -1;
+            results[i + 1] = sortedArray[b1] == k1 ? b1 : -1;
+            results[i + 2] = sortedArray[b2] == k2 ? b2 : -1;
+            results[i + 3] = sortedArray[b3] == k3 ? b3 : -1;
+        }
+
+        for (; i < toKey; i++) {
+            results[i] = search(sortedArray, 0, n, keys[i]);
+        }
+    }
+
+    /**
+     * Returns the lower bound of a key at or after a start position, probing 1, 2, 4, ...
+     * elements ahead before finishing with a branchless search over the last gap. The cost is
+     * O(log d), where d is the distance from the start to the result.
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The position to start from; every element before it is less than the key.
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int gallopIndex(int[] sortedArray, int fromIndex, int toIndex, int key) {
+        int low = fromIndex;
+        int high = fromIndex;
+        int step = 1;
+
+        while (high < toIndex && sortedArray[high] < key) {
+            low = high + 1;
+            high = toIndex - high > step ? high + step : toIndex;
+            step = step < (1 << 30) ? step << 1 : step;
+        }
+
+        return lowerBoundIndex(sortedArray, low, Math.min(high, toIndex), key);
+    }
+
+    /**
+     * Returns the lower bound of a key at or after a start position, as
+     * {@link #gallopIndex(int[], int, int, int)} does.
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The position to start from; every element before it is less than the key.
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The lower-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int gallopIndex(long[] sortedArray, int fromIndex, int toIndex, long key) {
+        int low = fromIndex;
+        int high = fromIndex;
+        int step = 1;
+
+        while (high < toIndex && sortedArray[high] < key) {
+            low = high + 1;
+            high = toIndex - high > step ? high + step : toIndex;
+            step = step < (1 << 30) ? step << 1 : step;
+        }
+
+        return lowerBoundIndex(sortedArray, low, Math.min(high, toIndex), key);
+    }
+
+    /**
+     * Checks whether keys are in ascending order.
+     *
+     * @param keys The keys to check.
+     * @return {@code true} if the keys are sorted; {@code false} otherwise.
+     */
+    private static boolean isSorted(int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether keys are in ascending order.
+     *
+     * @param keys The keys to check.
+     * @return {@code true} if the keys are sorted; {@code false} otherwise.
+     */
+    private static boolean isSorted(long[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that a result array can hold one result per key.
+     *
+     * @param keys    The number of keys.
+     * @param results The length of the result array.
+     * @throws IllegalArgumentException If the result array is too short.
+     */
+    static void checkResults(int keys, int results) {
+        if (results < keys) {
+            throw new IllegalArgumentException(
+                    String.format("Results needs to hold at least %d elements: %d", keys, results));
+        }
+    }
+
+    /**
+     * Returns the index of the first element of a range that is greater than the key, using the
+     * branchless loop of {@link #lowerBoundIndex(int[], int, int, int)}.
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The upper-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int upperBoundIndex(int[] sortedArray, int fromIndex, int toIndex, int key) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+
+        if (length == 0) {
+            return fromIndex;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = sortedArray[base + half - 1] <= key ? base + half : base;
+            length -= half;
+        }
+
+        return sortedArray[base] <= key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first element of a range that is greater than the key, using the
+     * branchless loop of {@link #lowerBoundIndex(int[], int, int, int)}.
+     *
+     * @param sortedArray The array to search.
+     * @param fromIndex   The index of the first element of the range (inclusive).
+     * @param toIndex     The index after the last element of the range (exclusive).
+     * @param key         The value to search for.
+     * @return The upper-bound index, between {@code fromIndex} and {@code toIndex}.
+     */
+    static int upperBoundIndex(long[] sortedArray, int fromIndex, int toIndex, long key) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+
+        if (length == 0) {
+            return fromIndex;
+        }
+
+        while (length > 1) {
+            int half = length >>> 1;
+            base = sortedArray[base + half - 1] <= key ? base + half : base;
+            length -= half;
+        }
+
+        return sortedArray[base] <= key ? base + 1 : base;
+    }
+
+    /**
+     * Checks that a range lies within an array, as {@link java.util.Arrays#binarySearch} does.
+     *
+     * @param length    The length of the array.
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException(
+                    String.format("fromIndex(%d) > toIndex(%d)", fromIndex, toIndex));
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
 }
@@ -0,0 +1,235 @@
+package com.algorithms.searching;
+
+/**
+ * A read-only search index over a sorted primitive array, stored in Eytzinger (BFS) order.
+ * <p>
+ * A binary search over a plain sorted array jumps across the whole array on its first steps, so
+ * once the array outgrows the cache nearly every level costs a cache miss, and the address of the
+ * next probe is only known after the current one has been loaded. The Eytzinger layout stores the
+ * implicit search tree level by level: the root at position 1, the children of position
+ * {@code k} at {@code 2k} and {@code 2k + 1}. The top levels then share a few hot cache lines,
+ * and the sixteen great-great-grandchildren of a node ({@code 16k .. 16k + 15}) are adjacent in
+ * memory. Java has no prefetch instruction, so each step of a lookup issues a plain load of that
+ * block before comparing: the memory system is already fetching the nodes four levels down while
+ * the current comparisons are being done, and the comparison itself only selects the next child,
+ * without a data-dependent branch.
+ * </p>
+ * <p>
+ * The index is built once in O(n) and is immutable. {@link #search(long)} returns the same
+ * result as {@link BinarySearch#search(int[], int)} or {@link BinarySearch#search(long[], long)}
+ * on the original array: the index of the first occurrence of the key, or -1.
+ * </p>
+ */
+public final class EytzingerIndex {
+    private static final int INT_LOOKAHEAD_SHIFT = 4;
+    private static final int LONG_LOOKAHEAD_SHIFT = 3;
+    private static final int MAX_SIZE = (1 << 30) - 1;
+
+    private final int[] intKeys;
+    private final long[] longKeys;
+    private final int[] ranks;
+    private final int size;
+
+    /**
+     * Always zero. A lookup masks the sum of the values it read ahead with this field and folds
+     * the result into its return value: the JIT does not treat instance fields as constants, so
+     * it cannot prove that term is zero and drop the look-ahead loads, and nothing is written.
+     */
+    private final int lookAheadMask;
+
+    /**
+     * Constructs an index from already laid-out keys.
+     *
+     * @param intKeys  The Eytzinger-ordered {@code int} keys, or null.
+     * @param longKeys The Eytzinger-ordered {@code long} keys, or null.
+     * @param ranks    The index in the sorted array of every Eytzinger position.
+     * @param size     The number of keys.
+     */
+    private EytzingerIndex(int[] intKeys, long[] longKeys, int[] ranks, int size) {
+        this.intKeys = intKeys;
+        this.longKeys = longKeys;
+        this.ranks = ranks;
+        this.size = size;
+        this.lookAheadMask = 0;
+    }
+
+    /**
+     * Builds an index over a sorted {@code int} array. The array is copied and can be reused.
+     *
+     * @param sortedArray The array to index, sorted in ascending order.
+     * @return The index.
+     * @throws NullPointerException If the array is null.
+     * @throws IllegalArgumentException If the array has 2<sup>30</sup> elements or more.
+     */
+    public static EytzingerIndex of(int[] sortedArray) {
+        int n = checkSize(sortedArray.length);
+        int[] keys = new int[n + 1];
+        int[] ranks = new int[n + 1];
+
+        layout(n, 0, 1, ranks);
+        for (int k = 1; k <= n; k++) {
+            keys[k] = sortedArray[ranks[k]];
+        }
+
+        return new EytzingerIndex(keys, null, ranks, n);
+    }
+
+    /**
+     * Builds an index over a sorted {@code long} array. The array is copied and can be reused.
+     *
+     * @param sortedArray The array to index, sorted in ascending order.
+     * @return The index.
+     * @throws NullPointerException If the array is null.
+     * @throws IllegalArgumentException If the array has 2<sup>30</sup> elements or more.
+     */
+    public static EytzingerIndex of(long[] sortedArray) {
+        int n = checkSize(sortedArray.length);
+        long[] keys = new long[n + 1];
+        int[] ranks = new int[n + 1];
+
+        layout(n, 0, 1, ranks);
+        for (int k = 1; k <= n; k++) {
+            keys[k] = sortedArray[ranks[k]];
+        }
+
+        return new EytzingerIndex(null, keys, ranks, n);
+    }
+
+    /**
+     * Searches for a key.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key in the original sorted array, or -1.
+     */
+    public int search(int key) {
+        if (intKeys == null) {
+            return searchLong(key);
+        }
+
+        return searchInt(key);
+    }
+
+    /**
+     * Searches for a key. On an index built from an {@code int} array, keys outside the
+     * {@code int} range are simply absent.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key in the original sorted array, or -1.
+     */
+    public int search(long key) {
+        if (intKeys == null) {
+            return searchLong(key);
+        }
+        if (key < Integer.MIN_VALUE || key > Integer.MAX_VALUE) {
+            return -1;
+        }
+
+        return searchInt((int) key);
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Descends the {@code int} tree to the lower bound of a key and checks it for equality.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key in the sorted array, or -1.
+     */
+    private int searchInt(int key) {
+        int[] keys = intKeys;
+        int n = size;
+        int limit = n >>> INT_LOOKAHEAD_SHIFT;
+        int touched = 0;
+        int k = 1;
+
+        while (k <= n) {
+            touched += keys[Math.min(k, limit) << INT_LOOKAHEAD_SHIFT];
+            k = (k << 1) + (keys[k] < key ? 1 : 0);
+        }
+
+        k = lowerBoundPosition(k);
+        int rank = k != 0 && keys[k] == key ? ranks[k] : -1;
+
+        return rank | (touched & lookAheadMask);
+    }
+
+    /**
+     * Descends the {@code long} tree to the lower bound of a key and checks it for equality.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key in the sorted array, or -1.
+     */
+    private int searchLong(long key) {
+        long[] keys = longKeys;
+        int n = size;
+        int limit = n >>> LONG_LOOKAHEAD_SHIFT;
+        long touched = 0;
+        int k = 1;
+
+        while (k <= n) {
+            touched += keys[Math.min(k, limit) << LONG_LOOKAHEAD_SHIFT];
+            k = (k << 1) + (keys[k] < key ? 1 : 0);
+        }
+
+        k = lowerBoundPosition(k);
+        int rank = k != 0 && keys[k] == key ? ranks[k] : -1;
+
+        return rank | ((int) touched & lookAheadMask);
+    }
+
+    /**
+     * Recovers the lower bound from the position where a descent fell off the tree: the last
+     * node where the descent went left, found by dropping the trailing right turns and that left
+     * turn from the path bits.
+     *
+     * @param k The position past the leaves reached by the descent.
+     * @return The Eytzinger position of the lower bound, or 0 if every key is smaller.
+     */
+    private static int lowerBoundPosition(int k) {
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Checks that positions up to {@code 2n + 1} fit in an {@code int}.
+     *
+     * @param n The number of keys.
+     * @return The number of keys.
+     * @throws IllegalArgumentException If there are too many keys.
+     */
+    private static int checkSize(int n) {
+        if (n > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Array length needs to be at most %d: %d", MAX_SIZE, n));
+        }
+
+        return n;
+    }
+
+    /**
+     * Assigns sorted-array indexes to the Eytzinger positions of a subtree by walking it in
+     * order. The recursion is only as deep as the tree, about log2(n) levels.
+     *
+     * @param n     The number of keys.
+     * @param next  The next sorted-array index to assign.
+     * @param k     The root position of the subtree.
+     * @param ranks The array receiving the sorted-array index of every position.
+     * @return The next sorted-array index to assign after the subtree.
+     */
+    private static int layout(int n, int next, int k, int[] ranks) {
+        if (k > n) {
+            return next;
+        }
+
+        next = layout(n, next, 2 * k, ranks);
+        ranks[k] = next++;
+
+        return layout(n, next, 2 * k + 1, ranks);
+    }
+}
@@ -0,0 +1,339 @@
+package com.algorithms.searching;
+
+import java.util.Arrays;
+
+/**
+ * A learned index over a sorted primitive array: a piecewise-linear model of the key-to-position
+ * function with a bounded error, in the spirit of the PGM-index.
+ * <p>
+ * Sorted keys that grow smoothly (timestamps, sequential ids) map to their positions almost
+ * linearly. The index splits that mapping into segments: each one is a line from its first key
+ * that predicts the position of every key of the segment within {@code maxError} positions. A
+ * lookup finds the segment of the key with a binary search over the segment start keys, which is
+ * a tiny array, evaluates the line, and finishes with a branchless search of the
+ * {@code 2 * maxError + 2} positions around the prediction. On smooth data this replaces most of
+ * the log2(n) scattered probes of a binary search with a couple of cache lines.
+ * </p>
+ * <p>
+ * The segments are built in one O(n) pass with the shrinking-cone algorithm: a segment keeps the
+ * range of slopes that still fit all its keys within the error bound, and a new segment starts
+ * when a key falls outside that cone. The model costs 20 bytes per segment; the keys themselves
+ * are not copied, so the indexed array must not be modified afterwards. If floating-point
+ * rounding or a long run of duplicates ever puts the answer outside the searched window, the
+ * lookup detects it and gallops from the prediction, so results are always exact.
+ * </p>
+ */
+public final class LearnedIndex {
+    private static final int DEFAULT_MAX_ERROR = 32;
+
+    private final int[] intKeys;
+    private final long[] longKeys;
+    private final int size;
+    private final int maxError;
+    private final long[] segmentKeys;
+    private final int[] segmentPositions;
+    private final double[] segmentSlopes;
+
+    /**
+     * Accumulates the segments during the build.
+     */
+    private static final class Builder {
+        private final int maxError;
+        private long[] keys = new long[16];
+        private int[] positions = new int[16];
+        private double[] slopes = new double[16];
+        private int count;
+
+        private long startKey;
+        private int startPosition;
+        private double minSlope;
+        private double maxSlope;
+
+        /**
+         * Constructs a builder.
+         *
+         * @param maxError The maximum distance between a predicted and an actual position.
+         */
+        Builder(int maxError) {
+            this.maxError = maxError;
+        }
+
+        /**
+         * Adds the first occurrence of a distinct key after the first one, in ascending order.
+         *
+         * @param key      The key.
+         * @param position The index of its first occurrence.
+         */
+        void add(long key, int position) {
+            double dx = (double) key - (double) startKey;
+            double low = (position - maxError - startPosition) / dx;
+            double high = (position + maxError - startPosition) / dx;
+
+            if (low > maxSlope || high < minSlope) {
+                finish();
+                start(key, position);
+            }
+            else {
+                minSlope = Math.max(minSlope, low);
+                maxSlope = Math.min(maxSlope, high);
+            }
+        }
+
+        /**
+         * Opens a new segment at a point.
+         *
+         * @param key      The first key of the segment.
+         * @param position The position of that key.
+         */
+        void start(long key, int position) {
+            startKey = key;
+            startPosition = position;
+            minSlope = 0;
+            maxSlope = Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Closes the current segment with the slope in the middle of its cone.
+         */
+        void finish() {
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                positions = Arrays.copyOf(positions, count * 2);
+                slopes = Arrays.copyOf(slopes, count * 2);
+            }
+
+            keys[count] = startKey;
+            positions[count] = startPosition;
+            slopes[count] = maxSlope == Double.POSITIVE_INFINITY ? minSlope : (minSlope + maxSlope) / 2;
+            count++;
+        }
+    }
+
+    /**
+     * Constructs an index from a built model.
+     *
+     * @param intKeys  The indexed {@code int} keys, or null.
+     * @param longKeys The indexed {@code long} keys, or null.
+     * @param size     The number of keys.
+     * @param maxError The error bound of the model.
+     * @param builder  The builder holding the segments.
+     */
+    private LearnedIndex(int[] intKeys, long[] longKeys, int size, int maxError, Builder builder) {
+        this.intKeys = intKeys;
+        this.longKeys = longKeys;
+        this.size = size;
+        this.maxError = maxError;
+        this.segmentKeys = Arrays.copyOf(builder.keys, builder.count);
+        this.segmentPositions = Arrays.copyOf(builder.positions, builder.count);
+        this.segmentSlopes = Arrays.copyOf(builder.slopes, builder.count);
+    }
+
+    /**
+     * Builds an index over a sorted {@code int} array with the default error bound.
+     *
+     * @param sortedArray The array to index, sorted in ascending order. It is not copied.
+     * @return The index.
+     */
+    public static LearnedIndex of(int[] sortedArray) {
+        return of(sortedArray, DEFAULT_MAX_ERROR);
+    }
+
+    /**
+     * Builds an index over a sorted {@code int} array.
+     *
+     * @param sortedArray The array to index, sorted in ascending order. It is not copied.
+     * @param maxError    The maximum distance between a predicted and an actual position.
+     * @return The index.
+     * @throws IllegalArgumentException If the error bound is negative.
+     */
+    public static LearnedIndex of(int[] sortedArray, int maxError) {
+        Builder builder = new Builder(checkMaxError(maxError));
+
+        for (int i = 0; i < sortedArray.length; i++) {
+            if (i == 0) {
+                builder.start(sortedArray[0], 0);
+            }
+            else if (sortedArray[i] != sortedArray[i - 1]) {
+                builder.add(sortedArray[i], i);
+            }
+        }
+        if (sortedArray.length > 0) {
+            builder.finish();
+        }
+
+        return new LearnedIndex(sortedArray, null, sortedArray.length, maxError, builder);
+    }
+
+    /**
+     * Builds an index over a sorted {@code long} array with the default error bound.
+     *
+     * @param sortedArray The array to index, sorted in ascending order. It is not copied.
+     * @return The index.
+     */
+    public static LearnedIndex of(long[] sortedArray) {
+        return of(sortedArray, DEFAULT_MAX_ERROR);
+    }
+
+    /**
+     * Builds an index over a sorted {@code long} array.
+     *
+     * @param sortedArray The array to index, sorted in ascending order. It is not copied.
+     * @param maxError    The maximum distance between a predicted and an actual position.
+     * @return The index.
+     * @throws IllegalArgumentException If the error bound is negative.
+     */
+    public static LearnedIndex of(long[] sortedArray, int maxError) {
+        Builder builder = new Builder(checkMaxError(maxError));
+
+        for (int i = 0; i < sortedArray.length; i++) {
+            if (i == 0) {
+                builder.start(sortedArray[0], 0);
+            }
+            else if (sortedArray[i] != sortedArray[i - 1]) {
+                builder.add(sortedArray[i], i);
+            }
+        }
+        if (sortedArray.length > 0) {
+            builder.finish();
+        }
+
+        return new LearnedIndex(null, sortedArray, sortedArray.length, maxError, builder);
+    }
+
+    /**
+     * Searches for a key.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key, or -1, as
+     *         {@link BinarySearch#search(long[], long)} would return.
+     */
+    public int search(long key) {
+        int index = lowerBound(key);
+
+        if (index == size) {
+            return -1;
+        }
+
+        return (intKeys != null ? intKeys[index] : longKeys[index]) == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first key that is not less than a key.
+     *
+     * @param key The value to search for.
+     * @return The lower-bound index, between 0 and {@link #size()}.
+     */
+    public int lowerBound(long key) {
+        if (size == 0 || key < segmentKeys[0]) {
+            return 0;
+        }
+
+        int segment = BinarySearch.upperBoundIndex(segmentKeys, 0, segmentKeys.length, key) - 1;
+        double predicted = segmentPositions[segment]
+                + segmentSlopes[segment] * ((double) key - (double) segmentKeys[segment]);
+        int position = (int) Math.max(0, Math.min(size, predicted));
+
+        int low = Math.max(0, position - maxError);
+        int high = (int) Math.min(size, (long) position + maxError + 2);
+
+        if (intKeys != null) {
+            return lowerBoundInt(key, position, low, high);
+        }
+
+        return lowerBoundLong(key, position, low, high);
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of linear segments of the model.
+     *
+     * @return The segment count.
+     */
+    public int segments() {
+        return segmentKeys.length;
+    }
+
+    /**
+     * Returns the error bound the model was built with.
+     *
+     * @return The maximum distance between a predicted and an actual position.
+     */
+    public int maxError() {
+        return maxError;
+    }
+
+    /**
+     * Finishes an {@code int} lookup in the window around the prediction.
+     *
+     * @param key      The value to search for.
+     * @param position The predicted position.
+     * @param low      The start of the window (inclusive).
+     * @param high     The end of the window (exclusive).
+     * @return The lower-bound index.
+     */
+    private int lowerBoundInt(long key, int position, int low, int high) {
+        if (key > Integer.MAX_VALUE) {
+            return size;
+        }
+
+        int[] keys = intKeys;
+        int k = (int) key;
+        int index = BinarySearch.lowerBoundIndex(keys, low, high, k);
+
+        boolean belowWindow = index == low && low > 0 && keys[low - 1] >= k;
+        boolean aboveWindow = index == high && high < size && keys[high] < k;
+
+        if (belowWindow || aboveWindow) {
+            return BinarySearch.gallopLowerBound(keys, position, k);
+        }
+
+        return index;
+    }
+
+    /**
+     * Finishes a {@code long} lookup in the window around the prediction.
+     *
+     * @param key      The value to search for.
+     * @param position The predicted position.
+     * @param low      The start of the window (inclusive).
+     * @param high     The end of the window (exclusive).
+     * @return The lower-bound index.
+     */
+    private int lowerBoundLong(long key, int position, int low, int high) {
+        long[] keys = longKeys;
+        int index = BinarySearch.lowerBoundIndex(keys, low, high, key);
+
+        boolean belowWindow = index == low && low > 0 && keys[low - 1] >= key;
+        boolean aboveWindow = index == high && high < size && keys[high] < key;
+
+        if (belowWindow || aboveWindow) {
+            return BinarySearch.gallopLowerBound(keys, position, key);
+        }
+
+        return index;
+    }
+
+    /**
+     * Checks the error bound of a model.
+     *
+     * @param maxError The error bound.
+     * @return The error bound.
+     * @throws IllegalArgumentException If the error bound is negative.
+     */
+    private static int checkMaxError(int maxError) {
+        if (maxError < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Max error needs to be at least 0: %d", maxError));
+        }
+
+        return maxError;
+    }
+}
@@ -1,5 +1,22 @@
 package com.algorithms.searching;
 
+import java.util.List;
+import java.util.Arrays;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Predicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Provides a static method for performing a linear search on an array.
  * <p>
@@ -11,11 +28,202 @@ package com.algorithms.searching;
  * in the array. This makes it inefficient for large datasets compared to other
  * search algorithms.
  * </p>
+ * <p>
+ * The {@code int}, {@code long} and {@code byte} overloads compare primitives directly. The
+ * {@code byte} ones compare eight bytes at once, packed in a {@code long}.
+ * </p>
  *
  * @param <T> The type of elements in the array, which must implement the
  *            {@code Comparable} interface to support comparison.
  */
 public class LinearSearch {
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final VarHandle BYTES_AS_LONG =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int PARALLEL_CHUNK = 1 << 16;
+    private static final int CANCEL_CHECK = 1 << 12;
+
+    /**
+     * Finds the first match in one chunk of an array.
+     */
+    private interface RangeScan {
+
+        /**
+         * Scans a chunk.
+         *
+         * @param fromIndex The index of the first element of the chunk (inclusive).
+         * @param toIndex   The index after the last element of the chunk (exclusive).
+         * @return The index of the first match in the chunk, or -1.
+         */
+        int indexOf(int fromIndex, int toIndex);
+    }
+
+    /**
+     * Collects every match in one chunk of an array.
+     */
+    private interface RangeCollect {
+
+        /**
+         * Scans a chunk.
+         *
+         * @param fromIndex The index of the first element of the chunk (inclusive).
+         * @param toIndex   The index after the last element of the chunk (exclusive).
+         * @param matches   The buffer receiving the indices of the matches, in ascending order.
+         */
+        void collect(int fromIndex, int toIndex, IndexBuffer matches);
+    }
+
+    /**
+     * A growable buffer of {@code int} indices.
+     */
+    private static final class IndexBuffer {
+        private int[] indices = new int[16];
+        private int size;
+
+        /**
+         * Appends an index.
+         *
+         * @param index The index to append.
+         */
+        void add(int index) {
+            if (size == indices.length) {
+                grow(size + 1);
+            }
+
+            indices[size++] = index;
+        }
+
+        /**
+         * Appends all the indices of another buffer.
+         *
+         * @param other The buffer to append.
+         */
+        void addAll(IndexBuffer other) {
+            if (size + other.size > indices.length) {
+                grow(size + other.size);
+            }
+
+            System.arraycopy(other.indices, 0, indices, size, other.size);
+            size += other.size;
+        }
+
+        /**
+         * Returns the indices as an array of the exact size.
+         *
+         * @return The indices.
+         */
+        int[] toArray() {
+            return Arrays.copyOf(indices, size);
+        }
+
+        /**
+         * Grows the buffer to at least a given capacity, at least doubling it.
+         *
+         * @param capacity The capacity needed.
+         */
+        private void grow(int capacity) {
+            indices = Arrays.copyOf(indices, (int) Math.max(capacity, Math.min(Integer.MAX_VALUE - 8, 2L * size)));
+        }
+    }
+
+    /**
+     * Splits a first-match scan in halves, left half first. A shared best index lets every chunk
+     * to the right of a match already found be skipped or abandoned.
+     */
+    private static final class FirstMatchTask extends RecursiveAction {
+        private final RangeScan scan;
+        private final int fromIndex;
+        private final int toIndex;
+        private final AtomicInteger best;
+
+        /**
+         * Constructs a task over a range of the array.
+         *
+         * @param scan      The sequential scan of a chunk.
+         * @param fromIndex The index of the first element (inclusive).
+         * @param toIndex   The index after the last element (exclusive).
+         * @param best      The smallest match index found so far, or {@code Integer.MAX_VALUE}.
+         */
+        FirstMatchTask(RangeScan scan, int fromIndex, int toIndex, AtomicInteger best) {
+            this.scan = scan;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.best = best;
+        }
+
+        /**
+         * Scans the range in small steps, stopping as soon as a match is known to its left, or
+         * forks its two halves.
+         */
+        @Override
+        protected void compute() {
+            if (fromIndex >= best.get()) {
+                return;
+            }
+
+            if (toIndex - fromIndex <= PARALLEL_CHUNK) {
+                for (int start = fromIndex; start < toIndex && start < best.get(); start += CANCEL_CHECK) {
+                    int index = scan.indexOf(start, Math.min(toIndex, start + CANCEL_CHECK));
+
+                    if (index >= 0) {
+                        best.accumulateAndGet(index, Math::min);
+                        return;
+                    }
+                }
+                return;
+            }
+
+            int mid = (fromIndex + toIndex) >>> 1;
+            invokeAll(new FirstMatchTask(scan, fromIndex, mid, best), new FirstMatchTask(scan, mid, toIndex, best));
+        }
+    }
+
+    /**
+     * Splits a find-all scan in halves and concatenates the matches of the halves in order.
+     */
+    private static final class FindAllTask extends RecursiveTask<IndexBuffer> {
+        private final RangeCollect collect;
+        private final int fromIndex;
+        private final int toIndex;
+
+        /**
+         * Constructs a task over a range of the array.
+         *
+         * @param collect   The sequential collection of a chunk.
+         * @param fromIndex The index of the first element (inclusive).
+         * @param toIndex   The index after the last element (exclusive).
+         */
+        FindAllTask(RangeCollect collect, int fromIndex, int toIndex) {
+            this.collect = collect;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        /**
+         * Collects the range directly or forks its two halves.
+         *
+         * @return The indices of the matches in the range, in ascending order.
+         */
+        @Override
+        protected IndexBuffer compute() {
+            if (toIndex - fromIndex <= PARALLEL_CHUNK) {
+                IndexBuffer matches = new IndexBuffer();
+                collect.collect(fromIndex, toIndex, matches);
+                return matches;
+            }
+
+            int mid = (fromIndex + toIndex) >>> 1;
+            FindAllTask right = new FindAllTask(collect, mid, toIndex);
+            right.fork();
+
+            IndexBuffer matches = new FindAllTask(collect, fromIndex, mid).compute();
+            matches.addAll(right.join());
+            return matches;
+        }
+    }
+
     /**
      * Searches for the specified key in the given array.
      *
@@ -25,7 +233,7 @@ public class LinearSearch {
      * @return The index of the key if found; otherwise, returns -1.
      */
     public static <T extends Comparable<T>> int search (T[] array, T key) {
-        for (int i = 0; i < array.length - 1; i++) {
+        for (int i = 0; i < array.length; i++) {
             if (array[i].compareTo(key) == 0) {
                 return i;
             }
@@ -33,4 +241,808 @@ public class LinearSearch {
 
         return -1;
     }
+
+    /**
+     * Searches for the first occurrence of a key in an {@code int} array.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the first occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int search(int[] array, int key) {
+        return indexOf(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches for the first occurrence of a key in a range of an {@code int} array.
+     * <p>
+     * The key is compared as a primitive, without boxing or {@code compareTo} calls, in a counted
+     * loop that the JIT unrolls and strips of bounds checks.
+     * </p>
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @param key       The value to search for.
+     * @return The index of the first occurrence of the key in the range if found; otherwise, -1.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int indexOf(int[] array, int fromIndex, int toIndex, int key) {
+        BinarySearch.checkRange(array.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the last occurrence of a key in an {@code int} array.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the last occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int lastIndexOf(int[] array, int key) {
+        for (int i = array.length - 1; i >= 0; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the occurrences of a key in an {@code int} array, without any data-dependent branch.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to count.
+     * @return The number of elements equal to the key.
+     */
+    public static int countMatches(int[] array, int key) {
+        int count = 0;
+        for (int value : array) {
+            count += value == key ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Searches for the first occurrence of a key in a {@code long} array.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the first occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int search(long[] array, long key) {
+        return indexOf(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches for the first occurrence of a key in a range of a {@code long} array.
+     * <p>
+     * The key is compared as a primitive, without boxing or {@code compareTo} calls, in a counted
+     * loop that the JIT unrolls and strips of bounds checks.
+     * </p>
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @param key       The value to search for.
+     * @return The index of the first occurrence of the key in the range if found; otherwise, -1.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int indexOf(long[] array, int fromIndex, int toIndex, long key) {
+        BinarySearch.checkRange(array.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the last occurrence of a key in a {@code long} array.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the last occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int lastIndexOf(long[] array, long key) {
+        for (int i = array.length - 1; i >= 0; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the occurrences of a key in a {@code long} array, without any data-dependent branch.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to count.
+     * @return The number of elements equal to the key.
+     */
+    public static int countMatches(long[] array, long key) {
+        int count = 0;
+        for (long value : array) {
+            count += value == key ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Searches for the first occurrence of a key in a {@code byte} array.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the first occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int search(byte[] array, byte key) {
+        return indexOf(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches for the first occurrence of a key in a range of a {@code byte} array.
+     * <p>
+     * The range is read eight bytes at a time as a {@code long} and all eight are compared with
+     * a few arithmetic operations (see {@link #matchingBytes(long, long)}), so a block without a
+     * match costs a single branch.
+     * </p>
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @param key       The value to search for.
+     * @return The index of the first occurrence of the key in the range if found; otherwise, -1.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException If the range exceeds the array bounds.
+     */
+    public static int indexOf(byte[] array, int fromIndex, int toIndex, byte key) {
+        BinarySearch.checkRange(array.length, fromIndex, toIndex);
+
+        long pattern = broadcast(key);
+        int i = fromIndex;
+
+        for (; i <= toIndex - Long.BYTES; i += Long.BYTES) {
+            long matches = matchingBytes((long) BYTES_AS_LONG.get(array, i), pattern);
+            if (matches != 0) {
+                return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; i < toIndex; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the last occurrence of a key in a {@code byte} array, eight bytes at a time.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the last occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int lastIndexOf(byte[] array, byte key) {
+        long pattern = broadcast(key);
+        int i = array.length;
+
+        for (; i >= Long.BYTES; i -= Long.BYTES) {
+            long matches = matchingBytes((long) BYTES_AS_LONG.get(array, i - Long.BYTES), pattern);
+            if (matches != 0) {
+                return i - 1 - (Long.numberOfLeadingZeros(matches) >>> 3);
+            }
+        }
+        for (i--; i >= 0; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the occurrences of a key in a {@code byte} array, eight bytes at a time.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to count.
+     * @return The number of elements equal to the key.
+     */
+    public static int countMatches(byte[] array, byte key) {
+        long pattern = broadcast(key);
+        int count = 0;
+        int i = 0;
+
+        for (; i <= array.length - Long.BYTES; i += Long.BYTES) {
+            count += Long.bitCount(matchingBytes((long) BYTES_AS_LONG.get(array, i), pattern));
+        }
+        for (; i < array.length; i++) {
+            count += array[i] == key ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Searches for the first element of an array equal to a key under a comparator.
+     *
+     * @param <T>        The type of elements in the array.
+     * @param array      The array to search (it will not be modified).
+     * @param key        The value to search for in the array.
+     * @param comparator The comparator deciding equality.
+     * @return The index of the first matching element if found; otherwise, returns -1.
+     */
+    public static <T> int search(T[] array, T key, Comparator<? super T> comparator) {
+        for (int i = 0; i < array.length; i++) {
+            if (comparator.compare(array[i], key) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the first element of a list equal to a key under a comparator. A
+     * {@link RandomAccess} list is scanned by index, any other list with its iterator.
+     *
+     * @param <T>        The type of elements in the list.
+     * @param list       The list to search (it will not be modified).
+     * @param key        The value to search for in the list.
+     * @param comparator The comparator deciding equality.
+     * @return The index of the first matching element if found; otherwise, returns -1.
+     */
+    public static <T> int search(List<? extends T> list, T key, Comparator<? super T> comparator) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, n = list.size(); i < n; i++) {
+                if (comparator.compare(list.get(i), key) == 0) {
+                    return i;
+                }
+            }
+        }
+        else {
+            int i = 0;
+            for (T element : list) {
+                if (comparator.compare(element, key) == 0) {
+                    return i;
+                }
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the first record of an array with an {@code int} key. The key is read from
+     * each record by the extractor and compared as a primitive, without allocating.
+     *
+     * @param <T>          The type of records in the array.
+     * @param array        The array to search (it will not be modified).
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key if found; otherwise, returns -1.
+     */
+    public static <T> int searchByInt(T[] array, ToIntFunction<? super T> keyExtractor, int key) {
+        for (int i = 0; i < array.length; i++) {
+            if (keyExtractor.applyAsInt(array[i]) == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the first record of a list with an {@code int} key, without allocating when
+     * the list implements {@link RandomAccess}.
+     *
+     * @param <T>          The type of records in the list.
+     * @param list         The list to search (it will not be modified).
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key if found; otherwise, returns -1.
+     */
+    public static <T> int searchByInt(List<? extends T> list, ToIntFunction<? super T> keyExtractor, int key) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, n = list.size(); i < n; i++) {
+                if (keyExtractor.applyAsInt(list.get(i)) == key) {
+                    return i;
+                }
+            }
+        }
+        else {
+            int i = 0;
+            for (T record : list) {
+                if (keyExtractor.applyAsInt(record) == key) {
+                    return i;
+                }
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the first record of an array with a {@code long} key, without allocating.
+     *
+     * @param <T>          The type of records in the array.
+     * @param array        The array to search (it will not be modified).
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key if found; otherwise, returns -1.
+     */
+    public static <T> int searchByLong(T[] array, ToLongFunction<? super T> keyExtractor, long key) {
+        for (int i = 0; i < array.length; i++) {
+            if (keyExtractor.applyAsLong(array[i]) == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the first record of a list with a {@code long} key, without allocating when
+     * the list implements {@link RandomAccess}.
+     *
+     * @param <T>          The type of records in the list.
+     * @param list         The list to search (it will not be modified).
+     * @param keyExtractor The function reading the key of a record.
+     * @param key          The key to search for.
+     * @return The index of the first record with the key if found; otherwise, returns -1.
+     */
+    public static <T> int searchByLong(List<? extends T> list, ToLongFunction<? super T> keyExtractor, long key) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, n = list.size(); i < n; i++) {
+                if (keyExtractor.applyAsLong(list.get(i)) == key) {
+                    return i;
+                }
+            }
+        }
+        else {
+            int i = 0;
+            for (T record : list) {
+                if (keyExtractor.applyAsLong(record) == key) {
+                    return i;
+                }
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches for the first occurrence of a key in an {@code int} array, scanning chunks of a
+     * large array in parallel.
+     * <p>
+     * Arrays longer than {@value #PARALLEL_CHUNK} elements are split in chunks across the common
+     * {@link ForkJoinPool} when more than one core is available. The chunks share the smallest
+     * match index found so far: a chunk starting to its right is skipped, and a running chunk
+     * checks it every {@value #CANCEL_CHECK} elements and gives up, so the scan stops soon after
+     * the first match while the result is still the first occurrence.
+     * </p>
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the first occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int parallelSearch(int[] array, int key) {
+        return firstMatch((fromIndex, toIndex) -> indexOf(array, fromIndex, toIndex, key), array.length);
+    }
+
+    /**
+     * Searches for the first occurrence of a key in a {@code long} array, scanning chunks of a
+     * large array in parallel as {@link #parallelSearch(int[], int)} does.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The index of the first occurrence of the key if found; otherwise, returns -1.
+     */
+    public static int parallelSearch(long[] array, long key) {
+        return firstMatch((fromIndex, toIndex) -> indexOf(array, fromIndex, toIndex, key), array.length);
+    }
+
+    /**
+     * Searches for the first element of an {@code int} array matching a predicate, scanning
+     * chunks of a large array in parallel. The predicate may be called concurrently.
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param predicate The condition to match.
+     * @return The index of the first matching element if found; otherwise, returns -1.
+     */
+    public static int parallelSearch(int[] array, IntPredicate predicate) {
+        return firstMatch((fromIndex, toIndex) -> indexOf(array, fromIndex, toIndex, predicate), array.length);
+    }
+
+    /**
+     * Searches for the first element of a {@code long} array matching a predicate, scanning
+     * chunks of a large array in parallel. The predicate may be called concurrently.
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param predicate The condition to match.
+     * @return The index of the first matching element if found; otherwise, returns -1.
+     */
+    public static int parallelSearch(long[] array, LongPredicate predicate) {
+        return firstMatch((fromIndex, toIndex) -> indexOf(array, fromIndex, toIndex, predicate), array.length);
+    }
+
+    /**
+     * Searches for the first element of an array matching a predicate, scanning chunks of a
+     * large array in parallel. The predicate may be called concurrently.
+     *
+     * @param <T>       The type of elements in the array.
+     * @param array     The array to search (it will not be modified).
+     * @param predicate The condition to match.
+     * @return The index of the first matching element if found; otherwise, returns -1.
+     */
+    public static <T> int parallelSearch(T[] array, Predicate<? super T> predicate) {
+        return firstMatch((fromIndex, toIndex) -> indexOf(array, fromIndex, toIndex, predicate), array.length);
+    }
+
+    /**
+     * Finds every occurrence of a key in an {@code int} array.
+     * <p>
+     * The indices are collected in primitive buffers, one per chunk, without boxing. Arrays
+     * longer than {@value #PARALLEL_CHUNK} elements are scanned in parallel chunks whose buffers
+     * are concatenated in order.
+     * </p>
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The indices of all occurrences of the key, in ascending order.
+     */
+    public static int[] findAll(int[] array, int key) {
+        return allMatches((fromIndex, toIndex, matches) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (array[i] == key) {
+                    matches.add(i);
+                }
+            }
+        }, array.length);
+    }
+
+    /**
+     * Finds every occurrence of a key in a {@code long} array, in parallel chunks for a large
+     * array.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param key   The value to search for in the array.
+     * @return The indices of all occurrences of the key, in ascending order.
+     */
+    public static int[] findAll(long[] array, long key) {
+        return allMatches((fromIndex, toIndex, matches) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (array[i] == key) {
+                    matches.add(i);
+                }
+            }
+        }, array.length);
+    }
+
+    /**
+     * Finds every element of an {@code int} array matching a predicate, in parallel chunks for a
+     * large array. The predicate may be called concurrently.
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param predicate The condition to match.
+     * @return The indices of all matching elements, in ascending order.
+     */
+    public static int[] findAll(int[] array, IntPredicate predicate) {
+        return allMatches((fromIndex, toIndex, matches) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (predicate.test(array[i])) {
+                    matches.add(i);
+                }
+            }
+        }, array.length);
+    }
+
+    /**
+     * Finds every element of a {@code long} array matching a predicate, in parallel chunks for a
+     * large array. The predicate may be called concurrently.
+     *
+     * @param array     The array to search (it will not be modified).
+     * @param predicate The condition to match.
+     * @return The indices of all matching elements, in ascending order.
+     */
+    public static int[] findAll(long[] array, LongPredicate predicate) {
+        return allMatches((fromIndex, toIndex, matches) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (predicate.test(array[i])) {
+                    matches.add(i);
+                }
+            }
+        }, array.length);
+    }
+
+    /**
+     * Finds every element of an array matching a predicate, in parallel chunks for a large array.
+     * The predicate may be called concurrently.
+     *
+     * @param <T>       The type of elements in the array.
+     * @param array     The array to search (it will not be modified).
+     * @param predicate The condition to match.
+     * @return The indices of all matching elements, in ascending order.
+     */
+    public static <T> int[] findAll(T[] array, Predicate<? super T> predicate) {
+        return allMatches((fromIndex, toIndex, matches) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (predicate.test(array[i])) {
+                    matches.add(i);
+                }
+            }
+        }, array.length);
+    }
+
+    /**
+     * Searches an {@code int} array for a whole batch of keys in a single pass.
+     * <p>
+     * {@code results[i]} receives the index of the first occurrence of {@code keys[i]}, or -1,
+     * exactly as {@link #search(int[], int)} would return. Instead of one scan per key, O(n * m),
+     * the keys are loaded in a primitive hash set (with a Bloom filter in front for thousands of
+     * keys) and the array is scanned once, testing every element against all the keys with a
+     * single lookup, O(n + m). The scan stops as soon as every key has been seen.
+     * </p>
+     *
+     * @param array   The array to search (it will not be modified).
+     * @param keys    The values to search for; duplicates are allowed.
+     * @param results The array receiving one result per key.
+     * @throws IllegalArgumentException If {@code results} is shorter than {@code keys}.
+     */
+    public static void searchAll(int[] array, int[] keys, int[] results) {
+        BinarySearch.checkResults(keys.length, results.length);
+
+        ProbeSet probe = ProbeSet.of(keys);
+        int[] first = new int[probe.size()];
+        int remaining = first.length;
+        Arrays.fill(first, -1);
+
+        for (int i = 0; i < array.length && remaining > 0; i++) {
+            int id = probe.idOf(array[i]);
+            if (id >= 0 && first[id] < 0) {
+                first[id] = i;
+                remaining--;
+            }
+        }
+
+        for (int k = 0; k < keys.length; k++) {
+            results[k] = first[probe.idOf(keys[k])];
+        }
+    }
+
+    /**
+     * Searches a {@code long} array for a whole batch of keys in a single pass, as
+     * {@link #searchAll(int[], int[], int[])} does.
+     *
+     * @param array   The array to search (it will not be modified).
+     * @param keys    The values to search for; duplicates are allowed.
+     * @param results The array receiving one result per key.
+     * @throws IllegalArgumentException If {@code results} is shorter than {@code keys}.
+     */
+    public static void searchAll(long[] array, long[] keys, int[] results) {
+        BinarySearch.checkResults(keys.length, results.length);
+
+        ProbeSet probe = new ProbeSet(keys);
+        int[] first = new int[probe.size()];
+        int remaining = first.length;
+        Arrays.fill(first, -1);
+
+        for (int i = 0; i < array.length && remaining > 0; i++) {
+            int id = probe.idOf(array[i]);
+            if (id >= 0 && first[id] < 0) {
+                first[id] = i;
+                remaining--;
+            }
+        }
+
+        for (int k = 0; k < keys.length; k++) {
+            results[k] = first[probe.idOf(keys[k])];
+        }
+    }
+
+    /**
+     * Finds every occurrence of every key of a batch in an {@code int} array, in a single pass
+     * with the hash set of {@link #searchAll(int[], int[], int[])}.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param keys  The values to search for; duplicates are allowed.
+     * @return One array per key, holding the indices of its occurrences in ascending order.
+     */
+    public static int[][] findAll(int[] array, int[] keys) {
+        ProbeSet probe = ProbeSet.of(keys);
+        IndexBuffer[] matches = new IndexBuffer[probe.size()];
+
+        for (int i = 0; i < array.length; i++) {
+            int id = probe.idOf(array[i]);
+            if (id >= 0) {
+                if (matches[id] == null) {
+                    matches[id] = new IndexBuffer();
+                }
+                matches[id].add(i);
+            }
+        }
+
+        int[][] results = new int[keys.length][];
+        for (int k = 0; k < keys.length; k++) {
+            IndexBuffer buffer = matches[probe.idOf(keys[k])];
+            results[k] = buffer == null ? new int[0] : buffer.toArray();
+        }
+
+        return results;
+    }
+
+    /**
+     * Finds every occurrence of every key of a batch in a {@code long} array, in a single pass
+     * with the hash set of {@link #searchAll(int[], int[], int[])}.
+     *
+     * @param array The array to search (it will not be modified).
+     * @param keys  The values to search for; duplicates are allowed.
+     * @return One array per key, holding the indices of its occurrences in ascending order.
+     */
+    public static int[][] findAll(long[] array, long[] keys) {
+        ProbeSet probe = new ProbeSet(keys);
+        IndexBuffer[] matches = new IndexBuffer[probe.size()];
+
+        for (int i = 0; i < array.length; i++) {
+            int id = probe.idOf(array[i]);
+            if (id >= 0) {
+                if (matches[id] == null) {
+                    matches[id] = new IndexBuffer();
+                }
+                matches[id].add(i);
+            }
+        }
+
+        int[][] results = new int[keys.length][];
+        for (int k = 0; k < keys.length; k++) {
+            IndexBuffer buffer = matches[probe.idOf(keys[k])];
+            results[k] = buffer == null ? new int[0] : buffer.toArray();
+        }
+
+        return results;
+    }
+
+    /**
+     * Runs a first-match scan sequentially, or across the common fork-join pool when the array
+     * is large and more than one core is available.
+     *
+     * @param scan   The sequential scan of a chunk.
+     * @param length The length of the array.
+     * @return The index of the first match, or -1.
+     */
+    private static int firstMatch(RangeScan scan, int length) {
+        if (length <= PARALLEL_CHUNK || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            return scan.indexOf(0, length);
+        }
+
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new FirstMatchTask(scan, 0, length, best));
+
+        return best.get() == Integer.MAX_VALUE ? -1 : best.get();
+    }
+
+    /**
+     * Runs a find-all scan sequentially, or across the common fork-join pool when the array is
+     * large and more than one core is available.
+     *
+     * @param collect The sequential collection of a chunk.
+     * @param length  The length of the array.
+     * @return The indices of all matches, in ascending order.
+     */
+    private static int[] allMatches(RangeCollect collect, int length) {
+        if (length <= PARALLEL_CHUNK || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            IndexBuffer matches = new IndexBuffer();
+            collect.collect(0, length, matches);
+            return matches.toArray();
+        }
+
+        return ForkJoinPool.commonPool().invoke(new FindAllTask(collect, 0, length)).toArray();
+    }
+
+    /**
+     * Scans a range of an {@code int} array for the first element matching a predicate.
+     *
+     * @param array     The array to search.
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @param predicate The condition to match.
+     * @return The index of the first matching element in the range, or -1.
+     */
+    private static int indexOf(int[] array, int fromIndex, int toIndex, IntPredicate predicate) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (predicate.test(array[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Scans a range of a {@code long} array for the first element matching a predicate.
+     *
+     * @param array     The array to search.
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @param predicate The condition to match.
+     * @return The index of the first matching element in the range, or -1.
+     */
+    private static int indexOf(long[] array, int fromIndex, int toIndex, LongPredicate predicate) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (predicate.test(array[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Scans a range of an array for the first element matching a predicate.
+     *
+     * @param <T>       The type of elements in the array.
+     * @param array     The array to search.
+     * @param fromIndex The index of the first element of the range (inclusive).
+     * @param toIndex   The index after the last element of the range (exclusive).
+     * @param predicate The condition to match.
+     * @return The index of the first matching element in the range, or -1.
+     */
+    private static <T> int indexOf(T[] array, int fromIndex, int toIndex, Predicate<? super T> predicate) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (predicate.test(array[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Repeats a byte in every byte of a {@code long}.
+     *
+     * @param key The byte to repeat.
+     * @return The repeated pattern.
+     */
+    private static long broadcast(byte key) {
+        return (key & 0xFFL) * LOW_BITS;
+    }
+
+    /**
+     * Flags the bytes of a word that are equal to the matching byte of a pattern.
+     * <p>
+     * After the XOR the equal bytes are zero. Adding {@code 0x7F} to the low seven bits of a byte
+     * sets its high bit unless they are all zero, and OR-ing the byte itself covers the high bit;
+     * the complement then keeps the high bit exactly of the zero bytes. No carry crosses a byte,
+     * so unlike the shorter {@code (x - 0x01..) & ~x} test there are no false positives, and the
+     * flags can be counted as well as located.
+     * </p>
+     *
+     * @param word    Eight bytes of the array, the first one in the lowest byte.
+     * @param pattern The key repeated in every byte.
+     * @return A word with the high bit set in every matching byte and all other bits clear.
+     */
+    private static long matchingBytes(long word, long pattern) {
+        long x = word ^ pattern;
+        return ~(((x & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | x | LOW_SEVEN_BITS);
+    }
 }
@@ -0,0 +1,316 @@
+package com.algorithms.searching;
+
+import java.nio.file.Path;
+import java.nio.ByteOrder;
+import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary search directly over a file of sorted, fixed-width records, through memory mapping.
+ * <p>
+ * The file is mapped read-only with {@link FileChannel#map}, so opening it costs a system call
+ * instead of loading and deserializing every record, the data lives in the OS page cache (shared
+ * with every other process mapping the same file) instead of the heap, and a lookup only touches
+ * the log2(n) pages it probes. Keys are read in place at a fixed offset of each record; nothing
+ * is copied.
+ * </p>
+ * <p>
+ * A single mapping is limited to 2 GiB, so larger files are mapped as several chunks, each
+ * holding a whole number of records. Records are identified by their {@code long} index in the
+ * file. Keys of 4 or 8 bytes can be searched as signed integers with {@link #search(long)}; keys
+ * of any width can be searched as unsigned byte strings with {@link #search(byte[])}. The records
+ * must be sorted by the chosen interpretation of the key.
+ * </p>
+ * <p>
+ * Java offers no way to unmap a buffer explicitly: {@link #close()} closes the file and drops
+ * the mappings, which are released once they are garbage collected.
+ * </p>
+ */
+public final class MappedSortedFile implements AutoCloseable {
+    private static final long MAX_CHUNK_BYTES = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+    private final int recordSize;
+    private final int keyOffset;
+    private final int keyLength;
+    private final long recordsPerChunk;
+    private final long size;
+
+    /**
+     * Maps a file of records whose key is stored in big-endian order.
+     *
+     * @param file       The file to map.
+     * @param recordSize The size of every record, in bytes.
+     * @param keyOffset  The offset of the key within a record, in bytes.
+     * @param keyLength  The length of the key, in bytes.
+     * @throws IOException If the file cannot be opened or mapped.
+     * @throws IllegalArgumentException If the layout does not fit the record or the file size.
+     */
+    public MappedSortedFile(Path file, int recordSize, int keyOffset, int keyLength) throws IOException {
+        this(file, recordSize, keyOffset, keyLength, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Maps a file of records.
+     *
+     * @param file       The file to map.
+     * @param recordSize The size of every record, in bytes.
+     * @param keyOffset  The offset of the key within a record, in bytes.
+     * @param keyLength  The length of the key, in bytes.
+     * @param order      The byte order of integer keys.
+     * @throws IOException If the file cannot be opened or mapped.
+     * @throws IllegalArgumentException If the layout does not fit the record or the file size.
+     */
+    public MappedSortedFile(Path file, int recordSize, int keyOffset, int keyLength, ByteOrder order)
+            throws IOException {
+        this(file, recordSize, keyOffset, keyLength, order, MAX_CHUNK_BYTES);
+    }
+
+    /**
+     * Maps a file of records in chunks of at most a given size.
+     *
+     * @param file          The file to map.
+     * @param recordSize    The size of every record, in bytes.
+     * @param keyOffset     The offset of the key within a record, in bytes.
+     * @param keyLength     The length of the key, in bytes.
+     * @param order         The byte order of integer keys.
+     * @param maxChunkBytes The maximum size of one mapping.
+     * @throws IOException If the file cannot be opened or mapped.
+     * @throws IllegalArgumentException If the layout does not fit the record or the file size.
+     */
+    MappedSortedFile(Path file, int recordSize, int keyOffset, int keyLength, ByteOrder order,
+                     long maxChunkBytes) throws IOException {
+        if (recordSize < 1 || keyLength < 1 || keyOffset < 0 || keyOffset + keyLength > recordSize
+                || recordSize > maxChunkBytes) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid record layout: recordSize=%d, keyOffset=%d, keyLength=%d",
+                    recordSize, keyOffset, keyLength));
+        }
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            long bytes = channel.size();
+            if (bytes % recordSize != 0) {
+                throw new IllegalArgumentException(String.format(
+                        "File size %d is not a multiple of the record size %d", bytes, recordSize));
+            }
+
+            this.recordSize = recordSize;
+            this.keyOffset = keyOffset;
+            this.keyLength = keyLength;
+            this.size = bytes / recordSize;
+            this.recordsPerChunk = maxChunkBytes / recordSize;
+
+            int chunkCount = (int) ((size + recordsPerChunk - 1) / recordsPerChunk);
+            this.chunks = new ByteBuffer[chunkCount];
+
+            for (int i = 0; i < chunkCount; i++) {
+                long start = i * recordsPerChunk * recordSize;
+                long length = Math.min(recordsPerChunk * recordSize, bytes - start);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length).order(order);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of records in the file.
+     *
+     * @return The record count.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Searches for a record by a 4- or 8-byte signed integer key.
+     *
+     * @param key The value to search for.
+     * @return The index of the first record with that key, or -1.
+     * @throws IllegalStateException If the key is neither 4 nor 8 bytes long.
+     */
+    public long search(long key) {
+        long index = lowerBound(key);
+        return index < size && readKey(index) == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record whose 4- or 8-byte signed integer key is not less
+     * than a key.
+     *
+     * @param key The value to search for.
+     * @return The lower-bound index, between 0 and {@link #size()}.
+     * @throws IllegalStateException If the key is neither 4 nor 8 bytes long.
+     */
+    public long lowerBound(long key) {
+        checkIntegerKey();
+
+        long base = 0;
+        long length = size;
+
+        if (length == 0) {
+            return 0;
+        }
+
+        while (length > 1) {
+            long half = length >>> 1;
+            base = readKey(base + half - 1) < key ? base + half : base;
+            length -= half;
+        }
+
+        return readKey(base) < key ? base + 1 : base;
+    }
+
+    /**
+     * Searches for a record by a key compared as an unsigned byte string.
+     *
+     * @param key The value to search for, exactly {@code keyLength} bytes long.
+     * @return The index of the first record with that key, or -1.
+     * @throws IllegalArgumentException If the key does not have the configured length.
+     */
+    public long search(byte[] key) {
+        long index = lowerBound(key);
+        return index < size && compareKey(index, key) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record whose key, compared as an unsigned byte string, is not
+     * less than a key.
+     *
+     * @param key The value to search for, exactly {@code keyLength} bytes long.
+     * @return The lower-bound index, between 0 and {@link #size()}.
+     * @throws IllegalArgumentException If the key does not have the configured length.
+     */
+    public long lowerBound(byte[] key) {
+        if (key.length != keyLength) {
+            throw new IllegalArgumentException(
+                    String.format("Key needs to be %d bytes long: %d", keyLength, key.length));
+        }
+
+        long low = 0;
+        long high = size;
+
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+
+            if (compareKey(mid, key) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Reads the integer key of a record in place.
+     *
+     * @param index The index of the record.
+     * @return The key, sign-extended for 4-byte keys.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     * @throws IllegalStateException If the key is neither 4 nor 8 bytes long.
+     */
+    public long keyAt(long index) {
+        checkIntegerKey();
+        checkIndexBounds(index);
+
+        return readKey(index);
+    }
+
+    /**
+     * Returns a read-only view of a record, backed by the mapping, without copying it.
+     *
+     * @param index The index of the record.
+     * @return A buffer positioned at the start of the record, with the record size as limit.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public ByteBuffer record(long index) {
+        checkIndexBounds(index);
+
+        ByteBuffer chunk = chunks[(int) (index / recordsPerChunk)];
+        int position = (int) (index % recordsPerChunk) * recordSize;
+
+        ByteBuffer view = chunk.duplicate();
+        view.limit(position + recordSize).position(position);
+
+        return view.slice().order(chunk.order());
+    }
+
+    /**
+     * Closes the file. The mappings are released when they are garbage collected.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads the integer key of a record without any checks.
+     *
+     * @param index The index of the record.
+     * @return The key, sign-extended for 4-byte keys.
+     */
+    private long readKey(long index) {
+        ByteBuffer chunk = chunks[(int) (index / recordsPerChunk)];
+        int position = (int) (index % recordsPerChunk) * recordSize + keyOffset;
+
+        return keyLength == Long.BYTES ? chunk.getLong(position) : chunk.getInt(position);
+    }
+
+    /**
+     * Compares the key of a record with a key, byte by byte as unsigned values.
+     *
+     * @param index The index of the record.
+     * @param key   The key to compare with.
+     * @return A negative number, zero or a positive number as the record key is less than, equal
+     *         to or greater than the key.
+     */
+    private int compareKey(long index, byte[] key) {
+        ByteBuffer chunk = chunks[(int) (index / recordsPerChunk)];
+        int position = (int) (index % recordsPerChunk) * recordSize + keyOffset;
+
+        for (int i = 0; i < keyLength; i++) {
+            int cmp = Byte.compareUnsigned(chunk.get(position + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks that the key can be read as a signed integer.
+     *
+     * @throws IllegalStateException If the key is neither 4 nor 8 bytes long.
+     */
+    private void checkIntegerKey() {
+        if (keyLength != Integer.BYTES && keyLength != Long.BYTES) {
+            throw new IllegalStateException(
+                    String.format("Keys of %d bytes can only be searched as byte strings", keyLength));
+        }
+    }
+
+    /**
+     * Checks if the provided record index is within the valid range.
+     *
+     * @param index The index to check.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    private void checkIndexBounds(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+    }
+}
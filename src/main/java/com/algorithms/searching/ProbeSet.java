@@ -0,0 +1,152 @@
+package com.algorithms.searching;
+
+import java.util.Arrays;
+
+/**
+ * A compact, read-only set of primitive keys that maps every distinct key to a dense id, used to
+ * test each element of a scan against many keys at once.
+ * <p>
+ * The keys live in an open-addressing table with linear probing, stored as parallel primitive
+ * arrays at most half full, so a lookup hashes once and usually reads a single slot, without
+ * boxing. When the set is too large for the table to stay in cache, a Bloom filter of about
+ * eight bits per key is checked first: most elements of a scan match no key, and the filter
+ * rejects them with two bit tests on an array eight times smaller than the table.
+ * </p>
+ */
+final class ProbeSet {
+    private static final int BLOOM_THRESHOLD = 1 << 12;
+    private static final int BLOOM_BITS_PER_KEY = 8;
+
+    private final long[] tableKeys;
+    private final int[] tableIds;
+    private final int tableMask;
+    private final long[] bloom;
+    private final int bloomMask;
+    private final int size;
+
+    /**
+     * Builds a set from keys, which may contain duplicates.
+     *
+     * @param keys The keys.
+     * @throws IllegalArgumentException If there are too many keys for a table.
+     */
+    ProbeSet(long[] keys) {
+        if (keys.length > 1 << 29) {
+            throw new IllegalArgumentException(String.format("Too many keys: %d", keys.length));
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length) * 2 - 1) << 1;
+        this.tableKeys = new long[capacity];
+        this.tableIds = new int[capacity];
+        this.tableMask = capacity - 1;
+        Arrays.fill(tableIds, -1);
+
+        int distinct = 0;
+        for (long key : keys) {
+            int slot = slotOf(key);
+            if (tableIds[slot] < 0) {
+                tableKeys[slot] = key;
+                tableIds[slot] = distinct++;
+            }
+        }
+        this.size = distinct;
+
+        if (distinct >= BLOOM_THRESHOLD) {
+            int bits = Integer.highestOneBit((int) Math.min(1 << 30, (long) distinct * BLOOM_BITS_PER_KEY) - 1) << 1;
+            this.bloom = new long[bits >>> 6];
+            this.bloomMask = bits - 1;
+
+            for (int slot = 0; slot < capacity; slot++) {
+                if (tableIds[slot] >= 0) {
+                    long hash = hash(tableKeys[slot]);
+                    int first = (int) hash & bloomMask;
+                    int second = (int) (hash >>> 32) & bloomMask;
+                    bloom[first >>> 6] |= 1L << first;
+                    bloom[second >>> 6] |= 1L << second;
+                }
+            }
+        }
+        else {
+            this.bloom = null;
+            this.bloomMask = 0;
+        }
+    }
+
+    /**
+     * Builds a set from {@code int} keys, which may contain duplicates.
+     *
+     * @param keys The keys.
+     * @return The set.
+     */
+    static ProbeSet of(int[] keys) {
+        long[] widened = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            widened[i] = keys[i];
+        }
+
+        return new ProbeSet(widened);
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return The size of the set; ids range from 0 to {@code size() - 1}.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Looks a key up.
+     *
+     * @param key The key.
+     * @return The dense id of the key, or -1 if it is not in the set.
+     */
+    int idOf(long key) {
+        if (bloom != null) {
+            long hash = hash(key);
+            int first = (int) hash & bloomMask;
+            int second = (int) (hash >>> 32) & bloomMask;
+
+            if ((bloom[first >>> 6] & (1L << first)) == 0 || (bloom[second >>> 6] & (1L << second)) == 0) {
+                return -1;
+            }
+        }
+
+        return tableIds[slotOf(key)];
+    }
+
+    /**
+     * Finds the slot holding a key, or the empty slot where it would go.
+     *
+     * @param key The key.
+     * @return The slot.
+     */
+    private int slotOf(long key) {
+        int slot = (int) (hash(key) >>> 16) & tableMask;
+
+        while (tableIds[slot] >= 0 && tableKeys[slot] != key) {
+            slot = (slot + 1) & tableMask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Mixes the bits of a key (the finalizer of MurmurHash3), so that sequential or patterned keys
+     * spread evenly over the table and the filter.
+     *
+     * @param key The key.
+     * @return The hash.
+     */
+    private static long hash(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+}
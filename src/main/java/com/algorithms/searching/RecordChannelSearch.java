@@ -0,0 +1,273 @@
+package com.algorithms.searching;
+
+import java.nio.ByteOrder;
+import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.io.EOFException;
+import java.util.function.Predicate;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Linear search over a stream of fixed-width records read from a channel, for data sets larger
+ * than the heap or arriving from a socket or a pipe.
+ * <p>
+ * The records are read into a single direct buffer, allocated once and reused for the whole
+ * stream: nothing is materialized, the heap footprint does not depend on the size of the stream,
+ * and the channel can fill the buffer without an intermediate copy. Every whole record received
+ * by a read is checked before the channel is read again, so a match is reported as soon as it
+ * has arrived, and a search stops reading at the first match. Keys are compared in place in the
+ * buffer.
+ * </p>
+ * <p>
+ * A search is bound to one channel and resumes where the previous one stopped: the records
+ * after a match stay buffered, so calling {@code search} again finds the next match. Matches are
+ * reported by their index in the stream, counted from the first record read, and
+ * {@link #position()} tells how many records have been consumed. {@link #reset} rebinds the
+ * buffer to another channel.
+ * </p>
+ * <p>
+ * Keys of 4 or 8 bytes can be searched as signed integers with {@link #search(long)}; keys of
+ * any width can be searched as byte strings with {@link #search(byte[])}. An instance is not
+ * thread-safe.
+ * </p>
+ */
+public final class RecordChannelSearch {
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 16;
+
+    private final ByteBuffer buffer;
+    private final ByteBuffer view;
+    private final int recordSize;
+    private final int keyOffset;
+    private final int keyLength;
+
+    private ReadableByteChannel channel;
+    private long position;
+
+    /**
+     * Constructs a search over a channel of records whose key is stored in big-endian order,
+     * buffering about 64 KiB.
+     *
+     * @param channel    The channel to read.
+     * @param recordSize The size of every record, in bytes.
+     * @param keyOffset  The offset of the key within a record, in bytes.
+     * @param keyLength  The length of the key, in bytes.
+     * @throws NullPointerException If the channel is null.
+     * @throws IllegalArgumentException If the key does not fit the record.
+     */
+    public RecordChannelSearch(ReadableByteChannel channel, int recordSize, int keyOffset, int keyLength) {
+        this(channel, recordSize, keyOffset, keyLength, ByteOrder.BIG_ENDIAN, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Constructs a search over a channel of records.
+     *
+     * @param channel    The channel to read.
+     * @param recordSize The size of every record, in bytes.
+     * @param keyOffset  The offset of the key within a record, in bytes.
+     * @param keyLength  The length of the key, in bytes.
+     * @param order      The byte order of integer keys.
+     * @param chunkBytes The size of the reusable buffer, rounded down to whole records (at least
+     *                   one).
+     * @throws NullPointerException If the channel is null.
+     * @throws IllegalArgumentException If the key does not fit the record or the chunk is not
+     *                                  positive.
+     */
+    public RecordChannelSearch(ReadableByteChannel channel, int recordSize, int keyOffset, int keyLength,
+                               ByteOrder order, int chunkBytes) {
+        if (recordSize < 1 || keyLength < 1 || keyOffset < 0 || keyOffset + keyLength > recordSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid record layout: recordSize=%d, keyOffset=%d, keyLength=%d",
+                    recordSize, keyOffset, keyLength));
+        }
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException(String.format("Chunk size needs to be at least 1: %d", chunkBytes));
+        }
+
+        int records = Math.max(1, chunkBytes / recordSize);
+        this.buffer = ByteBuffer.allocateDirect(records * recordSize).order(order);
+        this.view = buffer.asReadOnlyBuffer().order(order);
+        this.recordSize = recordSize;
+        this.keyOffset = keyOffset;
+        this.keyLength = keyLength;
+
+        reset(channel);
+    }
+
+    /**
+     * Rebinds the search to another channel, discarding any buffered records and restarting the
+     * record count. The buffer is reused.
+     *
+     * @param channel The channel to read.
+     * @throws NullPointerException If the channel is null.
+     */
+    public void reset(ReadableByteChannel channel) {
+        if (channel == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.channel = channel;
+        this.position = 0;
+        buffer.clear().limit(0);
+    }
+
+    /**
+     * Returns the number of records consumed so far: those checked by previous searches,
+     * including their matches.
+     *
+     * @return The index in the stream of the next record to check.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Searches the following records for the first one with a 4- or 8-byte signed integer key.
+     *
+     * @param key The value to search for.
+     * @return The index of the matching record in the stream; -1 if the stream ended; -2 if the
+     *         channel is non-blocking and has no more data for now, in which case a later call
+     *         resumes the search.
+     * @throws IOException If reading fails, or the stream ends in the middle of a record.
+     * @throws IllegalStateException If the key is neither 4 nor 8 bytes long.
+     */
+    public long search(long key) throws IOException {
+        if (keyLength != Integer.BYTES && keyLength != Long.BYTES) {
+            throw new IllegalStateException(
+                    String.format("Keys of %d bytes can only be searched as byte strings", keyLength));
+        }
+
+        while (true) {
+            while (buffer.remaining() >= recordSize) {
+                int record = buffer.position();
+                int offset = record + keyOffset;
+                long found = keyLength == Long.BYTES ? buffer.getLong(offset) : buffer.getInt(offset);
+
+                buffer.position(record + recordSize);
+                if (found == key) {
+                    return position++;
+                }
+                position++;
+            }
+
+            long status = fill();
+            if (status < 0) {
+                return status;
+            }
+        }
+    }
+
+    /**
+     * Searches the following records for the first one whose key equals a byte string.
+     *
+     * @param key The value to search for, exactly {@code keyLength} bytes long.
+     * @return The index of the matching record in the stream; -1 if the stream ended; -2 if the
+     *         channel is non-blocking and has no more data for now, in which case a later call
+     *         resumes the search.
+     * @throws IOException If reading fails, or the stream ends in the middle of a record.
+     * @throws IllegalArgumentException If the key does not have the configured length.
+     */
+    public long search(byte[] key) throws IOException {
+        if (key.length != keyLength) {
+            throw new IllegalArgumentException(
+                    String.format("Key needs to be %d bytes long: %d", keyLength, key.length));
+        }
+
+        while (true) {
+            while (buffer.remaining() >= recordSize) {
+                int record = buffer.position();
+
+                buffer.position(record + recordSize);
+                if (keyEquals(record + keyOffset, key)) {
+                    return position++;
+                }
+                position++;
+            }
+
+            long status = fill();
+            if (status < 0) {
+                return status;
+            }
+        }
+    }
+
+    /**
+     * Searches the following records for the first one matching a predicate.
+     * <p>
+     * The predicate receives a read-only view of the reusable buffer whose position and limit
+     * frame the record, so testing a record does not allocate. The view is only valid during the
+     * call and must not be kept.
+     * </p>
+     *
+     * @param predicate The condition to match.
+     * @return The index of the matching record in the stream; -1 if the stream ended; -2 if the
+     *         channel is non-blocking and has no more data for now, in which case a later call
+     *         resumes the search.
+     * @throws IOException If reading fails, or the stream ends in the middle of a record.
+     */
+    public long search(Predicate<? super ByteBuffer> predicate) throws IOException {
+        while (true) {
+            while (buffer.remaining() >= recordSize) {
+                int record = buffer.position();
+
+                buffer.position(record + recordSize);
+                view.limit(record + recordSize).position(record);
+                if (predicate.test(view)) {
+                    return position++;
+                }
+                position++;
+            }
+
+            long status = fill();
+            if (status < 0) {
+                return status;
+            }
+        }
+    }
+
+    /**
+     * Moves a trailing partial record to the front of the buffer and reads once from the
+     * channel, so that the records received are checked before the channel is read again.
+     *
+     * @return 0 if bytes were read; -1 at the end of the stream; -2 if a non-blocking channel
+     *         had no data.
+     * @throws IOException If reading fails, or the stream ends in the middle of a record.
+     */
+    private long fill() throws IOException {
+        buffer.compact();
+
+        int read;
+        try {
+            read = channel.read(buffer);
+        }
+        finally {
+            buffer.flip();
+        }
+
+        if (read < 0) {
+            if (buffer.hasRemaining()) {
+                throw new EOFException(String.format(
+                        "Stream ended inside a record: %d trailing bytes", buffer.remaining()));
+            }
+            return -1;
+        }
+
+        return read == 0 ? -2 : 0;
+    }
+
+    /**
+     * Compares the key of a record in the buffer with a byte string.
+     *
+     * @param offset The position of the key in the buffer.
+     * @param key    The key to compare with.
+     * @return {@code true} if every byte is equal; {@code false} otherwise.
+     */
+    private boolean keyEquals(int offset, byte[] key) {
+        for (int i = 0; i < keyLength; i++) {
+            if (buffer.get(offset + i) != key[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,284 @@
+package com.algorithms.searching;
+
+/**
+ * A read-only search index over a sorted primitive array, laid out as an implicit static B+-tree
+ * (S+-tree).
+ * <p>
+ * The keys are grouped in nodes of {@code B} keys that fill one 64-byte cache line: 16
+ * {@code int}s or 8 {@code long}s. The leaf level is the sorted array itself, padded to whole
+ * nodes, and is followed by the internal levels up to the root. Every internal node has
+ * {@code B + 1} children, stored next to each other in the level below, with the children of node
+ * {@code k} at {@code k * (B + 1) .. k * (B + 1) + B}, so there are no child pointers. The key in
+ * slot {@code j} of an internal node is the smallest key of its child {@code j + 1}.
+ * </p>
+ * <p>
+ * A lookup visits one node per level and the tree is only log<sub>B+1</sub>(n) levels deep:
+ * about 6 cache misses for 10 million {@code int}s, instead of more than 20 for a binary search.
+ * Since the leaves hold the keys in sorted order, the slot where the descent ends is the answer:
+ * no rank has to be looked up afterwards.
+ * </p>
+ * <p>
+ * Inside a node the rank of the key is computed by counting the node keys that are smaller,
+ * without any branch: the loop has a fixed trip count and independent comparisons, which the
+ * JIT can unroll and, where supported, vectorize. The index is built once in O(n) and is
+ * immutable; {@link #search(long)} returns the same result as
+ * {@link BinarySearch#search(int[], int)} or {@link BinarySearch#search(long[], long)} on the
+ * original array.
+ * </p>
+ */
+public final class StaticBTree {
+    private static final int INT_NODE_KEYS = 16;
+    private static final int LONG_NODE_KEYS = 8;
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final int[] intKeys;
+    private final long[] longKeys;
+    private final int[] levelOffsets;
+    private final int size;
+
+    /**
+     * Constructs an index from already laid-out levels.
+     *
+     * @param intKeys      The {@code int} keys of all levels, leaves first, or null.
+     * @param longKeys     The {@code long} keys of all levels, leaves first, or null.
+     * @param levelOffsets The position of the first key of every level, leaves first.
+     * @param size         The number of keys.
+     */
+    private StaticBTree(int[] intKeys, long[] longKeys, int[] levelOffsets, int size) {
+        this.intKeys = intKeys;
+        this.longKeys = longKeys;
+        this.levelOffsets = levelOffsets;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index over a sorted {@code int} array. The array is copied and can be reused.
+     *
+     * @param sortedArray The array to index, sorted in ascending order.
+     * @return The index.
+     * @throws NullPointerException If the array is null.
+     * @throws IllegalArgumentException If the tree would not fit in an array.
+     */
+    public static StaticBTree of(int[] sortedArray) {
+        int n = sortedArray.length;
+        int[] offsets = levelOffsets(n, INT_NODE_KEYS);
+        int[] keys = new int[offsets[offsets.length - 1]];
+
+        System.arraycopy(sortedArray, 0, keys, 0, n);
+        for (int slot = n; slot < keys.length; slot++) {
+            keys[slot] = Integer.MAX_VALUE;
+        }
+
+        for (int level = 1; level < offsets.length - 1; level++) {
+            for (int i = offsets[level]; i < offsets[level + 1]; i++) {
+                int leaf = firstLeafRight(i - offsets[level], level, INT_NODE_KEYS);
+                keys[i] = leaf < n ? keys[leaf] : Integer.MAX_VALUE;
+            }
+        }
+
+        return new StaticBTree(keys, null, offsets, n);
+    }
+
+    /**
+     * Builds an index over a sorted {@code long} array. The array is copied and can be reused.
+     *
+     * @param sortedArray The array to index, sorted in ascending order.
+     * @return The index.
+     * @throws NullPointerException If the array is null.
+     * @throws IllegalArgumentException If the tree would not fit in an array.
+     */
+    public static StaticBTree of(long[] sortedArray) {
+        int n = sortedArray.length;
+        int[] offsets = levelOffsets(n, LONG_NODE_KEYS);
+        long[] keys = new long[offsets[offsets.length - 1]];
+
+        System.arraycopy(sortedArray, 0, keys, 0, n);
+        for (int slot = n; slot < keys.length; slot++) {
+            keys[slot] = Long.MAX_VALUE;
+        }
+
+        for (int level = 1; level < offsets.length - 1; level++) {
+            for (int i = offsets[level]; i < offsets[level + 1]; i++) {
+                int leaf = firstLeafRight(i - offsets[level], level, LONG_NODE_KEYS);
+                keys[i] = leaf < n ? keys[leaf] : Long.MAX_VALUE;
+            }
+        }
+
+        return new StaticBTree(null, keys, offsets, n);
+    }
+
+    /**
+     * Searches for a key.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key in the original sorted array, or -1.
+     */
+    public int search(int key) {
+        return search((long) key);
+    }
+
+    /**
+     * Searches for a key. On an index built from an {@code int} array, keys outside the
+     * {@code int} range are simply absent.
+     *
+     * @param key The value to search for.
+     * @return The index of the first occurrence of the key in the original sorted array, or -1.
+     */
+    public int search(long key) {
+        int position = lowerBound(key);
+
+        if (position == size) {
+            return -1;
+        }
+
+        long found = intKeys != null ? intKeys[position] : longKeys[position];
+        return found == key ? position : -1;
+    }
+
+    /**
+     * Returns the index of the first key that is not less than a key.
+     *
+     * @param key The value to search for.
+     * @return The lower-bound index in the original sorted array, between 0 and {@link #size()}.
+     */
+    public int lowerBound(long key) {
+        if (intKeys != null) {
+            if (key > Integer.MAX_VALUE) {
+                return size;
+            }
+
+            return Math.min(lowerBoundInt((int) Math.max(key, Integer.MIN_VALUE)), size);
+        }
+
+        return Math.min(lowerBoundLong(key), size);
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Descends the {@code int} tree to the leaf slot of the lower bound of a key.
+     *
+     * @param key The value to search for.
+     * @return The leaf slot of the first key not less than the key, which may lie in the padding.
+     */
+    private int lowerBoundInt(int key) {
+        int[] keys = intKeys;
+        int[] offsets = levelOffsets;
+        int k = 0;
+
+        for (int level = offsets.length - 2; level > 0; level--) {
+            int base = offsets[level] + k;
+            int rank = 0;
+
+            for (int j = 0; j < INT_NODE_KEYS; j++) {
+                rank += keys[base + j] < key ? 1 : 0;
+            }
+
+            k = k * (INT_NODE_KEYS + 1) + rank * INT_NODE_KEYS;
+        }
+
+        int rank = 0;
+        for (int j = 0; j < INT_NODE_KEYS; j++) {
+            rank += keys[k + j] < key ? 1 : 0;
+        }
+
+        return k + rank;
+    }
+
+    /**
+     * Descends the {@code long} tree to the leaf slot of the lower bound of a key.
+     *
+     * @param key The value to search for.
+     * @return The leaf slot of the first key not less than the key, which may lie in the padding.
+     */
+    private int lowerBoundLong(long key) {
+        long[] keys = longKeys;
+        int[] offsets = levelOffsets;
+        int k = 0;
+
+        for (int level = offsets.length - 2; level > 0; level--) {
+            int base = offsets[level] + k;
+            int rank = 0;
+
+            for (int j = 0; j < LONG_NODE_KEYS; j++) {
+                rank += keys[base + j] < key ? 1 : 0;
+            }
+
+            k = k * (LONG_NODE_KEYS + 1) + rank * LONG_NODE_KEYS;
+        }
+
+        int rank = 0;
+        for (int j = 0; j < LONG_NODE_KEYS; j++) {
+            rank += keys[k + j] < key ? 1 : 0;
+        }
+
+        return k + rank;
+    }
+
+    /**
+     * Finds the leaf holding the smallest key of the subtree to the right of an internal key: the
+     * descent goes to the child after the key, then always to the leftmost child.
+     *
+     * @param slot     The position of the key within its level.
+     * @param level    The level of the key, 1 for the level right above the leaves.
+     * @param nodeKeys The number of keys per node.
+     * @return The leaf slot of the smallest key of the subtree.
+     */
+    private static int firstLeafRight(int slot, int level, int nodeKeys) {
+        long node = (long) (slot / nodeKeys) * (nodeKeys + 1) + slot % nodeKeys + 1;
+
+        for (int i = 1; i < level; i++) {
+            node *= nodeKeys + 1;
+        }
+
+        return (int) Math.min(node * nodeKeys, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Computes where every level starts in the key array: the leaves, padded to whole nodes, come
+     * first, then each level of internal nodes up to a single root. The last entry is the total
+     * length.
+     *
+     * @param n        The number of keys.
+     * @param nodeKeys The number of keys per node.
+     * @return The offset of every level, followed by the total length.
+     * @throws IllegalArgumentException If the tree would not fit in an array.
+     */
+    private static int[] levelOffsets(int n, int nodeKeys) {
+        int levels = 1;
+        long total = 0;
+        long keys = n;
+
+        while (true) {
+            long nodes = Math.max(1, (keys + nodeKeys - 1) / nodeKeys);
+            total += nodes * nodeKeys;
+            if (nodes == 1) {
+                break;
+            }
+            keys = (nodes + nodeKeys) / (nodeKeys + 1) * nodeKeys;
+            levels++;
+        }
+
+        if (total > MAX_LENGTH) {
+            throw new IllegalArgumentException(String.format("Array is too large to index: %d", n));
+        }
+
+        int[] offsets = new int[levels + 1];
+        keys = n;
+
+        for (int level = 0; level < levels; level++) {
+            long nodes = Math.max(1, (keys + nodeKeys - 1) / nodeKeys);
+            offsets[level + 1] = offsets[level] + (int) (nodes * nodeKeys);
+            keys = (nodes + nodeKeys) / (nodeKeys + 1) * nodeKeys;
+        }
+
+        return offsets;
+    }
+}
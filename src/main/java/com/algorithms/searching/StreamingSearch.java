@@ -0,0 +1,131 @@
+package com.algorithms.searching;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.Predicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Provides linear searches over iterators, for data that is produced or read incrementally and
+ * never held in memory as a whole.
+ * <p>
+ * Each search pulls elements one at a time and stops at the first match, leaving the iterator
+ * positioned just after it, so a later call continues from there and finds the next match.
+ * Positions are counted as {@code long} from the current position of the iterator, since a stream
+ * may hold more than 2<sup>31</sup> elements. The primitive overloads take
+ * {@link PrimitiveIterator}s and never box an element. The predicate variants carry their own
+ * names ({@code searchMatching}, {@code searchMatchingInt}, {@code searchMatchingLong}), since a
+ * lambda would make them ambiguous with each other and with the key overloads.
+ * </p>
+ * <p>
+ * Fixed-width records read from a channel are searched by {@link RecordChannelSearch}.
+ * </p>
+ */
+public class StreamingSearch {
+    /**
+     * Searches an iterator for the first element equal to a key.
+     *
+     * @param <T>      The type of elements, must implement {@code Comparable}.
+     * @param iterator The elements to search, consumed up to and including the match.
+     * @param key      The value to search for.
+     * @return The number of elements before the match, or -1 if the iterator was exhausted.
+     */
+    public static <T extends Comparable<T>> long search(Iterator<? extends T> iterator, T key) {
+        for (long position = 0; iterator.hasNext(); position++) {
+            if (iterator.next().compareTo(key) == 0) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches an iterator for the first element matching a predicate.
+     *
+     * @param <T>       The type of elements.
+     * @param iterator  The elements to search, consumed up to and including the match.
+     * @param predicate The condition to match.
+     * @return The number of elements before the match, or -1 if the iterator was exhausted.
+     */
+    public static <T> long searchMatching(Iterator<? extends T> iterator, Predicate<? super T> predicate) {
+        for (long position = 0; iterator.hasNext(); position++) {
+            if (predicate.test(iterator.next())) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches an {@code int} iterator for the first occurrence of a key, without boxing.
+     *
+     * @param iterator The elements to search, consumed up to and including the match.
+     * @param key      The value to search for.
+     * @return The number of elements before the match, or -1 if the iterator was exhausted.
+     */
+    public static long search(PrimitiveIterator.OfInt iterator, int key) {
+        for (long position = 0; iterator.hasNext(); position++) {
+            if (iterator.nextInt() == key) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches an {@code int} iterator for the first element matching a predicate, without
+     * boxing.
+     *
+     * @param iterator  The elements to search, consumed up to and including the match.
+     * @param predicate The condition to match.
+     * @return The number of elements before the match, or -1 if the iterator was exhausted.
+     */
+    public static long searchMatchingInt(PrimitiveIterator.OfInt iterator, IntPredicate predicate) {
+        for (long position = 0; iterator.hasNext(); position++) {
+            if (predicate.test(iterator.nextInt())) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches a {@code long} iterator for the first occurrence of a key, without boxing.
+     *
+     * @param iterator The elements to search, consumed up to and including the match.
+     * @param key      The value to search for.
+     * @return The number of elements before the match, or -1 if the iterator was exhausted.
+     */
+    public static long search(PrimitiveIterator.OfLong iterator, long key) {
+        for (long position = 0; iterator.hasNext(); position++) {
+            if (iterator.nextLong() == key) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches a {@code long} iterator for the first element matching a predicate, without
+     * boxing.
+     *
+     * @param iterator  The elements to search, consumed up to and including the match.
+     * @param predicate The condition to match.
+     * @return The number of elements before the match, or -1 if the iterator was exhausted.
+     */
+    public static long searchMatchingLong(PrimitiveIterator.OfLong iterator, LongPredicate predicate) {
+        for (long position = 0; iterator.hasNext(); position++) {
+            if (predicate.test(iterator.nextLong())) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,1127 @@
+package com.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Provides static methods to sort arrays with pattern-defeating quicksort (pdqsort), an
+ * introsort variant that is fast on random data and adapts to common patterns in real data.
+ * <p>
+ * The algorithm is a quicksort with these safeguards:
+ * </p>
+ * <ul>
+ *     <li>Ranges shorter than {@value #INSERTION_SORT_THRESHOLD} elements are finished by
+ *     insertion sort.</li>
+ *     <li>The pivot is the median of three elements, or the median of three medians of three
+ *     (Tukey's ninther) for ranges longer than {@value #NINTHER_THRESHOLD} elements.</li>
+ *     <li>A partition that needed no swap hints that the range is already sorted: an insertion
+ *     sort that gives up after a few moves is tried on both sides, so sorted and nearly sorted
+ *     input takes linear time.</li>
+ *     <li>When the pivot equals the element just before the range, all the elements equal to it
+ *     are moved to the left and are done, so input with many duplicates takes linear time per
+ *     distinct key.</li>
+ *     <li>A highly unbalanced partition shuffles a few elements to break the pattern that caused
+ *     it. After log2(n) such partitions the range is finished by heapsort, so the worst case
+ *     is O(n log n) even on adversarial input.</li>
+ * </ul>
+ * <p>
+ * Like any quicksort, the sort is in place and not stable. The {@code int} and {@code long}
+ * overloads compare primitives directly, without boxing.
+ * </p>
+ *
+ * @param <T> The type of elements in the array to be sorted, which must
+ *            implement the {@code Comparable} interface to support comparison.
+ */
+public class PdqSort {
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+    private static final int NINTHER_THRESHOLD = 128;
+    private static final int PARTIAL_INSERTION_LIMIT = 8;
+
+    /**
+     * Sorts an array in ascending order using pattern-defeating quicksort.
+     *
+     * @param <T>   The type of elements, must implement {@code Comparable}.
+     * @param array The array to be sorted (modified in place); {@code null} is ignored.
+     */
+    public static <T extends Comparable<T>> void sort(T[] array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts an array in the order of a comparator using pattern-defeating quicksort.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to be sorted (modified in place); {@code null} is ignored.
+     * @param comparator The order to sort by.
+     */
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        if (array == null) {
+            return;
+        }
+
+        sort(array, 0, array.length, comparator, log2(array.length), true);
+    }
+
+    /**
+     * Sorts an {@code int} array in ascending order using pattern-defeating quicksort.
+     *
+     * @param array The array to be sorted (modified in place); {@code null} is ignored.
+     */
+    public static void sort(int[] array) {
+        if (array == null) {
+            return;
+        }
+
+        sort(array, 0, array.length, log2(array.length), true);
+    }
+
+    /**
+     * Sorts a {@code long} array in ascending order using pattern-defeating quicksort.
+     *
+     * @param array The array to be sorted (modified in place); {@code null} is ignored.
+     */
+    public static void sort(long[] array) {
+        if (array == null) {
+            return;
+        }
+
+        sort(array, 0, array.length, log2(array.length), true);
+    }
+
+    /**
+     * Returns the number of highly unbalanced partitions tolerated before heapsort takes over.
+     *
+     * @param length The length of the array.
+     * @return The floor of the base-2 logarithm of the length, at least 1.
+     */
+    private static int log2(int length) {
+        return Math.max(1, 31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Sorts a range with pattern-defeating quicksort, recursing into the left part and looping on
+     * the right one.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     * @param badAllowed The number of highly unbalanced partitions left before switching to
+     *                   heapsort.
+     * @param leftmost   Whether the range starts the array; otherwise {@code array[begin - 1]}
+     *                   is not greater than any element of the range.
+     */
+    private static <T> void sort(T[] array, int begin, int end, Comparator<? super T> comparator,
+                                 int badAllowed, boolean leftmost) {
+        while (true) {
+            int size = end - begin;
+
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end, comparator);
+                }
+                else {
+                    unguardedInsertionSort(array, begin, end, comparator);
+                }
+                return;
+            }
+
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + half, end - 1, comparator);
+                sort3(array, begin + 1, begin + (half - 1), end - 2, comparator);
+                sort3(array, begin + 2, begin + (half + 1), end - 3, comparator);
+                sort3(array, begin + (half - 1), begin + half, begin + (half + 1), comparator);
+                swap(array, begin, begin + half);
+            }
+            else {
+                sort3(array, begin + half, begin, end - 1, comparator);
+            }
+
+            if (!leftmost && !(comparator.compare(array[begin - 1], array[begin]) < 0)) {
+                begin = partitionLeft(array, begin, end, comparator) + 1;
+                continue;
+            }
+
+            int partition = partitionRight(array, begin, end, comparator);
+            boolean alreadyPartitioned = partition < 0;
+            int pivot = alreadyPartitioned ? ~partition : partition;
+            int leftSize = pivot - begin;
+            int rightSize = end - (pivot + 1);
+
+            if (leftSize < size / 8 || rightSize < size / 8) {
+                if (--badAllowed == 0) {
+                    heapSort(array, begin, end, comparator);
+                    return;
+                }
+
+                if (leftSize >= INSERTION_SORT_THRESHOLD) {
+                    swap(array, begin, begin + leftSize / 4);
+                    swap(array, pivot - 1, pivot - leftSize / 4);
+
+                    if (leftSize > NINTHER_THRESHOLD) {
+                        swap(array, begin + 1, begin + (leftSize / 4 + 1));
+                        swap(array, begin + 2, begin + (leftSize / 4 + 2));
+                        swap(array, pivot - 2, pivot - (leftSize / 4 + 1));
+                        swap(array, pivot - 3, pivot - (leftSize / 4 + 2));
+                    }
+                }
+
+                if (rightSize >= INSERTION_SORT_THRESHOLD) {
+                    swap(array, pivot + 1, pivot + (1 + rightSize / 4));
+                    swap(array, end - 1, end - rightSize / 4);
+
+                    if (rightSize > NINTHER_THRESHOLD) {
+                        swap(array, pivot + 2, pivot + (2 + rightSize / 4));
+                        swap(array, pivot + 3, pivot + (3 + rightSize / 4));
+                        swap(array, end - 2, end - (1 + rightSize / 4));
+                        swap(array, end - 3, end - (2 + rightSize / 4));
+                    }
+                }
+            }
+            else if (alreadyPartitioned
+                    && partialInsertionSort(array, begin, pivot, comparator)
+                    && partialInsertionSort(array, pivot + 1, end, comparator)) {
+                return;
+            }
+
+            sort(array, begin, pivot, comparator, badAllowed, leftmost);
+            begin = pivot + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Partitions a range around its first element, putting the elements equal to the pivot on
+     * its right.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to partition.
+     * @param begin      The index of the pivot, the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     * @return The final index of the pivot, or its bitwise complement if the range was already
+     *         partitioned and no element had to be swapped.
+     */
+    private static <T> int partitionRight(T[] array, int begin, int end, Comparator<? super T> comparator) {
+        T pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (comparator.compare(array[++first], pivot) < 0) {
+            // Skip the prefix already on the left side; the median of three guards the scan.
+        }
+
+        if (first - 1 == begin) {
+            while (first < last && !(comparator.compare(array[--last], pivot) < 0)) {
+                // No guard on the right yet.
+            }
+        }
+        else {
+            while (!(comparator.compare(array[--last], pivot) < 0)) {
+                // The element that stopped the left scan guards this one.
+            }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+
+        while (first < last) {
+            swap(array, first, last);
+            while (comparator.compare(array[++first], pivot) < 0) {
+                // Find the next element that belongs on the right.
+            }
+            while (!(comparator.compare(array[--last], pivot) < 0)) {
+                // Find the next element that belongs on the left.
+            }
+        }
+
+        int pivotIndex = first - 1;
+        array[begin] = array[pivotIndex];
+        array[pivotIndex] = pivot;
+
+        return alreadyPartitioned ? ~pivotIndex : pivotIndex;
+    }
+
+    /**
+     * Partitions a range around its first element, putting the elements equal to the pivot on
+     * its left. Used when the pivot equals the element before the range: every element equal to
+     * it is then in its final place, so runs of equal keys are finished in linear time.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to partition.
+     * @param begin      The index of the pivot, the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     * @return The final index of the pivot.
+     */
+    private static <T> int partitionLeft(T[] array, int begin, int end, Comparator<? super T> comparator) {
+        T pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (comparator.compare(pivot, array[--last]) < 0) {
+            // Skip the suffix already on the right side.
+        }
+
+        if (last + 1 == end) {
+            while (first < last && !(comparator.compare(pivot, array[++first]) < 0)) {
+                // No guard on the left yet.
+            }
+        }
+        else {
+            while (!(comparator.compare(pivot, array[++first]) < 0)) {
+                // The element that stopped the right scan guards this one.
+            }
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            while (comparator.compare(pivot, array[--last]) < 0) {
+                // Find the next element that belongs on the left.
+            }
+            while (!(comparator.compare(pivot, array[++first]) < 0)) {
+                // Find the next element that belongs on the right.
+            }
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Sorts a range by insertion.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     */
+    private static <T> void insertionSort(T[] array, int begin, int end, Comparator<? super T> comparator) {
+        for (int i = begin + 1; i < end; i++) {
+            T value = array[i];
+            int j = i;
+
+            while (j > begin && comparator.compare(value, array[j - 1]) < 0) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Sorts a range by insertion without checking the start of the range, which is safe because
+     * the element before the range is not greater than any element in it.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     */
+    private static <T> void unguardedInsertionSort(T[] array, int begin, int end, Comparator<? super T> comparator) {
+        for (int i = begin + 1; i < end; i++) {
+            T value = array[i];
+            int j = i;
+
+            while (comparator.compare(value, array[j - 1]) < 0) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Tries to finish sorting a nearly sorted range by insertion, giving up once more than
+     * {@value #PARTIAL_INSERTION_LIMIT} elements have been moved.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     * @return {@code true} if the range is now sorted; {@code false} if the attempt was abandoned.
+     */
+    private static <T> boolean partialInsertionSort(T[] array, int begin, int end, Comparator<? super T> comparator) {
+        int moved = 0;
+
+        for (int i = begin + 1; i < end; i++) {
+            if (moved > PARTIAL_INSERTION_LIMIT) {
+                return false;
+            }
+
+            T value = array[i];
+            int j = i;
+
+            while (j > begin && comparator.compare(value, array[j - 1]) < 0) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+            moved += i - j;
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a range with heapsort, in guaranteed O(n log n).
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param comparator The order to sort by.
+     */
+    private static <T> void heapSort(T[] array, int begin, int end, Comparator<? super T> comparator) {
+        int size = end - begin;
+
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(array, begin, i, size, comparator);
+        }
+        for (int last = size - 1; last > 0; last--) {
+            swap(array, begin, begin + last);
+            siftDown(array, begin, 0, last, comparator);
+        }
+    }
+
+    /**
+     * Restores the max-heap property below a node of a heap stored in a range.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array holding the heap.
+     * @param offset     The index of the root of the heap.
+     * @param node       The node to sift down, relative to the root.
+     * @param size       The number of nodes of the heap.
+     * @param comparator The order to sort by.
+     */
+    private static <T> void siftDown(T[] array, int offset, int node, int size, Comparator<? super T> comparator) {
+        T value = array[offset + node];
+
+        while (node < size / 2) {
+            int child = 2 * node + 1;
+            if (child + 1 < size && comparator.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (!(comparator.compare(value, array[offset + child]) < 0)) {
+                break;
+            }
+
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    /**
+     * Sorts three elements in place.
+     *
+     * @param <T>        The type of elements.
+     * @param array      The array holding the elements.
+     * @param a          The index of the first element.
+     * @param b          The index of the second element.
+     * @param c          The index of the third element.
+     * @param comparator The order to sort by.
+     */
+    private static <T> void sort3(T[] array, int a, int b, int c, Comparator<? super T> comparator) {
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+        }
+        if (comparator.compare(array[c], array[b]) < 0) {
+            swap(array, b, c);
+        }
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Swaps two elements.
+     *
+     * @param <T>   The type of elements.
+     * @param array The array holding the elements.
+     * @param i     The index of the first element.
+     * @param j     The index of the second element.
+     */
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts a range with pattern-defeating quicksort, recursing into the left part and looping on
+     * the right one.
+     *
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param badAllowed The number of highly unbalanced partitions left before switching to
+     *                   heapsort.
+     * @param leftmost   Whether the range starts the array; otherwise {@code array[begin - 1]}
+     *                   is not greater than any element of the range.
+     */
+    private static void sort(int[] array, int begin, int end, int badAllowed, boolean leftmost) {
+        while (true) {
+            int size = end - begin;
+
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end);
+                }
+                else {
+                    unguardedInsertionSort(array, begin, end);
+                }
+                return;
+            }
+
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + half, end - 1);
+                sort3(array, begin + 1, begin + (half - 1), end - 2);
+                sort3(array, begin + 2, begin + (half + 1), end - 3);
+                sort3(array, begin + (half - 1), begin + half, begin + (half + 1));
+                swap(array, begin, begin + half);
+            }
+            else {
+                sort3(array, begin + half, begin, end - 1);
+            }
+
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            int partition = partitionRight(array, begin, end);
+            boolean alreadyPartitioned = partition < 0;
+            int pivot = alreadyPartitioned ? ~partition : partition;
+            int leftSize = pivot - begin;
+            int rightSize = end - (pivot + 1);
+
+            if (leftSize < size / 8 || rightSize < size / 8) {
+                if (--badAllowed == 0) {
+                    heapSort(array, begin, end);
+                    return;
+                }
+
+                if (leftSize >= INSERTION_SORT_THRESHOLD) {
+                    swap(array, begin, begin + leftSize / 4);
+                    swap(array, pivot - 1, pivot - leftSize / 4);
+
+                    if (leftSize > NINTHER_THRESHOLD) {
+                        swap(array, begin + 1, begin + (leftSize / 4 + 1));
+                        swap(array, begin + 2, begin + (leftSize / 4 + 2));
+                        swap(array, pivot - 2, pivot - (leftSize / 4 + 1));
+                        swap(array, pivot - 3, pivot - (leftSize / 4 + 2));
+                    }
+                }
+
+                if (rightSize >= INSERTION_SORT_THRESHOLD) {
+                    swap(array, pivot + 1, pivot + (1 + rightSize / 4));
+                    swap(array, end - 1, end - rightSize / 4);
+
+                    if (rightSize > NINTHER_THRESHOLD) {
+                        swap(array, pivot + 2, pivot + (2 + rightSize / 4));
+                        swap(array, pivot + 3, pivot + (3 + rightSize / 4));
+                        swap(array, end - 2, end - (1 + rightSize / 4));
+                        swap(array, end - 3, end - (2 + rightSize / 4));
+                    }
+                }
+            }
+            else if (alreadyPartitioned
+                    && partialInsertionSort(array, begin, pivot)
+                    && partialInsertionSort(array, pivot + 1, end)) {
+                return;
+            }
+
+            sort(array, begin, pivot, badAllowed, leftmost);
+            begin = pivot + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Partitions a range around its first element, putting the elements equal to the pivot on
+     * its right.
+     *
+     * @param array The array to partition.
+     * @param begin The index of the pivot, the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     * @return The final index of the pivot, or its bitwise complement if the range was already
+     *         partitioned and no element had to be swapped.
+     */
+    private static int partitionRight(int[] array, int begin, int end) {
+        int pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (array[++first] < pivot) {
+            // Skip the prefix already on the left side; the median of three guards the scan.
+        }
+
+        if (first - 1 == begin) {
+            while (first < last && !(array[--last] < pivot)) {
+                // No guard on the right yet.
+            }
+        }
+        else {
+            while (!(array[--last] < pivot)) {
+                // The element that stopped the left scan guards this one.
+            }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+
+        while (first < last) {
+            swap(array, first, last);
+            while (array[++first] < pivot) {
+                // Find the next element that belongs on the right.
+            }
+            while (!(array[--last] < pivot)) {
+                // Find the next element that belongs on the left.
+            }
+        }
+
+        int pivotIndex = first - 1;
+        array[begin] = array[pivotIndex];
+        array[pivotIndex] = pivot;
+
+        return alreadyPartitioned ? ~pivotIndex : pivotIndex;
+    }
+
+    /**
+     * Partitions a range around its first element, putting the elements equal to the pivot on
+     * its left. Used when the pivot equals the element before the range: every element equal to
+     * it is then in its final place, so runs of equal keys are finished in linear time.
+     *
+     * @param array The array to partition.
+     * @param begin The index of the pivot, the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     * @return The final index of the pivot.
+     */
+    private static int partitionLeft(int[] array, int begin, int end) {
+        int pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (pivot < array[--last]) {
+            // Skip the suffix already on the right side.
+        }
+
+        if (last + 1 == end) {
+            while (first < last && !(pivot < array[++first])) {
+                // No guard on the left yet.
+            }
+        }
+        else {
+            while (!(pivot < array[++first])) {
+                // The element that stopped the right scan guards this one.
+            }
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            while (pivot < array[--last]) {
+                // Find the next element that belongs on the left.
+            }
+            while (!(pivot < array[++first])) {
+                // Find the next element that belongs on the right.
+            }
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Sorts a range by insertion.
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     */
+    private static void insertionSort(int[] array, int begin, int end) {
+        for (int i = begin + 1; i < end; i++) {
+            int value = array[i];
+            int j = i;
+
+            while (j > begin && value < array[j - 1]) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Sorts a range by insertion without checking the start of the range, which is safe because
+     * the element before the range is not greater than any element in it.
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     */
+    private static void unguardedInsertionSort(int[] array, int begin, int end) {
+        for (int i = begin + 1; i < end; i++) {
+            int value = array[i];
+            int j = i;
+
+            while (value < array[j - 1]) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Tries to finish sorting a nearly sorted range by insertion, giving up once more than
+     * {@value #PARTIAL_INSERTION_LIMIT} elements have been moved.
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     * @return {@code true} if the range is now sorted; {@code false} if the attempt was abandoned.
+     */
+    private static boolean partialInsertionSort(int[] array, int begin, int end) {
+        int moved = 0;
+
+        for (int i = begin + 1; i < end; i++) {
+            if (moved > PARTIAL_INSERTION_LIMIT) {
+                return false;
+            }
+
+            int value = array[i];
+            int j = i;
+
+            while (j > begin && value < array[j - 1]) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+            moved += i - j;
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a range with heapsort, in guaranteed O(n log n).
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     */
+    private static void heapSort(int[] array, int begin, int end) {
+        int size = end - begin;
+
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(array, begin, i, size);
+        }
+        for (int last = size - 1; last > 0; last--) {
+            swap(array, begin, begin + last);
+            siftDown(array, begin, 0, last);
+        }
+    }
+
+    /**
+     * Restores the max-heap property below a node of a heap stored in a range.
+     *
+     * @param array  The array holding the heap.
+     * @param offset The index of the root of the heap.
+     * @param node   The node to sift down, relative to the root.
+     * @param size   The number of nodes of the heap.
+     */
+    private static void siftDown(int[] array, int offset, int node, int size) {
+        int value = array[offset + node];
+
+        while (node < size / 2) {
+            int child = 2 * node + 1;
+            if (child + 1 < size && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (!(value < array[offset + child])) {
+                break;
+            }
+
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    /**
+     * Sorts three elements in place.
+     *
+     * @param array The array holding the elements.
+     * @param a     The index of the first element.
+     * @param b     The index of the second element.
+     * @param c     The index of the third element.
+     */
+    private static void sort3(int[] array, int a, int b, int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Swaps two elements.
+     *
+     * @param array The array holding the elements.
+     * @param i     The index of the first element.
+     * @param j     The index of the second element.
+     */
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts a range with pattern-defeating quicksort, recursing into the left part and looping on
+     * the right one.
+     *
+     * @param array      The array to sort.
+     * @param begin      The index of the first element of the range (inclusive).
+     * @param end        The index after the last element of the range (exclusive).
+     * @param badAllowed The number of highly unbalanced partitions left before switching to
+     *                   heapsort.
+     * @param leftmost   Whether the range starts the array; otherwise {@code array[begin - 1]}
+     *                   is not greater than any element of the range.
+     */
+    private static void sort(long[] array, int begin, int end, int badAllowed, boolean leftmost) {
+        while (true) {
+            int size = end - begin;
+
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end);
+                }
+                else {
+                    unguardedInsertionSort(array, begin, end);
+                }
+                return;
+            }
+
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + half, end - 1);
+                sort3(array, begin + 1, begin + (half - 1), end - 2);
+                sort3(array, begin + 2, begin + (half + 1), end - 3);
+                sort3(array, begin + (half - 1), begin + half, begin + (half + 1));
+                swap(array, begin, begin + half);
+            }
+            else {
+                sort3(array, begin + half, begin, end - 1);
+            }
+
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            int partition = partitionRight(array, begin, end);
+            boolean alreadyPartitioned = partition < 0;
+            int pivot = alreadyPartitioned ? ~partition : partition;
+            int leftSize = pivot - begin;
+            int rightSize = end - (pivot + 1);
+
+            if (leftSize < size / 8 || rightSize < size / 8) {
+                if (--badAllowed == 0) {
+                    heapSort(array, begin, end);
+                    return;
+                }
+
+                if (leftSize >= INSERTION_SORT_THRESHOLD) {
+                    swap(array, begin, begin + leftSize / 4);
+                    swap(array, pivot - 1, pivot - leftSize / 4);
+
+                    if (leftSize > NINTHER_THRESHOLD) {
+                        swap(array, begin + 1, begin + (leftSize / 4 + 1));
+                        swap(array, begin + 2, begin + (leftSize / 4 + 2));
+                        swap(array, pivot - 2, pivot - (leftSize / 4 + 1));
+                        swap(array, pivot - 3, pivot - (leftSize / 4 + 2));
+                    }
+                }
+
+                if (rightSize >= INSERTION_SORT_THRESHOLD) {
+                    swap(array, pivot + 1, pivot + (1 + rightSize / 4));
+                    swap(array, end - 1, end - rightSize / 4);
+
+                    if (rightSize > NINTHER_THRESHOLD) {
+                        swap(array, pivot + 2, pivot + (2 + rightSize / 4));
+                        swap(array, pivot + 3, pivot + (3 + rightSize / 4));
+                        swap(array, end - 2, end - (1 + rightSize / 4));
+                        swap(array, end - 3, end - (2 + rightSize / 4));
+                    }
+                }
+            }
+            else if (alreadyPartitioned
+                    && partialInsertionSort(array, begin, pivot)
+                    && partialInsertionSort(array, pivot + 1, end)) {
+                return;
+            }
+
+            sort(array, begin, pivot, badAllowed, leftmost);
+            begin = pivot + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Partitions a range around its first element, putting the elements equal to the pivot on
+     * its right.
+     *
+     * @param array The array to partition.
+     * @param begin The index of the pivot, the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     * @return The final index of the pivot, or its bitwise complement if the range was already
+     *         partitioned and no element had to be swapped.
+     */
+    private static int partitionRight(long[] array, int begin, int end) {
+        long pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (array[++first] < pivot) {
+            // Skip the prefix already on the left side; the median of three guards the scan.
+        }
+
+        if (first - 1 == begin) {
+            while (first < last && !(array[--last] < pivot)) {
+                // No guard on the right yet.
+            }
+        }
+        else {
+            while (!(array[--last] < pivot)) {
+                // The element that stopped the left scan guards this one.
+            }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+
+        while (first < last) {
+            swap(array, first, last);
+            while (array[++first] < pivot) {
+                // Find the next element that belongs on the right.
+            }
+            while (!(array[--last] < pivot)) {
+                // Find the next element that belongs on the left.
+            }
+        }
+
+        int pivotIndex = first - 1;
+        array[begin] = array[pivotIndex];
+        array[pivotIndex] = pivot;
+
+        return alreadyPartitioned ? ~pivotIndex : pivotIndex;
+    }
+
+    /**
+     * Partitions a range around its first element, putting the elements equal to the pivot on
+     * its left. Used when the pivot equals the element before the range: every element equal to
+     * it is then in its final place, so runs of equal keys are finished in linear time.
+     *
+     * @param array The array to partition.
+     * @param begin The index of the pivot, the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     * @return The final index of the pivot.
+     */
+    private static int partitionLeft(long[] array, int begin, int end) {
+        long pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (pivot < array[--last]) {
+            // Skip the suffix already on the right side.
+        }
+
+        if (last + 1 == end) {
+            while (first < last && !(pivot < array[++first])) {
+                // No guard on the left yet.
+            }
+        }
+        else {
+            while (!(pivot < array[++first])) {
+                // The element that stopped the right scan guards this one.
+            }
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            while (pivot < array[--last]) {
+                // Find the next element that belongs on the left.
+            }
+            while (!(pivot < array[++first])) {
+                // Find the next element that belongs on the right.
+            }
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Sorts a range by insertion.
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     */
+    private static void insertionSort(long[] array, int begin, int end) {
+        for (int i = begin + 1; i < end; i++) {
+            long value = array[i];
+            int j = i;
+
+            while (j > begin && value < array[j - 1]) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Sorts a range by insertion without checking the start of the range, which is safe because
+     * the element before the range is not greater than any element in it.
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     */
+    private static void unguardedInsertionSort(long[] array, int begin, int end) {
+        for (int i = begin + 1; i < end; i++) {
+            long value = array[i];
+            int j = i;
+
+            while (value < array[j - 1]) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Tries to finish sorting a nearly sorted range by insertion, giving up once more than
+     * {@value #PARTIAL_INSERTION_LIMIT} elements have been moved.
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     * @return {@code true} if the range is now sorted; {@code false} if the attempt was abandoned.
+     */
+    private static boolean partialInsertionSort(long[] array, int begin, int end) {
+        int moved = 0;
+
+        for (int i = begin + 1; i < end; i++) {
+            if (moved > PARTIAL_INSERTION_LIMIT) {
+                return false;
+            }
+
+            long value = array[i];
+            int j = i;
+
+            while (j > begin && value < array[j - 1]) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+            moved += i - j;
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a range with heapsort, in guaranteed O(n log n).
+     *
+     * @param array The array to sort.
+     * @param begin The index of the first element of the range (inclusive).
+     * @param end   The index after the last element of the range (exclusive).
+     */
+    private static void heapSort(long[] array, int begin, int end) {
+        int size = end - begin;
+
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(array, begin, i, size);
+        }
+        for (int last = size - 1; last > 0; last--) {
+            swap(array, begin, begin + last);
+            siftDown(array, begin, 0, last);
+        }
+    }
+
+    /**
+     * Restores the max-heap property below a node of a heap stored in a range.
+     *
+     * @param array  The array holding the heap.
+     * @param offset The index of the root of the heap.
+     * @param node   The node to sift down, relative to the root.
+     * @param size   The number of nodes of the heap.
+     */
+    private static void siftDown(long[] array, int offset, int node, int size) {
+        long value = array[offset + node];
+
+        while (node < size / 2) {
+            int child = 2 * node + 1;
+            if (child + 1 < size && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (!(value < array[offset + child])) {
+                break;
+            }
+
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    /**
+     * Sorts three elements in place.
+     *
+     * @param array The array holding the elements.
+     * @param a     The index of the first element.
+     * @param b     The index of the second element.
+     * @param c     The index of the third element.
+     */
+    private static void sort3(long[] array, int a, int b, int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Swaps two elements.
+     *
+     * @param array The array holding the elements.
+     * @param i     The index of the first element.
+     * @param j     The index of the second element.
+     */
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -17,9 +17,13 @@ public class SelectionSort {
      * Sorts an array in ascending order using the Selection sort algorithm.
      *
      * @param <T>   The type of elements, must implement {@code Comparable}.
-     * @param array The array to be sorted (modified in place).
+     * @param array The array to be sorted (modified in place); {@code null} is ignored.
      */
     public static <T extends Comparable<T>> void sort(T[] array) {
+        if (array == null) {
+            return;
+        }
+
         int n = array.length;
 
         for (int i = 0; i < n - 1; i++) {
@@ -0,0 +1,76 @@
+package com.datastructures.caches;
+
+/**
+ * A bounded key-value cache that evicts entries once its capacity is exceeded.
+ * <p>
+ * Implementations decide which entry is evicted (least recently used, least frequently used, ...)
+ * and how the capacity is measured: either as a number of entries or as the total weight
+ * reported by a {@link Weigher}.
+ * </p>
+ *
+ * @param <K> The type of keys maintained by the cache.
+ * @param <V> The type of cached values.
+ */
+public interface Cache<K, V> {
+
+    /**
+     * Returns the value mapped to the given key and records a hit, or records a miss.
+     *
+     * @param key The key whose value is to be returned.
+     * @return The cached value, or {@code null} if the key is not present.
+     */
+    V get(K key);
+
+    /**
+     * Associates the value with the key, replacing any previous value, and evicts entries
+     * until the cache is back within its capacity.
+     *
+     * @param key   The key to store.
+     * @param value The value to store.
+     * @return The previous value mapped to the key, or {@code null} if there was none.
+     */
+    V put(K key, V value);
+
+    /**
+     * Removes the entry for the given key. Explicit removals are not reported as evictions.
+     *
+     * @param key The key to remove.
+     * @return The removed value, or {@code null} if the key was not present.
+     */
+    V remove(K key);
+
+    /**
+     * Checks whether the key is present without affecting recency, frequency or statistics.
+     *
+     * @param key The key to look up.
+     * @return {@code true} if the key is cached, {@code false} otherwise.
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns the number of entries currently held in the cache.
+     *
+     * @return The number of cached entries.
+     */
+    int size();
+
+    /**
+     * Returns the total weight of the cached entries (equal to {@link #size()} for
+     * size-bounded caches).
+     *
+     * @return The current weight of the cache.
+     */
+    long weight();
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     *
+     * @return The current cache statistics.
+     */
+    CacheStats stats();
+
+    /**
+     * Removes all entries from the cache. Cleared entries are not reported as evictions.
+     */
+    void clear();
+}
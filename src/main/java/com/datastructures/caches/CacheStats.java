@@ -0,0 +1,91 @@
+package com.datastructures.caches;
+
+/**
+ * An immutable snapshot of the counters kept by a {@link Cache}.
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /**
+     * Constructs a statistics snapshot.
+     *
+     * @param hitCount      The number of lookups that found a cached value.
+     * @param missCount     The number of lookups that did not find a cached value.
+     * @param evictionCount The number of entries evicted to respect the capacity.
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached value.
+     *
+     * @return The hit count.
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached value.
+     *
+     * @return The miss count.
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted to respect the capacity.
+     *
+     * @return The eviction count.
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the total number of lookups (hits plus misses).
+     *
+     * @return The request count.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of hits to lookups, or {@code 1.0} if no lookup has been made yet.
+     *
+     * @return The hit rate, between {@code 0.0} and {@code 1.0}.
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Returns a snapshot holding the sum of this snapshot and another one.
+     *
+     * @param other The snapshot to add.
+     * @return The combined statistics.
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hitCount + other.hitCount,
+                missCount + other.missCount,
+                evictionCount + other.evictionCount);
+    }
+
+    /**
+     * Returns a string representation of the statistics.
+     *
+     * @return a string representation of the statistics.
+     */
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, evictions=%d}", hitCount, missCount, evictionCount);
+    }
+}
@@ -0,0 +1,23 @@
+package com.datastructures.caches;
+
+/**
+ * Receives a notification each time a {@link Cache} evicts an entry to respect its capacity.
+ * <p>
+ * The listener is called synchronously from the thread performing the insertion, so it should
+ * be fast and must not call back into the cache that evicted the entry.
+ * </p>
+ *
+ * @param <K> The type of keys maintained by the cache.
+ * @param <V> The type of cached values.
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+    /**
+     * Called after an entry has been evicted.
+     *
+     * @param key   The key of the evicted entry.
+     * @param value The value of the evicted entry.
+     */
+    void onEviction(K key, V value);
+}
@@ -0,0 +1,430 @@
+package com.datastructures.caches;
+
+import java.util.Map;
+import java.util.HashMap;
+
+/**
+ * A bounded cache that evicts the least frequently used entry first, with O(1) operations.
+ * <p>
+ * Entries with the same access count share a frequency bucket. Each bucket holds its entries in a
+ * doubly linked list ordered from most to least recently used, and the buckets themselves form a
+ * doubly linked list in ascending frequency order. A hit moves the entry into the neighbouring
+ * bucket (creating it if needed), and an eviction removes the least recently used entry of the
+ * lowest-frequency bucket, so neither operation requires a heap or a scan.
+ * </p>
+ * <p>
+ * The capacity is either a number of entries or a total weight computed by a {@link Weigher}.
+ * This class is not thread-safe; use {@link StripedCache} for concurrent access.
+ * </p>
+ *
+ * @param <K> The type of keys maintained by the cache.
+ * @param <V> The type of cached values.
+ */
+public class LfuCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Represents an entry in the list of its frequency bucket.
+     *
+     * @param <K> The type of the key stored in the node.
+     * @param <V> The type of the value stored in the node.
+     */
+    private static class Node<K, V> {
+        final K key;
+        V value;
+        int weight;
+        Bucket<K, V> bucket;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        /**
+         * Constructs a new node with the given entry.
+         *
+         * @param key    The key of the entry.
+         * @param value  The value of the entry.
+         * @param weight The weight of the entry.
+         */
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Represents the set of entries that have been accessed the same number of times.
+     *
+     * @param <K> The type of the keys in the bucket.
+     * @param <V> The type of the values in the bucket.
+     */
+    private static class Bucket<K, V> {
+        final long frequency;
+        Node<K, V> head;
+        Node<K, V> tail;
+        Bucket<K, V> prev;
+        Bucket<K, V> next;
+
+        /**
+         * Constructs an empty bucket for the given access count.
+         *
+         * @param frequency The access count shared by the entries of the bucket.
+         */
+        Bucket(long frequency) {
+            this.frequency = frequency;
+        }
+
+        /**
+         * Checks if the bucket holds no entries.
+         *
+         * @return {@code true} if the bucket is empty, {@code false} otherwise.
+         */
+        boolean isEmpty() {
+            return head == null;
+        }
+    }
+
+    private final Map<K, Node<K, V>> entries;
+    private final long maximumWeight;
+    private final Weigher<K, V> weigher;
+    private final EvictionListener<K, V> listener;
+
+    private Bucket<K, V> lowest;
+    private long weight;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Constructs an empty cache holding at most {@code capacity} entries.
+     *
+     * @param capacity The maximum number of entries.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public LfuCache(int capacity) {
+        this(capacity, Weigher.singleton(), null);
+    }
+
+    /**
+     * Constructs an empty cache whose entries may weigh at most {@code maximumWeight} in total.
+     *
+     * @param maximumWeight The maximum total weight of the entries.
+     * @param weigher       The function computing the weight of each entry.
+     * @throws IllegalArgumentException If the maximum weight is not positive.
+     * @throws NullPointerException If the weigher is null.
+     */
+    public LfuCache(long maximumWeight, Weigher<K, V> weigher) {
+        this(maximumWeight, weigher, null);
+    }
+
+    /**
+     * Constructs an empty weight-bounded cache that notifies a listener of every eviction.
+     *
+     * @param maximumWeight The maximum total weight of the entries.
+     * @param weigher       The function computing the weight of each entry.
+     * @param listener      The listener notified of evictions, or {@code null} for none.
+     * @throws IllegalArgumentException If the maximum weight is not positive.
+     * @throws NullPointerException If the weigher is null.
+     */
+    public LfuCache(long maximumWeight, Weigher<K, V> weigher, EvictionListener<K, V> listener) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Maximum weight needs to be positive, was %d", maximumWeight));
+        }
+        if (weigher == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.entries = new HashMap<>();
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = entries.get(key);
+
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        incrementFrequency(node);
+
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int entryWeight = weigh(key, value);
+        Node<K, V> node = entries.get(key);
+
+        if (node != null) {
+            V previous = node.value;
+            weight += entryWeight - node.weight;
+            node.value = value;
+            node.weight = entryWeight;
+            incrementFrequency(node);
+            evictIfNeeded(0);
+
+            return previous;
+        }
+
+        // make room first so that the new entry is not its own eviction victim.
+        evictIfNeeded(entryWeight);
+
+        node = new Node<>(key, value, entryWeight);
+        entries.put(key, node);
+        weight += entryWeight;
+
+        if (lowest == null || lowest.frequency != 1) {
+            insertBucketAfter(new Bucket<>(1), null);
+        }
+        linkFirst(lowest, node);
+
+        // an entry heavier than the whole cache cannot be kept.
+        evictIfNeeded(0);
+
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = entries.remove(key);
+
+        if (node == null) {
+            return null;
+        }
+
+        detach(node);
+        weight -= node.weight;
+
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Returns the maximum total weight (or number of entries) the cache may hold.
+     *
+     * @return The capacity of the cache.
+     */
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns the number of times the entry for a key has been written or read.
+     *
+     * @param key The key to look up.
+     * @return The access count of the entry, or 0 if the key is not present.
+     */
+    public long frequencyOf(K key) {
+        Node<K, V> node = entries.get(key);
+        return node == null ? 0 : node.bucket.frequency;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        lowest = null;
+        weight = 0;
+    }
+
+    /**
+     * Returns a string representation of the cache, grouped by ascending access count.
+     *
+     * @return a string representation of the cache.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        Bucket<K, V> bucket = lowest;
+
+        while (bucket != null) {
+            sb.append(bucket.frequency).append(": [");
+            for (Node<K, V> node = bucket.head; node != null; node = node.next) {
+                sb.append(node.key).append('=').append(node.value);
+                if (node.next != null) {
+                    sb.append(", ");
+                }
+            }
+            sb.append(']');
+            if (bucket.next != null) {
+                sb.append(", ");
+            }
+            bucket = bucket.next;
+        }
+
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Computes and validates the weight of an entry.
+     *
+     * @param key   The key of the entry.
+     * @param value The value of the entry.
+     * @return The weight of the entry.
+     * @throws IllegalArgumentException If the weigher returns a negative weight.
+     */
+    private int weigh(K key, V value) {
+        int entryWeight = weigher.weigh(key, value);
+
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Entry weight needs to be non-negative, was %d", entryWeight));
+        }
+
+        return entryWeight;
+    }
+
+    /**
+     * Evicts least frequently used entries until {@code incoming} more weight fits in the cache.
+     *
+     * @param incoming The weight about to be added.
+     */
+    private void evictIfNeeded(long incoming) {
+        while (weight + incoming > maximumWeight && lowest != null) {
+            Node<K, V> victim = lowest.tail;
+            detach(victim);
+            entries.remove(victim.key);
+            weight -= victim.weight;
+            evictionCount++;
+
+            if (listener != null) {
+                listener.onEviction(victim.key, victim.value);
+            }
+        }
+    }
+
+    /**
+     * Moves a node from its bucket into the bucket for the next access count.
+     *
+     * @param node The node that has been accessed.
+     */
+    private void incrementFrequency(Node<K, V> node) {
+        Bucket<K, V> current = node.bucket;
+        Bucket<K, V> target = current.next;
+
+        if (target == null || target.frequency != current.frequency + 1) {
+            target = new Bucket<>(current.frequency + 1);
+            insertBucketAfter(target, current);
+        }
+
+        detach(node);
+        linkFirst(target, node);
+    }
+
+    /**
+     * Links a bucket into the bucket list right after {@code predecessor}, or as the lowest
+     * bucket if it is {@code null}.
+     *
+     * @param bucket      The bucket to link.
+     * @param predecessor The bucket that will precede it.
+     */
+    private void insertBucketAfter(Bucket<K, V> bucket, Bucket<K, V> predecessor) {
+        bucket.prev = predecessor;
+        bucket.next = predecessor == null ? lowest : predecessor.next;
+
+        if (bucket.next != null) {
+            bucket.next.prev = bucket;
+        }
+
+        if (predecessor == null) {
+            lowest = bucket;
+        }
+        else {
+            predecessor.next = bucket;
+        }
+    }
+
+    /**
+     * Links a node at the head (most recently used end) of a bucket.
+     *
+     * @param bucket The bucket receiving the node.
+     * @param node   The detached node.
+     */
+    private void linkFirst(Bucket<K, V> bucket, Node<K, V> node) {
+        node.bucket = bucket;
+        node.prev = null;
+        node.next = bucket.head;
+
+        if (bucket.head == null) {
+            bucket.tail = node;
+        }
+        else {
+            bucket.head.prev = node;
+        }
+
+        bucket.head = node;
+    }
+
+    /**
+     * Unlinks a node from its bucket and drops the bucket once it becomes empty.
+     *
+     * @param node The node to detach.
+     */
+    private void detach(Node<K, V> node) {
+        Bucket<K, V> bucket = node.bucket;
+
+        if (node.prev == null) {
+            bucket.head = node.next;
+        }
+        else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            bucket.tail = node.prev;
+        }
+        else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = node.next = null;
+        node.bucket = null;
+
+        if (bucket.isEmpty()) {
+            removeBucket(bucket);
+        }
+    }
+
+    /**
+     * Unlinks an empty bucket from the bucket list.
+     *
+     * @param bucket The bucket to remove.
+     */
+    private void removeBucket(Bucket<K, V> bucket) {
+        if (bucket.prev == null) {
+            lowest = bucket.next;
+        }
+        else {
+            bucket.prev.next = bucket.next;
+        }
+
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+
+        bucket.prev = bucket.next = null;
+    }
+}
@@ -0,0 +1,310 @@
+package com.datastructures.caches;
+
+import java.util.Map;
+import java.util.HashMap;
+
+/**
+ * A bounded cache that evicts the least recently used entry first.
+ * <p>
+ * Entries are kept in a hash map for O(1) lookup and threaded onto a doubly linked list ordered
+ * from most recently used (head) to least recently used (tail), in the same way as
+ * {@link com.datastructures.linkedlists.DoublyLinkedList} links its nodes. A hit moves the entry
+ * to the head and an eviction unlinks the tail, so every operation is O(1).
+ * </p>
+ * <p>
+ * The capacity is either a number of entries or a total weight computed by a {@link Weigher}.
+ * This class is not thread-safe; use {@link StripedCache} for concurrent access.
+ * </p>
+ *
+ * @param <K> The type of keys maintained by the cache.
+ * @param <V> The type of cached values.
+ */
+public class LruCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Represents an entry in the recency list.
+     *
+     * @param <K> The type of the key stored in the node.
+     * @param <V> The type of the value stored in the node.
+     */
+    private static class Node<K, V> {
+        final K key;
+        V value;
+        int weight;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        /**
+         * Constructs a new node with the given entry.
+         *
+         * @param key    The key of the entry.
+         * @param value  The value of the entry.
+         * @param weight The weight of the entry.
+         */
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private final Map<K, Node<K, V>> entries;
+    private final long maximumWeight;
+    private final Weigher<K, V> weigher;
+    private final EvictionListener<K, V> listener;
+
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private long weight;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Constructs an empty cache holding at most {@code capacity} entries.
+     *
+     * @param capacity The maximum number of entries.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public LruCache(int capacity) {
+        this(capacity, Weigher.singleton(), null);
+    }
+
+    /**
+     * Constructs an empty cache whose entries may weigh at most {@code maximumWeight} in total.
+     *
+     * @param maximumWeight The maximum total weight of the entries.
+     * @param weigher       The function computing the weight of each entry.
+     * @throws IllegalArgumentException If the maximum weight is not positive.
+     * @throws NullPointerException If the weigher is null.
+     */
+    public LruCache(long maximumWeight, Weigher<K, V> weigher) {
+        this(maximumWeight, weigher, null);
+    }
+
+    /**
+     * Constructs an empty weight-bounded cache that notifies a listener of every eviction.
+     *
+     * @param maximumWeight The maximum total weight of the entries.
+     * @param weigher       The function computing the weight of each entry.
+     * @param listener      The listener notified of evictions, or {@code null} for none.
+     * @throws IllegalArgumentException If the maximum weight is not positive.
+     * @throws NullPointerException If the weigher is null.
+     */
+    public LruCache(long maximumWeight, Weigher<K, V> weigher, EvictionListener<K, V> listener) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Maximum weight needs to be positive, was %d", maximumWeight));
+        }
+        if (weigher == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.entries = new HashMap<>();
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = entries.get(key);
+
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        moveToHead(node);
+
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int entryWeight = weigh(key, value);
+        Node<K, V> node = entries.get(key);
+        V previous = null;
+
+        if (node == null) {
+            node = new Node<>(key, value, entryWeight);
+            entries.put(key, node);
+            linkFirst(node);
+        }
+        else {
+            previous = node.value;
+            weight -= node.weight;
+            node.value = value;
+            node.weight = entryWeight;
+            moveToHead(node);
+        }
+
+        weight += entryWeight;
+        evictIfNeeded();
+
+        return previous;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = entries.remove(key);
+
+        if (node == null) {
+            return null;
+        }
+
+        unlink(node);
+        weight -= node.weight;
+
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Returns the maximum total weight (or number of entries) the cache may hold.
+     *
+     * @return The capacity of the cache.
+     */
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        head = tail = null;
+        weight = 0;
+    }
+
+    /**
+     * Returns a string representation of the cache, from most to least recently used.
+     *
+     * @return a string representation of the cache.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        Node<K, V> current = head;
+
+        while (current != null) {
+            sb.append(current.key).append('=').append(current.value);
+            if (current.next != null) {
+                sb.append(", ");
+            }
+            current = current.next;
+        }
+
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Computes and validates the weight of an entry.
+     *
+     * @param key   The key of the entry.
+     * @param value The value of the entry.
+     * @return The weight of the entry.
+     * @throws IllegalArgumentException If the weigher returns a negative weight.
+     */
+    private int weigh(K key, V value) {
+        int entryWeight = weigher.weigh(key, value);
+
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Entry weight needs to be non-negative, was %d", entryWeight));
+        }
+
+        return entryWeight;
+    }
+
+    /**
+     * Evicts least recently used entries until the cache is back within its maximum weight.
+     */
+    private void evictIfNeeded() {
+        while (weight > maximumWeight && tail != null) {
+            Node<K, V> victim = tail;
+            unlink(victim);
+            entries.remove(victim.key);
+            weight -= victim.weight;
+            evictionCount++;
+
+            if (listener != null) {
+                listener.onEviction(victim.key, victim.value);
+            }
+        }
+    }
+
+    /**
+     * Moves a node to the head of the recency list.
+     *
+     * @param node The node to move.
+     */
+    private void moveToHead(Node<K, V> node) {
+        if (node != head) {
+            unlink(node);
+            linkFirst(node);
+        }
+    }
+
+    /**
+     * Links a detached node at the head of the recency list.
+     *
+     * @param node The node to link.
+     */
+    private void linkFirst(Node<K, V> node) {
+        node.prev = null;
+        node.next = head;
+
+        if (head == null) {
+            tail = node;
+        }
+        else {
+            head.prev = node;
+        }
+
+        head = node;
+    }
+
+    /**
+     * Detaches a node from the recency list.
+     *
+     * @param node The node to unlink.
+     */
+    private void unlink(Node<K, V> node) {
+        if (node.prev == null) {
+            head = node.next;
+        }
+        else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            tail = node.prev;
+        }
+        else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = node.next = null;
+    }
+}
@@ -0,0 +1,194 @@
+package com.datastructures.caches;
+
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe cache that partitions its keys over a fixed number of independently locked
+ * segments.
+ * <p>
+ * Each key is hashed to one segment, and every segment is a plain single-threaded {@link Cache}
+ * (for example an {@link LruCache} or an {@link LfuCache}) guarded by its own lock, a private
+ * object rather than the segment itself, so callers holding a segment cannot stall it. Threads that
+ * touch different segments never contend, so lookups scale with the number of stripes instead of
+ * serializing on one global lock.
+ * </p>
+ * <p>
+ * Eviction is decided per segment: each segment enforces the capacity it was built with, so the
+ * total capacity is the sum of the segment capacities and the eviction order is only approximate
+ * across segments.
+ * </p>
+ *
+ * @param <K> The type of keys maintained by the cache.
+ * @param <V> The type of cached values.
+ */
+public class StripedCache<K, V> implements Cache<K, V> {
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final Cache<K, V>[] segments;
+    private final Object[] locks;
+    private final int mask;
+
+    /**
+     * Constructs a striped cache whose segments are created by the given factory.
+     * <p>
+     * The number of stripes is rounded up to the next power of two.
+     * </p>
+     *
+     * @param stripes        The minimum number of segments.
+     * @param segmentFactory Creates an empty, single-threaded cache for each segment.
+     * @throws IllegalArgumentException If the stripe count is out of allowed bounds.
+     * @throws NullPointerException If the factory is null or returns null.
+     */
+    public StripedCache(int stripes, Supplier<? extends Cache<K, V>> segmentFactory) {
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException(
+                    String.format("Stripe count needs to be an int between %d and %d", 1, MAX_STRIPES));
+        }
+        if (segmentFactory == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        int count = Integer.highestOneBit(stripes);
+        if (count < stripes) {
+            count <<= 1;
+        }
+
+        @SuppressWarnings("unchecked")
+        Cache<K, V>[] table = (Cache<K, V>[]) new Cache<?, ?>[count];
+        this.segments = table;
+        this.locks = new Object[count];
+        this.mask = count - 1;
+
+        for (int i = 0; i < count; i++) {
+            Cache<K, V> segment = segmentFactory.get();
+            if (segment == null) {
+                throw new NullPointerException("Segment factory returned null");
+            }
+            segments[i] = segment;
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        int stripe = stripeFor(key);
+
+        synchronized (locks[stripe]) {
+            return segments[stripe].get(key);
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int stripe = stripeFor(key);
+
+        synchronized (locks[stripe]) {
+            return segments[stripe].put(key, value);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int stripe = stripeFor(key);
+
+        synchronized (locks[stripe]) {
+            return segments[stripe].remove(key);
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int stripe = stripeFor(key);
+
+        synchronized (locks[stripe]) {
+            return segments[stripe].containsKey(key);
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, summed segment by segment (not an atomic snapshot).
+     *
+     * @return The number of cached entries.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (locks[i]) {
+                size += segments[i].size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the total weight of the entries, summed segment by segment (not an atomic snapshot).
+     *
+     * @return The current weight of the cache.
+     */
+    @Override
+    public long weight() {
+        long weight = 0;
+
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (locks[i]) {
+                weight += segments[i].weight();
+            }
+        }
+
+        return weight;
+    }
+
+    /**
+     * Returns the counters of all segments added together.
+     *
+     * @return The combined cache statistics.
+     */
+    @Override
+    public CacheStats stats() {
+        CacheStats total = new CacheStats(0, 0, 0);
+
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (locks[i]) {
+                total = total.plus(segments[i].stats());
+            }
+        }
+
+        return total;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (locks[i]) {
+                segments[i].clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of segments the keys are spread over.
+     *
+     * @return The stripe count.
+     */
+    public int stripes() {
+        return segments.length;
+    }
+
+    /**
+     * Selects the stripe responsible for a key.
+     *
+     * @param key The key to locate.
+     * @return The index of the segment owning the key, and of its lock.
+     */
+    private int stripeFor(K key) {
+        int h = key == null ? 0 : key.hashCode();
+        // spread the high bits so that keys differing only there still land on different stripes.
+        h ^= (h >>> 16);
+        h *= 0x9E3779B9;
+
+        return (h >>> 16) & mask;
+    }
+}
@@ -0,0 +1,32 @@
+package com.datastructures.caches;
+
+/**
+ * Computes the weight of a cache entry for weight-bounded eviction.
+ *
+ * @param <K> The type of keys maintained by the cache.
+ * @param <V> The type of cached values.
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Returns the weight of an entry. The weight is computed once, when the entry is stored.
+     *
+     * @param key   The key of the entry.
+     * @param value The value of the entry.
+     * @return The weight of the entry, which must not be negative.
+     */
+    int weigh(K key, V value);
+
+    /**
+     * Returns a weigher that gives every entry a weight of one, turning the weight bound
+     * into a bound on the number of entries.
+     *
+     * @param <K> The type of keys maintained by the cache.
+     * @param <V> The type of cached values.
+     * @return A weigher that always returns one.
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+}
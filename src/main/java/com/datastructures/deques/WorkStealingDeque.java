@@ -0,0 +1,216 @@
+package com.datastructures.deques;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Chase-Lev work-stealing deque.
+ * <p>
+ * One owner thread pushes and pops tasks at the bottom of the deque, like a stack, while any
+ * number of thief threads steal from the top. The owner's operations are plain reads and writes
+ * of its own index and only fall back to a compare-and-set when racing a thief for the very last
+ * element; thieves compete with each other through a compare-and-set on the top index. The
+ * elements live in a circular array that the owner doubles when it fills up; the old array is
+ * left untouched so that in-flight steals still read valid elements.
+ * </p>
+ * <p>
+ * {@link #push(Object)} and {@link #pop()} must only be called by the owner thread.
+ * {@link #steal()} may be called by any thread. Null elements are not permitted.
+ * </p>
+ *
+ * @param <T> the type of elements held in this deque
+ */
+public class WorkStealingDeque<T> {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicLong top = new AtomicLong();
+    private final LongAdder steals = new LongAdder();
+    private final LongAdder failedSteals = new LongAdder();
+    private volatile long bottom;
+    private volatile AtomicReferenceArray<T> buffer;
+
+    /**
+     * Constructs an empty deque with a default initial capacity.
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty deque, rounding the initial capacity up to a power of two.
+     *
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public WorkStealingDeque(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    String.format("Capacity needs to be between 1 and %d: %d", MAX_CAPACITY, capacity));
+        }
+
+        this.buffer = new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(2, capacity) * 2 - 1));
+    }
+
+    /**
+     * Pushes an element at the bottom of the deque. Owner thread only.
+     *
+     * @param value the element to push
+     * @throws NullPointerException if the element is null
+     */
+    public void push(T value) {
+        if (value == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+
+        long b = bottom;
+        long t = top.get();
+        AtomicReferenceArray<T> array = buffer;
+
+        if (b - t >= array.length() - 1) {
+            array = grow(array, t, b);
+        }
+
+        array.set((int) b & (array.length() - 1), value);
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes and returns the element at the bottom of the deque, the one pushed last. Owner
+     * thread only.
+     *
+     * @return the bottom element, or {@code null} if the deque is empty
+     */
+    public T pop() {
+        long b = bottom - 1;
+        AtomicReferenceArray<T> array = buffer;
+
+        // publishing the decremented bottom before reading top keeps thieves off this slot.
+        bottom = b;
+        long t = top.get();
+
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+
+        int slot = (int) b & (array.length() - 1);
+        T value = array.get(slot);
+
+        if (t == b) {
+            // last element: race the thieves for it.
+            if (top.compareAndSet(t, t + 1)) {
+                array.lazySet(slot, null);
+            }
+            else {
+                value = null;
+            }
+            bottom = b + 1;
+        }
+        else {
+            array.lazySet(slot, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the element at the top of the deque, the oldest one. Any thread may
+     * steal; a steal that loses a race with another thread or with the owner returns
+     * {@code null} and is counted as a failed steal.
+     *
+     * @return the top element, or {@code null} if the deque is empty or the race was lost
+     */
+    public T steal() {
+        long t = top.get();
+        long b = bottom;
+
+        if (t >= b) {
+            return null;
+        }
+
+        AtomicReferenceArray<T> array = buffer;
+        T value = array.get((int) t & (array.length() - 1));
+
+        if (value == null || !top.compareAndSet(t, t + 1)) {
+            failedSteals.increment();
+            return null;
+        }
+
+        steals.increment();
+        return value;
+    }
+
+    /**
+     * Returns an estimate of the number of elements in the deque.
+     *
+     * @return the number of elements, possibly stale under concurrent access
+     */
+    public int size() {
+        long n = bottom - top.get();
+        return n < 0 ? 0 : (int) n;
+    }
+
+    /**
+     * Checks whether the deque appears empty.
+     *
+     * @return {@code true} if the deque is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return bottom <= top.get();
+    }
+
+    /**
+     * Returns the length of the current circular array.
+     *
+     * @return the capacity of the deque
+     */
+    public int capacity() {
+        return buffer.length();
+    }
+
+    /**
+     * Returns how many steals have succeeded so far.
+     *
+     * @return the number of successful steals
+     */
+    public long stealCount() {
+        return steals.sum();
+    }
+
+    /**
+     * Returns how many steals found an element but lost the race for it.
+     *
+     * @return the number of failed steals
+     */
+    public long failedStealCount() {
+        return failedSteals.sum();
+    }
+
+    /**
+     * Copies the live elements into an array twice as large and publishes it.
+     *
+     * @param array the current array
+     * @param t     the top index
+     * @param b     the bottom index
+     * @return the new array
+     * @throws IllegalStateException if the deque cannot grow any further
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> array, long t, long b) {
+        if (array.length() >= MAX_CAPACITY) {
+            throw new IllegalStateException("Deque capacity exceeded");
+        }
+
+        AtomicReferenceArray<T> larger = new AtomicReferenceArray<>(array.length() << 1);
+        int oldMask = array.length() - 1;
+        int newMask = larger.length() - 1;
+
+        for (long i = t; i < b; i++) {
+            larger.set((int) i & newMask, array.get((int) i & oldMask));
+        }
+
+        buffer = larger;
+        return larger;
+    }
+}
@@ -0,0 +1,481 @@
+package com.datastructures.deques;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A small fork-join style executor built on {@link WorkStealingDeque}s, as a lightweight
+ * alternative to {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * Every worker owns a deque. Tasks forked by a running task go to the bottom of its worker's deque
+ * and are taken back LIFO, which keeps the working set hot in the cache; an idle worker picks a
+ * random victim and steals the oldest task from the top of its deque, which tends to be the
+ * largest remaining piece of work. Tasks submitted from outside the executor go through a shared
+ * submission queue. Idle workers park for a short while and are woken when new work appears.
+ * </p>
+ * <p>
+ * Worker threads come from a {@link ThreadFactory}, so the executor can run on platform threads
+ * or, on runtimes that provide them, on virtual threads (for example
+ * {@code new WorkStealingExecutor(n, Thread.ofVirtual().factory())}); workers only ever block by
+ * parking, which virtual threads handle cheaply. {@link #stealCount()} and
+ * {@link #failedStealCount()} aggregate the deque-level metrics of all workers.
+ * </p>
+ */
+public class WorkStealingExecutor implements Executor, AutoCloseable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int JOIN_SPINS = 64;
+    private static final ThreadLocal<Worker> CURRENT = new ThreadLocal<>();
+
+    /**
+     * A worker thread's state: its deque and its parking flag.
+     */
+    static final class Worker implements Runnable {
+        final WorkStealingExecutor executor;
+        final WorkStealingDeque<WorkStealingTask<?>> deque = new WorkStealingDeque<>();
+        volatile Thread thread;
+        volatile boolean parked;
+
+        /**
+         * Constructs a worker of an executor.
+         *
+         * @param executor the executor owning the worker
+         */
+        Worker(WorkStealingExecutor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Pushes a forked task on this worker's deque and wakes an idle worker to steal it.
+         *
+         * @param task the forked task
+         */
+        void push(WorkStealingTask<?> task) {
+            deque.push(task);
+            executor.signalWork();
+        }
+
+        /**
+         * Runs tasks until the executor is shut down and no work is left.
+         */
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            CURRENT.set(this);
+
+            try {
+                while (true) {
+                    WorkStealingTask<?> task = deque.pop();
+                    if (task == null) {
+                        task = executor.submissions.poll();
+                    }
+                    if (task == null) {
+                        task = steal();
+                    }
+
+                    if (task != null) {
+                        task.run();
+                    }
+                    else if (executor.shutdown && executor.submissions.isEmpty()) {
+                        break;
+                    }
+                    else {
+                        idle();
+                    }
+                }
+            }
+            finally {
+                CURRENT.remove();
+                executor.terminated.countDown();
+            }
+        }
+
+        /**
+         * Runs local and stolen tasks until a joined task has completed.
+         * <p>
+         * After {@value #JOIN_SPINS} consecutive attempts that found nothing to run, the worker
+         * registers with the joined task and parks: the completion of the task unparks it, and so
+         * does new work pushed while it is parked, since it is then flagged as idle. The park is
+         * also timed, so the worker rechecks the deques of the others now and then.
+         * </p>
+         *
+         * @param awaited the task being joined
+         */
+        void helpUntil(WorkStealingTask<?> awaited) {
+            int misses = 0;
+            boolean registered = false;
+
+            while (!awaited.isDone()) {
+                WorkStealingTask<?> task = deque.pop();
+                if (task == null) {
+                    task = steal();
+                }
+
+                if (task != null) {
+                    task.run();
+                    misses = 0;
+                }
+                else if (++misses < JOIN_SPINS) {
+                    Thread.onSpinWait();
+                }
+                else if (!registered) {
+                    registered = awaited.addWaiter();
+                }
+                else {
+                    parked = true;
+
+                    if (!awaited.isDone() && !executor.hasVisibleWork()) {
+                        LockSupport.parkNanos(awaited, IDLE_PARK_NANOS);
+                    }
+
+                    parked = false;
+                }
+            }
+        }
+
+        /**
+         * Tries to steal one task from each other worker, starting at a random victim.
+         *
+         * @return a stolen task, or null if every attempt failed
+         */
+        WorkStealingTask<?> steal() {
+            Worker[] workers = executor.workers;
+            int start = ThreadLocalRandom.current().nextInt(workers.length);
+
+            for (int i = 0; i < workers.length; i++) {
+                Worker victim = workers[(start + i) % workers.length];
+
+                if (victim != this) {
+                    WorkStealingTask<?> task = victim.deque.steal();
+                    if (task != null) {
+                        return task;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Parks briefly unless work became visible after the worker declared itself idle.
+         */
+        void idle() {
+            parked = true;
+
+            if (!executor.hasVisibleWork()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+
+            parked = false;
+        }
+    }
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<WorkStealingTask<?>> submissions = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch terminated;
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs an executor with one platform worker thread per available processor.
+     */
+    public WorkStealingExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an executor with a fixed number of daemon platform worker threads.
+     *
+     * @param parallelism the number of workers
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public WorkStealingExecutor(int parallelism) {
+        this(parallelism, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Constructs an executor whose worker threads are created by a factory.
+     *
+     * @param parallelism   the number of workers
+     * @param threadFactory the factory creating the worker threads
+     * @throws IllegalArgumentException if the parallelism is not positive
+     * @throws NullPointerException if the factory is null
+     */
+    public WorkStealingExecutor(int parallelism, ThreadFactory threadFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Parallelism needs to be at least 1: %d", parallelism));
+        }
+        if (threadFactory == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.workers = new Worker[parallelism];
+        this.terminated = new CountDownLatch(parallelism);
+
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(this);
+        }
+        for (Worker worker : workers) {
+            threadFactory.newThread(worker).start();
+        }
+    }
+
+    /**
+     * Runs a command asynchronously. Commands issued from a worker of this executor go to that
+     * worker's deque; others go through the submission queue.
+     *
+     * @param command the command to run
+     * @throws NullPointerException if the command is null
+     * @throws RejectedExecutionException if the executor has been shut down
+     */
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        submit(new WorkStealingTask<Void>() {
+            @Override
+            protected Void compute() {
+                command.run();
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Schedules a task for asynchronous execution.
+     *
+     * @param <V>  the type of the result of the task
+     * @param task the task to run
+     * @return the task, to be joined for its result
+     * @throws NullPointerException if the task is null
+     * @throws RejectedExecutionException if the executor has been shut down
+     */
+    public <V> WorkStealingTask<V> submit(WorkStealingTask<V> task) {
+        if (task == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        Worker worker = CURRENT.get();
+
+        if (worker != null && worker.executor == this) {
+            worker.push(task);
+            return task;
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+
+        submissions.offer(task);
+
+        // a shutdown racing this submission may already have let the workers go.
+        if (shutdown && submissions.remove(task)) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+
+        signalWork();
+        return task;
+    }
+
+    /**
+     * Runs a task on this executor and waits for its result.
+     *
+     * @param <V>  the type of the result of the task
+     * @param task the task to run
+     * @return the result of the task
+     * @throws NullPointerException if the task is null
+     * @throws RejectedExecutionException if the executor has been shut down
+     */
+    public <V> V invoke(WorkStealingTask<V> task) {
+        Worker worker = CURRENT.get();
+
+        if (worker != null && worker.executor == this) {
+            return task.invoke();
+        }
+
+        return submit(task).join();
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of the executor
+     */
+    public int parallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Returns the number of tasks stolen between workers so far.
+     *
+     * @return the total number of successful steals
+     */
+    public long stealCount() {
+        long count = 0;
+
+        for (Worker worker : workers) {
+            count += worker.deque.stealCount();
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of steals that lost a race for a task so far.
+     *
+     * @return the total number of failed steals
+     */
+    public long failedStealCount() {
+        long count = 0;
+
+        for (Worker worker : workers) {
+            count += worker.deque.failedStealCount();
+        }
+
+        return count;
+    }
+
+    /**
+     * Stops accepting external submissions. Workers finish the tasks already queued, including
+     * the ones those tasks fork, and then exit.
+     */
+    public void shutdown() {
+        shutdown = true;
+
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+    }
+
+    /**
+     * Checks whether the executor has been shut down.
+     *
+     * @return {@code true} if {@link #shutdown()} has been called; {@code false} otherwise
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Waits for all workers to exit after a shutdown.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return {@code true} if the workers exited; {@code false} if the timeout elapsed first
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * Shuts the executor down and waits for all queued work to finish.
+     */
+    @Override
+    public void close() {
+        shutdown();
+
+        boolean interrupted = false;
+        while (terminated.getCount() > 0) {
+            try {
+                terminated.await();
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the worker running on the current thread.
+     *
+     * @return the current worker
+     * @throws IllegalStateException if the current thread is not a worker
+     */
+    static Worker currentWorker() {
+        Worker worker = CURRENT.get();
+
+        if (worker == null) {
+            throw new IllegalStateException("Tasks can only be forked from a worker thread");
+        }
+
+        return worker;
+    }
+
+    /**
+     * Waits for a task to complete: a worker helps run other tasks in the meantime, any other
+     * thread parks, without being interruptible, until the completion of the task unparks it.
+     *
+     * @param task the task being joined
+     */
+    static void awaitCompletion(WorkStealingTask<?> task) {
+        Worker worker = CURRENT.get();
+
+        if (worker != null) {
+            worker.helpUntil(task);
+            return;
+        }
+
+        boolean interrupted = false;
+
+        if (task.addWaiter()) {
+            while (!task.isDone()) {
+                LockSupport.park(task);
+
+                if (Thread.interrupted()) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wakes one parked worker, if any, so that it looks for the newly available work.
+     */
+    private void signalWork() {
+        for (Worker worker : workers) {
+            if (worker.parked) {
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether any queue currently holds a task.
+     *
+     * @return {@code true} if some task is waiting to run; {@code false} otherwise
+     */
+    private boolean hasVisibleWork() {
+        if (!submissions.isEmpty()) {
+            return true;
+        }
+
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,174 @@
+package com.datastructures.deques;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A task run by a {@link WorkStealingExecutor}, in the style of
+ * {@link java.util.concurrent.RecursiveTask}.
+ * <p>
+ * A task splits its work by creating subtasks, calling {@link #fork()} on them, which pushes them
+ * on the current worker's deque where idle workers can steal them, and then {@link #join()}ing
+ * them. A worker waiting in {@code join()} keeps running tasks from its own deque, or steals from
+ * others, until the joined task has completed; when there is nothing left to help with, it parks
+ * and is unparked by the completion of the task. Threads only ever wait by parking, never on a
+ * monitor, so joins do not pin virtual threads to their carriers.
+ * </p>
+ *
+ * @param <V> the type of the result of the task
+ */
+public abstract class WorkStealingTask<V> {
+    private static final int NEW = 0;
+    private static final int NORMAL = 1;
+    private static final int EXCEPTIONAL = 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<WorkStealingTask, Waiter> WAITERS =
+            AtomicReferenceFieldUpdater.newUpdater(WorkStealingTask.class, Waiter.class, "waiters");
+
+    /**
+     * Marks the waiter list of a completed task, on which no thread can register any more.
+     */
+    private static final Waiter COMPLETED = new Waiter(null, null);
+
+    /**
+     * A node of the list of threads parked until the task completes.
+     */
+    private static final class Waiter {
+        final Thread thread;
+        final Waiter next;
+
+        /**
+         * Constructs a node.
+         *
+         * @param thread the waiting thread
+         * @param next   the rest of the list
+         */
+        Waiter(Thread thread, Waiter next) {
+            this.thread = thread;
+            this.next = next;
+        }
+    }
+
+    private volatile int status;
+    private volatile Waiter waiters;
+    private V result;
+    private Throwable exception;
+
+    /**
+     * Performs the work of this task.
+     *
+     * @return the result of the task
+     */
+    protected abstract V compute();
+
+    /**
+     * Schedules this task on the deque of the current worker thread so that it runs
+     * asynchronously, possibly on another worker that steals it.
+     *
+     * @return this task
+     * @throws IllegalStateException if the calling thread is not a worker of a
+     *                               {@link WorkStealingExecutor}
+     */
+    public final WorkStealingTask<V> fork() {
+        WorkStealingExecutor.currentWorker().push(this);
+        return this;
+    }
+
+    /**
+     * Returns the result of this task once it has completed. Worker threads help run other tasks
+     * while waiting; other threads block.
+     *
+     * @return the result of the task
+     * @throws RuntimeException if the task completed by throwing it
+     * @throws Error            if the task completed by throwing it
+     */
+    public final V join() {
+        if (status == NEW) {
+            WorkStealingExecutor.awaitCompletion(this);
+        }
+
+        return report();
+    }
+
+    /**
+     * Runs this task in the calling thread and returns its result.
+     *
+     * @return the result of the task
+     */
+    public final V invoke() {
+        run();
+        return report();
+    }
+
+    /**
+     * Checks whether this task has completed, normally or not.
+     *
+     * @return {@code true} if the task is done; {@code false} otherwise
+     */
+    public final boolean isDone() {
+        return status != NEW;
+    }
+
+    /**
+     * Runs the task and records its outcome, then unparks every thread waiting in
+     * {@link #join()}.
+     */
+    final void run() {
+        try {
+            result = compute();
+            status = NORMAL;
+        }
+        catch (Throwable t) {
+            exception = t;
+            status = EXCEPTIONAL;
+        }
+
+        Waiter waiter = WAITERS.getAndSet(this, COMPLETED);
+
+        for (; waiter != null; waiter = waiter.next) {
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    /**
+     * Registers the current thread to be unparked when the task completes. A thread registers
+     * once per join and may then park repeatedly.
+     *
+     * @return {@code true} if the thread was registered; {@code false} if the task has already
+     *         completed
+     */
+    final boolean addWaiter() {
+        Thread thread = Thread.currentThread();
+
+        while (true) {
+            Waiter head = waiters;
+            if (head == COMPLETED) {
+                return false;
+            }
+            if (WAITERS.compareAndSet(this, head, new Waiter(thread, head))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the result of a completed task or rethrows its exception.
+     *
+     * @return the result of the task
+     */
+    private V report() {
+        if (status == EXCEPTIONAL) {
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            }
+            if (exception instanceof Error) {
+                throw (Error) exception;
+            }
+
+            throw new IllegalStateException(exception);
+        }
+
+        return result;
+    }
+}
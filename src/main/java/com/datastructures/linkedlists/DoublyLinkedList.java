@@ -1,11 +1,59 @@
 package com.datastructures.linkedlists;
 
+import java.util.Map;
+import java.util.List;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.NoSuchElementException;
+import java.util.AbstractSequentialList;
+import java.util.ConcurrentModificationException;
+
 /**
  * A generic implementation of a Doubly Linked List.
+ * <p>
+ * Besides the usual positional operations, node ranges can be moved between lists with
+ * {@link #splice}, {@link #splitAt} and {@link #concat} by relinking nodes instead of copying
+ * elements, and {@link #reverse()} runs in O(1) by flipping a direction flag that swaps the
+ * meaning of each node's {@code prev} and {@code next} links. {@link #reversed()} returns a
+ * reversed copy instead, and also resolves the {@code reversed()} methods that {@link List} and
+ * {@link Deque} both declare from Java 21 on.
+ * </p>
+ * <p>
+ * The list implements both {@link List} and {@link Deque}. Its iterators are fail-fast, and its
+ * {@link Spliterator} reports {@code SIZED} and splits by copying batches of nodes into arrays,
+ * so that {@code parallelStream()} hands real work to other threads instead of degrading to a
+ * sequential walk of the links.
+ * </p>
+ * <p>
+ * A list created with {@link #DoublyLinkedList(boolean) indexing enabled} also keeps a hash index
+ * from each value to the node(s) holding it, like a linked hash multiset: the occurrences of a
+ * duplicated value are chained through their nodes in list order. {@link #contains},
+ * {@link #remove(Object)} and the occurrence-removal methods then run in O(1) expected time, at
+ * the cost of a hash entry per distinct value (see {@link #indexFootprint()}). Moving ranges in or
+ * out of an indexed list becomes linear in the range length, since every moved node is re-indexed.
+ * </p>
+ * <p>
+ * One case is not constant time: inserting a value that is already present anywhere but at the
+ * ends of the list (with {@link #add(int, Object)}, {@link #set}, {@link #splice} or a list
+ * iterator) does not know where the new node falls among the other occurrences. Those are then
+ * put back in list order by a single scan of the list the next time the value is removed by
+ * value.
+ * </p>
  *
  * @param <T> The type of elements stored in the list.
  */
-public class DoublyLinkedList<T> {
+public class DoublyLinkedList<T> extends AbstractSequentialList<T> implements List<T>, Deque<T> {
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int HASH_ENTRY_BYTES = 32;
+    private static final int BUCKET_BYTES = 32;
 
     /**
      * Represents a node in the doubly linked list.
@@ -17,6 +65,13 @@ public class DoublyLinkedList<T> {
         Node<T> next;
         Node<T> prev;
 
+        /**
+         * The neighbouring occurrences of the same value in an indexed list, in physical
+         * {@code next} order. Null while the value occurs only once, or the list is not indexed.
+         */
+        Node<T> nextSame;
+        Node<T> prevSame;
+
         /**
          * Constructs a new node with the given data.
          *
@@ -29,15 +84,52 @@ public class DoublyLinkedList<T> {
         }
     }
 
+    /**
+     * Holds the ends of the chain of nodes of a value that occurs more than once in an indexed
+     * list.
+     * <p>
+     * While {@code ordered} is set, the chain follows the physical {@code next} order of the list,
+     * so the first and last occurrences can be read off its ends. Insertions in the middle of the
+     * list clear the flag, and the next lookup re-sorts the chain with a scan of the list.
+     * </p>
+     *
+     * @param <T> The type of data stored in the nodes.
+     */
+    private static class Bucket<T> {
+        Node<T> first;
+        Node<T> last;
+        int count;
+        boolean ordered = true;
+    }
+
     private Node<T> head;
     private Node<T> tail;
+    private int size;
+    private boolean reversed;
+
+    /**
+     * Maps each value to its single node, or to a {@link Bucket} of nodes when it is duplicated.
+     * Null unless indexing is enabled.
+     */
+    private final Map<Object, Object> valueIndex;
 
     /**
      * Initializes an empty doubly linked list.
      */
     public DoublyLinkedList() {
+        this(false);
+    }
+
+    /**
+     * Initializes an empty doubly linked list, optionally maintaining a hash index of its values.
+     *
+     * @param indexed {@code true} to index values for O(1) expected {@code contains} and
+     *                {@code remove(Object)}.
+     */
+    public DoublyLinkedList(boolean indexed) {
         this.head = null;
         this.tail = null;
+        this.valueIndex = indexed ? new HashMap<>() : null;
     }
 
     /**
@@ -57,286 +149,1370 @@ public class DoublyLinkedList<T> {
      * @throws IndexOutOfBoundsException If the index is out of bounds.
      */
     private void checkIndexBounds(int index) {
-        if (index < 0 || index >= size()) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index out of bounds");
         }
     }
 
     /**
-     * Adds a new element to the end of the list.
+     * Returns the node that logically follows the given node, honouring the direction flag.
      *
-     * @param data The data to be added.
+     * @param node The node whose successor is requested.
+     * @return The next node, or null if the node is the tail.
      */
-    public void add(T data) {
-        Node<T> newNode = this.newNode(data);
+    private Node<T> next(Node<T> node) {
+        return reversed ? node.prev : node.next;
+    }
 
-        if (tail == null) {
-            head = tail = newNode;
+    /**
+     * Returns the node that logically precedes the given node, honouring the direction flag.
+     *
+     * @param node The node whose predecessor is requested.
+     * @return The previous node, or null if the node is the head.
+     */
+    private Node<T> prev(Node<T> node) {
+        return reversed ? node.next : node.prev;
+    }
+
+    /**
+     * Sets the logical successor of a node, honouring the direction flag.
+     *
+     * @param node The node to update.
+     * @param next The new successor.
+     */
+    private void setNext(Node<T> node, Node<T> next) {
+        if (reversed) {
+            node.prev = next;
         }
         else {
-            tail.next = newNode;
-            newNode.prev = tail;
-            tail = newNode;
+            node.next = next;
         }
     }
 
     /**
-     * Adds a new element at a specific index.
+     * Sets the logical predecessor of a node, honouring the direction flag.
      *
-     * @param index The index at which to insert the new element.
-     * @param data  The data to be added.
-     * @throws IndexOutOfBoundsException If the index is out of range.
+     * @param node The node to update.
+     * @param prev The new predecessor.
      */
-    public void add(int index, T data) {
-        checkIndexBounds(index);
+    private void setPrev(Node<T> node, Node<T> prev) {
+        if (reversed) {
+            node.next = prev;
+        }
+        else {
+            node.prev = prev;
+        }
+    }
 
-        Node<T> newNode = this.newNode(data);
-        Node<T> current = head;
-        int currentIndex = 0;
+    /**
+     * Finds the node at a valid index, walking from the nearer end of the list.
+     *
+     * @param index The index of the node.
+     * @return The node at the index.
+     */
+    private Node<T> nodeAt(int index) {
+        Node<T> current;
 
-        if (index == 0) {
-            addFirst(data);
-            return;
+        if (index < (size >> 1)) {
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = next(current);
+            }
+        }
+        else {
+            current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = prev(current);
+            }
         }
 
-        while (current != null && currentIndex < index) {
-            current = current.next;
-            currentIndex++;
+        return current;
+    }
+
+    /**
+     * Links the chain {@code first..last} of {@code count} nodes between two adjacent nodes of
+     * this list. Either neighbour may be null at the ends of the list.
+     *
+     * @param first  The first node of the chain.
+     * @param last   The last node of the chain.
+     * @param count  The number of nodes in the chain.
+     * @param before The node that will precede the chain, or null to link at the head.
+     * @param after  The node that will follow the chain, or null to link at the tail.
+     */
+    private void linkChain(Node<T> first, Node<T> last, int count, Node<T> before, Node<T> after) {
+        setPrev(first, before);
+        setNext(last, after);
+
+        if (before == null) {
+            head = first;
+        }
+        else {
+            setNext(before, first);
         }
 
-        if (current == null) {
-            addLast(data);
+        if (after == null) {
+            tail = last;
         }
         else {
-            newNode.next = current;
-            newNode.prev = current.prev;
-            current.prev.next = newNode;
-            current.prev = newNode;
+            setPrev(after, last);
+        }
+
+        size += count;
+        modCount++;
+
+        if (valueIndex != null) {
+            indexChain(first, last, before == null, after == null);
         }
     }
 
     /**
-     * Adds a new element to the beginning of the list.
+     * Unlinks the chain {@code first..last} of {@code count} nodes from this list, leaving the
+     * chain's outer links dangling for the caller to overwrite.
      *
-     * @param data The data to be added.
+     * @param first The first node of the chain.
+     * @param last  The last node of the chain.
+     * @param count The number of nodes in the chain.
      */
-    public void addFirst(T data) {
-        Node<T> newNode = this.newNode(data);
+    private void unlinkChain(Node<T> first, Node<T> last, int count) {
+        if (valueIndex != null) {
+            for (Node<T> current = first; ; current = next(current)) {
+                unindexNode(current);
+                if (current == last) {
+                    break;
+                }
+            }
+        }
 
-        if (head == null) {
-            head = tail = newNode;
+        Node<T> before = prev(first);
+        Node<T> after = next(last);
+
+        if (before == null) {
+            head = after;
+        }
+        else {
+            setNext(before, after);
+        }
+
+        if (after == null) {
+            tail = before;
         }
         else {
-            head.prev = newNode;
-            newNode.next = head;
-            head = newNode;
+            setPrev(after, before);
         }
+
+        size -= count;
+        modCount++;
     }
 
     /**
-     * Adds a new element to the end of the list.
+     * Swaps the {@code prev} and {@code next} fields of every node of a chain detached from this
+     * list, so that it reads in the same order in a list with the opposite direction flag.
      *
-     * @param data The data to be added.
+     * @param first The first node of the chain.
+     * @param count The number of nodes in the chain.
      */
-    public void addLast(T data) {
-        Node<T> newNode = this.newNode(data);
+    private void flipLinks(Node<T> first, int count) {
+        Node<T> current = first;
 
-        if (tail == null) {
-            head = tail = newNode;
+        for (int i = 0; i < count; i++) {
+            Node<T> following = next(current);
+            Node<T> swap = current.next;
+            current.next = current.prev;
+            current.prev = swap;
+            current = following;
+        }
+    }
+
+
+    /**
+     * Adds the nodes of a chain that has just been linked into this list to the index.
+     * <p>
+     * A chain linked at either end of the list keeps every bucket in list order; a chain linked
+     * in the middle marks the buckets it joins as unordered.
+     * </p>
+     *
+     * @param first   The first node of the chain.
+     * @param last    The last node of the chain.
+     * @param atStart Whether the chain was linked at the head of the list.
+     * @param atEnd   Whether the chain was linked at the tail of the list.
+     */
+    private void indexChain(Node<T> first, Node<T> last, boolean atStart, boolean atEnd) {
+        if (atEnd || !atStart) {
+            for (Node<T> current = first; ; current = next(current)) {
+                indexNode(current, atEnd, false);
+                if (current == last) {
+                    break;
+                }
+            }
         }
         else {
-            tail.next = newNode;
-            newNode.prev = tail;
-            tail = newNode;
+            for (Node<T> current = last; ; current = prev(current)) {
+                indexNode(current, false, true);
+                if (current == first) {
+                    break;
+                }
+            }
         }
     }
 
     /**
-     * Retrieves an element at a specific index.
+     * Adds one node to the index.
      *
-     * @param index The index of the element to retrieve.
-     * @return The data at the specified index.
-     * @throws IndexOutOfBoundsException If the index is out of range.
+     * @param node    The node to index.
+     * @param isLast  Whether the node follows every other occurrence of its value in the list.
+     * @param isFirst Whether the node precedes every other occurrence of its value in the list.
      */
-    public T get(int index) {
-        checkIndexBounds(index);
+    @SuppressWarnings("unchecked")
+    private void indexNode(Node<T> node, boolean isLast, boolean isFirst) {
+        node.nextSame = null;
+        node.prevSame = null;
 
-        Node<T> current = head;
-        int currentIndex = 0;
+        Object entry = valueIndex.get(node.data);
+
+        if (entry == null) {
+            valueIndex.put(node.data, node);
+            return;
+        }
 
-        while (current != null && currentIndex < index) {
-            current = current.next;
-            currentIndex++;
+        Bucket<T> bucket;
+        if (entry instanceof Bucket) {
+            bucket = (Bucket<T>) entry;
+        }
+        else {
+            bucket = new Bucket<>();
+            bucket.first = bucket.last = (Node<T>) entry;
+            bucket.count = 1;
+            valueIndex.put(node.data, bucket);
         }
 
-        return current != null ? current.data : null;
+        // buckets are kept in physical order, which is the logical order read backwards when reversed.
+        if (isLast) {
+            if (reversed) {
+                prependSame(bucket, node);
+            }
+            else {
+                appendSame(bucket, node);
+            }
+        }
+        else if (isFirst) {
+            if (reversed) {
+                appendSame(bucket, node);
+            }
+            else {
+                prependSame(bucket, node);
+            }
+        }
+        else {
+            appendSame(bucket, node);
+            bucket.ordered = false;
+        }
     }
 
     /**
-     * Retrieves the first element in the list.
+     * Links a node after the physically last occurrence of its value.
      *
-     * @return The first element, or null if the list is empty.
+     * @param bucket The bucket of the value.
+     * @param node   The node to link.
      */
-    public T getFirst() {
-        return head != null ? head.data : null;
+    private static <T> void appendSame(Bucket<T> bucket, Node<T> node) {
+        node.prevSame = bucket.last;
+        bucket.last.nextSame = node;
+        bucket.last = node;
+        bucket.count++;
     }
 
     /**
-     * Retrieves the last element in the list.
+     * Links a node before the physically first occurrence of its value.
      *
-     * @return The last element, or null if the list is empty.
+     * @param bucket The bucket of the value.
+     * @param node   The node to link.
      */
-    public T getLast() {
-        return tail != null ? tail.data : null;
+    private static <T> void prependSame(Bucket<T> bucket, Node<T> node) {
+        node.nextSame = bucket.first;
+        bucket.first.prevSame = node;
+        bucket.first = node;
+        bucket.count++;
     }
 
     /**
-     * Removes an element at a specific index.
+     * Removes one node from the index in O(1), turning a bucket back into a single entry once
+     * only one occurrence remains.
      *
-     * @param index The index of the element to remove.
-     * @throws IndexOutOfBoundsException If the index is out of range.
+     * @param node The node to remove from the index.
      */
-    public void remove(int index) {
-        checkIndexBounds(index);
+    @SuppressWarnings("unchecked")
+    private void unindexNode(Node<T> node) {
+        Object entry = valueIndex.get(node.data);
 
-        if (index == 0) {
-            removeFirst();
-            return;
+        if (entry == node) {
+            valueIndex.remove(node.data);
         }
+        else if (entry instanceof Bucket) {
+            Bucket<T> bucket = (Bucket<T>) entry;
 
-        Node<T> current = head;
-        int currentIndex = 0;
-
-        while (current != null && currentIndex < index) {
-            current = current.next;
-            currentIndex++;
-        }
+            if (node.prevSame == null) {
+                bucket.first = node.nextSame;
+            }
+            else {
+                node.prevSame.nextSame = node.nextSame;
+            }
 
-        if (current != null) {
-            if (current.prev != null) {
-                current.prev.next = current.next;
+            if (node.nextSame == null) {
+                bucket.last = node.prevSame;
             }
-            if (current.next != null) {
-                current.next.prev = current.prev;
+            else {
+                node.nextSame.prevSame = node.prevSame;
             }
-            if (current == tail) {
-                tail = current.prev;
+
+            node.nextSame = null;
+            node.prevSame = null;
+
+            if (--bucket.count == 1) {
+                bucket.first.nextSame = null;
+                bucket.first.prevSame = null;
+                valueIndex.put(node.data, bucket.first);
             }
         }
     }
 
     /**
-     * Removes the first element in the list.
+     * Looks up the first or last occurrence of a value through the index, first putting the
+     * occurrences back in list order if an insertion in the middle of the list left them
+     * unordered.
+     *
+     * @param o     The value to look up.
+     * @param first {@code true} for the first occurrence, {@code false} for the last one.
+     * @return The node of the occurrence, or null if the value is absent.
      */
-    public void removeFirst() {
-        if (head == null) {
-            return;
-        }
-
-        head = head.next;
+    @SuppressWarnings("unchecked")
+    private Node<T> indexedOccurrence(Object o, boolean first) {
+        Object entry = valueIndex.get(o);
 
-        if (head != null) {
-            head.prev = null;
+        if (entry == null || entry instanceof Node) {
+            return (Node<T>) entry;
         }
-        else {
-            tail = null;
+
+        Bucket<T> bucket = (Bucket<T>) entry;
+        if (!bucket.ordered) {
+            reorder(bucket);
         }
+
+        return first != reversed ? bucket.first : bucket.last;
     }
 
     /**
-     * Removes the last element in the list.
+     * Relinks the chain of a bucket in the physical order of the list, with one scan that stops
+     * after the last occurrence.
+     *
+     * @param bucket The bucket to reorder.
      */
-    public void removeLast() {
-        if (tail == null) {
-            return;
+    private void reorder(Bucket<T> bucket) {
+        T value = bucket.first.data;
+        Node<T> previous = null;
+        int found = 0;
+
+        for (Node<T> current = reversed ? tail : head; found < bucket.count; current = current.next) {
+            if (Objects.equals(value, current.data)) {
+                current.prevSame = previous;
+                if (previous == null) {
+                    bucket.first = current;
+                }
+                else {
+                    previous.nextSame = current;
+                }
+                previous = current;
+                found++;
+            }
         }
 
-        tail = tail.prev;
+        previous.nextSame = null;
+        bucket.last = previous;
+        bucket.ordered = true;
+    }
 
-        if (tail != null) {
-            tail.next = null;
+    /**
+     * Replaces the data of a node in place, keeping the index up to date.
+     *
+     * @param node The node to update.
+     * @param data The new data.
+     */
+    private void replaceData(Node<T> node, T data) {
+        if (valueIndex != null) {
+            unindexNode(node);
+            node.data = data;
+            indexNode(node, next(node) == null, prev(node) == null);
         }
         else {
-            head = null;
+            node.data = data;
         }
     }
 
     /**
-     * Converts the list into a string representation.
+     * Adds a new element to the end of the list.
      *
-     * @return A string representation of the list.
+     * @param data The data to be added.
+     * @return Always {@code true}.
      */
     @Override
-    public String toString() {
-        if (head == null) {
-            return "List is empty";
+    public boolean add(T data) {
+        addLast(data);
+        return true;
+    }
+
+    /**
+     * Adds a new element at a specific index.
+     *
+     * @param index The index at which to insert the new element, between 0 and {@link #size()}.
+     * @param data  The data to be added.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public void add(int index, T data) {
+        if (index == size) {
+            addLast(data);
+            return;
         }
 
-        StringBuilder sb = new StringBuilder();
-        Node<T> currentNode = head;
+        checkIndexBounds(index);
 
-        while (currentNode != null) {
-            sb.append(currentNode.data);
-            if (currentNode.next != null) {
-                sb.append(" <-> ");
-            }
-            currentNode = currentNode.next;
-        }
+        Node<T> current = nodeAt(index);
+        Node<T> newNode = this.newNode(data);
+        linkChain(newNode, newNode, 1, prev(current), current);
+    }
 
-        sb.append(" <-> NULL");
-        return sb.toString();
+    /**
+     * Adds a new element to the beginning of the list.
+     *
+     * @param data The data to be added.
+     */
+    @Override
+    public void addFirst(T data) {
+        Node<T> newNode = this.newNode(data);
+        linkChain(newNode, newNode, 1, null, head);
     }
 
     /**
-     * Computes the size of the list.
+     * Adds a new element to the end of the list.
      *
-     * @return The number of elements in the list.
+     * @param data The data to be added.
      */
-    public int size() {
-        Node<T> current = head;
-        int length = 0;
+    @Override
+    public void addLast(T data) {
+        Node<T> newNode = this.newNode(data);
+        linkChain(newNode, newNode, 1, tail, null);
+    }
 
-        while (current != null) {
-            length++;
-            current = current.next;
-        }
+    /**
+     * Retrieves an element at a specific index.
+     *
+     * @param index The index of the element to retrieve.
+     * @return The data at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public T get(int index) {
+        checkIndexBounds(index);
 
-        return length;
+        return nodeAt(index).data;
     }
 
     /**
-     * Checks if the list contains a given element.
+     * Replaces the element at a specific index.
      *
-     * @param data The data to search for.
-     * @return True if the list contains the element, false otherwise.
+     * @param index The index of the element to replace.
+     * @param data  The new data.
+     * @return The data previously at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
      */
-    public boolean contains(T data) {
-        Node<T> current = head;
+    @Override
+    public T set(int index, T data) {
+        checkIndexBounds(index);
 
-        while (current != null) {
-            if (current.data.equals(data)) {
-                return true;
-            }
-            current = current.next;
+        Node<T> current = nodeAt(index);
+        T previous = current.data;
+        replaceData(current, data);
+
+        return previous;
+    }
+
+    /**
+     * Retrieves the first element in the list.
+     *
+     * @return The first element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public T getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
         }
 
-        return false;
+        return head.data;
     }
 
     /**
-     * Checks if the list is empty.
+     * Retrieves the last element in the list.
      *
-     * @return True if the list is empty, false otherwise.
+     * @return The last element.
+     * @throws NoSuchElementException If the list is empty.
      */
-    public boolean isEmpty() {
-        return head == null;
+    @Override
+    public T getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+
+        return tail.data;
     }
 
     /**
-     * Clears all elements from the list.
+     * Removes an element at a specific index.
+     *
+     * @param index The index of the element to remove.
+     * @return The removed element.
+     * @throws IndexOutOfBoundsException If the index is out of range.
      */
-    public void clear() {
-        this.head = null;
-        this.tail = null;
+    @Override
+    public T remove(int index) {
+        checkIndexBounds(index);
+
+        Node<T> current = nodeAt(index);
+        unlinkChain(current, current, 1);
+
+        return current.data;
+    }
+
+    /**
+     * Removes the first element in the list.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public T removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+
+        Node<T> first = head;
+        unlinkChain(first, first, 1);
+
+        return first.data;
+    }
+
+    /**
+     * Removes the last element in the list.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public T removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+
+        Node<T> last = tail;
+        unlinkChain(last, last, 1);
+
+        return last.data;
+    }
+
+    /**
+     * Removes the first occurrence of an element, comparing with {@link Objects#equals}.
+     *
+     * @param o The element to remove.
+     * @return {@code true} if an element was removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes the first occurrence of an element, walking from the head.
+     *
+     * @param o The element to remove.
+     * @return {@code true} if an element was removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (valueIndex != null) {
+            Node<T> node = indexedOccurrence(o, true);
+            if (node == null) {
+                return false;
+            }
+
+            unlinkChain(node, node, 1);
+            return true;
+        }
+
+        for (Node<T> current = head; current != null; current = next(current)) {
+            if (Objects.equals(o, current.data)) {
+                unlinkChain(current, current, 1);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the last occurrence of an element, walking from the tail.
+     *
+     * @param o The element to remove.
+     * @return {@code true} if an element was removed, {@code false} otherwise.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (valueIndex != null) {
+            Node<T> node = indexedOccurrence(o, false);
+            if (node == null) {
+                return false;
+            }
+
+            unlinkChain(node, node, 1);
+            return true;
+        }
+
+        for (Node<T> current = tail; current != null; current = prev(current)) {
+            if (Objects.equals(o, current.data)) {
+                unlinkChain(current, current, 1);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Inserts an element at the front of the list.
+     *
+     * @param data The data to be added.
+     * @return Always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(T data) {
+        addFirst(data);
+        return true;
+    }
+
+    /**
+     * Inserts an element at the end of the list.
+     *
+     * @param data The data to be added.
+     * @return Always {@code true}.
+     */
+    @Override
+    public boolean offerLast(T data) {
+        addLast(data);
+        return true;
+    }
+
+    /**
+     * Inserts an element at the end of the list.
+     *
+     * @param data The data to be added.
+     * @return Always {@code true}.
+     */
+    @Override
+    public boolean offer(T data) {
+        return offerLast(data);
+    }
+
+    /**
+     * Removes and returns the first element, or returns null if the list is empty.
+     *
+     * @return The first element, or null if the list is empty.
+     */
+    @Override
+    public T pollFirst() {
+        return head == null ? null : removeFirst();
+    }
+
+    /**
+     * Removes and returns the last element, or returns null if the list is empty.
+     *
+     * @return The last element, or null if the list is empty.
+     */
+    @Override
+    public T pollLast() {
+        return tail == null ? null : removeLast();
+    }
+
+    /**
+     * Removes and returns the first element, or returns null if the list is empty.
+     *
+     * @return The first element, or null if the list is empty.
+     */
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Retrieves the first element without removing it.
+     *
+     * @return The first element, or null if the list is empty.
+     */
+    @Override
+    public T peekFirst() {
+        return head != null ? head.data : null;
+    }
+
+    /**
+     * Retrieves the last element without removing it.
+     *
+     * @return The last element, or null if the list is empty.
+     */
+    @Override
+    public T peekLast() {
+        return tail != null ? tail.data : null;
+    }
+
+    /**
+     * Retrieves the first element without removing it.
+     *
+     * @return The first element, or null if the list is empty.
+     */
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Retrieves the first element without removing it.
+     *
+     * @return The first element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return The first element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Pushes an element onto the front of the list, using it as a stack.
+     *
+     * @param data The data to be pushed.
+     */
+    @Override
+    public void push(T data) {
+        addFirst(data);
+    }
+
+    /**
+     * Pops the element at the front of the list, using it as a stack.
+     *
+     * @return The first element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Returns a fail-fast list iterator starting at the given index.
+     *
+     * @param index The index of the first element returned by {@code next()}.
+     * @return A list iterator over the elements of the list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements from last to first.
+     *
+     * @return A descending iterator.
+     */
+    @Override
+    public Iterator<T> descendingIterator() {
+        ListItr itr = new ListItr(size);
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return itr.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return itr.previous();
+            }
+
+            @Override
+            public void remove() {
+                itr.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator that reports {@code ORDERED}, {@code SIZED}
+     * and {@code SUBSIZED}. Splits copy a growing batch of nodes into an array.
+     *
+     * @return A spliterator over the elements of the list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator();
+    }
+
+    /**
+     * Moves the elements {@code [fromIndex, toIndex)} of another list (or of this list) so that
+     * the first moved element ends up at {@code atIndex} in this list.
+     * <p>
+     * The nodes are relinked rather than copied, so the cost is the positional walk to the range
+     * ends and the insertion point. If the two lists have opposite direction flags (see
+     * {@link #reverse()}), the links of the moved nodes are also swapped in a single pass.
+     * </p>
+     * <p>
+     * When {@code fromList} is this list, {@code atIndex} refers to the list after the range has
+     * been taken out, so it must lie between 0 and {@code size() - (toIndex - fromIndex)}.
+     * </p>
+     *
+     * @param fromList  The list to take the elements from.
+     * @param fromIndex The index of the first element to move (inclusive).
+     * @param toIndex   The index after the last element to move (exclusive).
+     * @param atIndex   The index in this list at which the moved elements are inserted.
+     * @throws NullPointerException If {@code fromList} is null.
+     * @throws IndexOutOfBoundsException If the range or the insertion index is out of bounds.
+     */
+    public void splice(DoublyLinkedList<T> fromList, int fromIndex, int toIndex, int atIndex) {
+        if (fromList == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+        if (fromIndex < 0 || toIndex > fromList.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range out of bounds");
+        }
+
+        int count = toIndex - fromIndex;
+        int targetSize = fromList == this ? size - count : size;
+
+        if (atIndex < 0 || atIndex > targetSize) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+        if (count == 0) {
+            return;
+        }
+
+        Node<T> first = fromList.nodeAt(fromIndex);
+        Node<T> last = first;
+        for (int i = 1; i < count; i++) {
+            last = fromList.next(last);
+        }
+
+        fromList.unlinkChain(first, last, count);
+
+        if (fromList.reversed != this.reversed) {
+            fromList.flipLinks(first, count);
+        }
+
+        Node<T> after = atIndex == size ? null : nodeAt(atIndex);
+        Node<T> before = after == null ? tail : prev(after);
+        linkChain(first, last, count, before, after);
+    }
+
+    /**
+     * Splits the list in two: this list keeps the elements before {@code index} and the elements
+     * from {@code index} onwards are moved, without copying, into the returned list.
+     *
+     * @param index The index of the first element of the returned list, between 0 and
+     *              {@link #size()}.
+     * @return A new list holding the tail part of this list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public DoublyLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+
+        DoublyLinkedList<T> rest = new DoublyLinkedList<>(isIndexed());
+        rest.reversed = this.reversed;
+
+        if (index == size) {
+            return rest;
+        }
+
+        Node<T> first = nodeAt(index);
+        Node<T> last = tail;
+        int count = size - index;
+
+        unlinkChain(first, last, count);
+        rest.linkChain(first, last, count, null, null);
+
+        return rest;
+    }
+
+    /**
+     * Appends all elements of another list to the end of this one in O(1), leaving the other
+     * list empty.
+     * <p>
+     * If the two lists have opposite direction flags, the links of the moved nodes are swapped
+     * in a single pass.
+     * </p>
+     *
+     * @param other The list whose elements are moved to this list.
+     * @throws NullPointerException If {@code other} is null.
+     * @throws IllegalArgumentException If {@code other} is this list.
+     */
+    public void concat(DoublyLinkedList<T> other) {
+        if (other == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a list with itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+
+        Node<T> first = other.head;
+        Node<T> last = other.tail;
+        int count = other.size;
+
+        other.unlinkChain(first, last, count);
+
+        if (other.reversed != this.reversed) {
+            other.flipLinks(first, count);
+        }
+
+        linkChain(first, last, count, tail, null);
+    }
+
+    /**
+     * Reverses the order of the list in O(1) by swapping the head and tail and flipping the
+     * direction flag that decides which node link means "next".
+     */
+    public void reverse() {
+        Node<T> oldHead = head;
+        head = tail;
+        tail = oldHead;
+        reversed = !reversed;
+        modCount++;
+    }
+
+    /**
+     * Returns a new list holding the elements of this list in reverse order; this list is left
+     * unchanged. The copy is indexed if this list is.
+     * <p>
+     * On Java 21 and later this method also implements {@code List.reversed()} and
+     * {@code Deque.reversed()}, which a class implementing both interfaces must override with a
+     * common return type. Unlike those views, the result is an independent copy, built in O(n).
+     * </p>
+     *
+     * @return A reversed copy of the list.
+     */
+    public DoublyLinkedList<T> reversed() {
+        DoublyLinkedList<T> copy = new DoublyLinkedList<>(valueIndex != null);
+
+        for (Node<T> current = head; current != null; current = next(current)) {
+            copy.addLast(current.data);
+        }
+
+        copy.reverse();
+        return copy;
+    }
+
+    /**
+     * Converts the list into a string representation.
+     *
+     * @return A string representation of the list.
+     */
+    @Override
+    public String toString() {
+        if (head == null) {
+            return "List is empty";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        Node<T> currentNode = head;
+
+        while (currentNode != null) {
+            sb.append(currentNode.data);
+            if (next(currentNode) != null) {
+                sb.append(" <-> ");
+            }
+            currentNode = next(currentNode);
+        }
+
+        sb.append(" <-> NULL");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the size of the list, which is tracked on every update.
+     *
+     * @return The number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains a given element.
+     *
+     * @param data The data to search for.
+     * @return True if the list contains the element, false otherwise.
+     */
+    @Override
+    public boolean contains(Object data) {
+        if (valueIndex != null) {
+            return valueIndex.containsKey(data);
+        }
+
+        Node<T> current = head;
+
+        while (current != null) {
+            if (Objects.equals(current.data, data)) {
+                return true;
+            }
+            current = next(current);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, answering absent values from the
+     * index without a scan when indexing is enabled.
+     *
+     * @param o The element to search for.
+     * @return The index of the first occurrence, or -1 if the element is absent.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (valueIndex != null && !valueIndex.containsKey(o)) {
+            return -1;
+        }
+
+        return super.indexOf(o);
+    }
+
+    /**
+     * Returns the index of the last occurrence of an element, answering absent values from the
+     * index without a scan when indexing is enabled.
+     *
+     * @param o The element to search for.
+     * @return The index of the last occurrence, or -1 if the element is absent.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (valueIndex != null && !valueIndex.containsKey(o)) {
+            return -1;
+        }
+
+        return super.lastIndexOf(o);
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return True if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * Clears all elements from the list.
+     */
+    @Override
+    public void clear() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.reversed = false;
+        this.modCount++;
+
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+    }
+
+    /**
+     * Checks whether this list maintains a hash index of its values.
+     *
+     * @return {@code true} if indexing is enabled, {@code false} otherwise.
+     */
+    public boolean isIndexed() {
+        return valueIndex != null;
+    }
+
+    /**
+     * Estimates the heap memory used by the value index, on a 64-bit JVM with compressed
+     * references.
+     * <p>
+     * The estimate counts the hash table slots, one hash entry per distinct value and, for
+     * duplicated values, the bucket holding the ends of their chain. The nodes, including the
+     * occurrence links every node carries, and the values themselves are not counted, since the
+     * list needs them anyway.
+     * </p>
+     *
+     * @return The estimated size of the index in bytes, or 0 if indexing is disabled.
+     */
+    public long indexFootprint() {
+        if (valueIndex == null) {
+            return 0;
+        }
+
+        int entries = valueIndex.size();
+        long tableSlots = Math.max(16, Integer.highestOneBit(Math.max(1, (int) (entries / 0.75f))) << 1);
+        long bytes = tableSlots * REFERENCE_BYTES + (long) entries * HASH_ENTRY_BYTES;
+
+        for (Object entry : valueIndex.values()) {
+            if (entry instanceof Bucket) {
+                bytes += BUCKET_BYTES;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * A fail-fast list iterator that walks the nodes in the current direction of the list.
+     */
+    private final class ListItr implements ListIterator<T> {
+        private Node<T> nextNode;
+        private Node<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        /**
+         * Constructs an iterator positioned before the element at the given index.
+         *
+         * @param index A valid cursor position between 0 and {@link #size()}.
+         */
+        ListItr(int index) {
+            this.nextNode = index == size ? null : nodeAt(index);
+            this.nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextNode;
+            nextNode = DoublyLinkedList.this.next(nextNode);
+            nextIndex++;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            nextNode = nextNode == null ? tail : prev(nextNode);
+            lastReturned = nextNode;
+            nextIndex--;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (lastReturned == nextNode) {
+                nextNode = DoublyLinkedList.this.next(lastReturned);
+            }
+            else {
+                nextIndex--;
+            }
+
+            unlinkChain(lastReturned, lastReturned, 1);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T data) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            replaceData(lastReturned, data);
+        }
+
+        @Override
+        public void add(T data) {
+            checkForComodification();
+
+            Node<T> newNode = newNode(data);
+            Node<T> before = nextNode == null ? tail : prev(nextNode);
+            linkChain(newNode, newNode, 1, before, nextNode);
+
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Fails fast if the list was structurally modified outside this iterator.
+         *
+         * @throws ConcurrentModificationException If the list was modified.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * A late-binding spliterator that splits by copying batches of nodes into arrays.
+     * <p>
+     * A linked list cannot be split in the middle without walking to it, so each split hands off
+     * the next {@code batch} elements as an array-backed spliterator, growing the batch size by
+     * {@code BATCH_UNIT} every time. Array spliterators split evenly, which lets the fork-join
+     * framework distribute the work.
+     * </p>
+     */
+    private final class NodeSpliterator implements Spliterator<T> {
+        private Node<T> current;
+        private int est = -1;
+        private int expectedModCount;
+        private int batch;
+
+        /**
+         * Binds to the list on first use and returns the number of remaining elements.
+         *
+         * @return The number of elements not yet traversed or split off.
+         */
+        private int getEst() {
+            if (est < 0) {
+                current = head;
+                est = size;
+                expectedModCount = modCount;
+            }
+
+            return est;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int remaining = getEst();
+            Node<T> p = current;
+
+            if (remaining <= 1 || p == null) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(batch + BATCH_UNIT, remaining), MAX_BATCH);
+            Object[] array = new Object[n];
+            int j = 0;
+
+            do {
+                array[j++] = p.data;
+                p = DoublyLinkedList.this.next(p);
+            } while (p != null && j < n);
+
+            current = p;
+            batch = j;
+            est = remaining - j;
+
+            return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            if (getEst() <= 0 || current == null) {
+                return false;
+            }
+
+            Node<T> p = current;
+            current = DoublyLinkedList.this.next(p);
+            est--;
+            action.accept(p.data);
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            int n = getEst();
+            Node<T> p = current;
+            current = null;
+            est = 0;
+
+            for (int i = 0; i < n && p != null; i++) {
+                action.accept(p.data);
+                p = DoublyLinkedList.this.next(p);
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
@@ -0,0 +1,586 @@
+package com.datastructures.linkedlists;
+
+import java.util.Arrays;
+import java.nio.ByteOrder;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * A doubly linked list of fixed-size records that lives in an off-heap memory arena.
+ * <p>
+ * Instead of one object per node, every node is a slot in a direct {@link ByteBuffer} slab:
+ * the first 8 bytes hold the {@code prev} and {@code next} links as int slot numbers and the rest
+ * of the slot holds the payload, encoded inline by a {@link RecordCodec}. The arena grows by whole
+ * chunks, so existing slots never move, and removed slots are threaded onto an internal free list
+ * through their {@code next} field to be reused by later insertions.
+ * </p>
+ * <p>
+ * For lists of millions of small records this removes the per-node object header and references
+ * of {@link DoublyLinkedList} and leaves the garbage collector nothing to scan but a handful of
+ * buffers. Values are decoded on every read, so it suits primitive-like payloads best.
+ * Null values are not supported and this class is not thread-safe.
+ * </p>
+ *
+ * @param <T> The type of elements stored in the list.
+ */
+public class OffHeapDoublyLinkedList<T> {
+    private static final int NIL = -1;
+    private static final int PREV_OFFSET = 0;
+    private static final int NEXT_OFFSET = Integer.BYTES;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int DEFAULT_SLOTS_PER_CHUNK = 1 << 16;
+
+    private final RecordCodec<T> codec;
+    private final int slotSize;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+
+    private int head;
+    private int tail;
+    private int freeHead;
+    private int highWater;
+    private int size;
+
+    /**
+     * Initializes an empty list using the default chunk size of 65536 slots.
+     *
+     * @param codec The codec encoding the payload of each node.
+     * @throws NullPointerException If the codec is null.
+     */
+    public OffHeapDoublyLinkedList(RecordCodec<T> codec) {
+        this(codec, DEFAULT_SLOTS_PER_CHUNK);
+    }
+
+    /**
+     * Initializes an empty list whose arena grows by chunks of the given number of slots.
+     * <p>
+     * The number of slots per chunk is rounded up to the next power of two.
+     * </p>
+     *
+     * @param codec         The codec encoding the payload of each node.
+     * @param slotsPerChunk The number of nodes each arena chunk can hold.
+     * @throws NullPointerException If the codec is null.
+     * @throws IllegalArgumentException If a chunk would not fit in a single buffer.
+     */
+    public OffHeapDoublyLinkedList(RecordCodec<T> codec, int slotsPerChunk) {
+        if (codec == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+        if (codec.recordSize() < 0) {
+            throw new IllegalArgumentException("Record size needs to be non-negative");
+        }
+
+        this.codec = codec;
+        this.slotSize = HEADER_SIZE + codec.recordSize();
+
+        int slots = slotsPerChunk <= 1 ? 1 : Integer.highestOneBit(slotsPerChunk - 1) << 1;
+        if (slots <= 0 || (long) slots * slotSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("A chunk of %d slots of %d bytes does not fit in a buffer", slotsPerChunk, slotSize));
+        }
+
+        this.chunkShift = Integer.numberOfTrailingZeros(slots);
+        this.chunkMask = slots - 1;
+        this.chunks = new ByteBuffer[4];
+        this.clear();
+    }
+
+    /**
+     * Adds a new element to the end of the list.
+     *
+     * @param data The data to be added.
+     */
+    public void add(T data) {
+        addLast(data);
+    }
+
+    /**
+     * Adds a new element at a specific index, shifting the following elements.
+     *
+     * @param index The index at which to insert the new element, between 0 and {@link #size()}.
+     * @param data  The data to be added.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public void add(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+
+        if (index == size) {
+            addLast(data);
+            return;
+        }
+        if (index == 0) {
+            addFirst(data);
+            return;
+        }
+
+        int successor = slotAt(index);
+        int predecessor = prev(successor);
+        int slot = allocate(data);
+
+        setPrev(slot, predecessor);
+        setNext(slot, successor);
+        setNext(predecessor, slot);
+        setPrev(successor, slot);
+        size++;
+    }
+
+    /**
+     * Adds a new element to the beginning of the list.
+     *
+     * @param data The data to be added.
+     */
+    public void addFirst(T data) {
+        int slot = allocate(data);
+
+        setPrev(slot, NIL);
+        setNext(slot, head);
+
+        if (head == NIL) {
+            tail = slot;
+        }
+        else {
+            setPrev(head, slot);
+        }
+
+        head = slot;
+        size++;
+    }
+
+    /**
+     * Adds a new element to the end of the list.
+     *
+     * @param data The data to be added.
+     */
+    public void addLast(T data) {
+        int slot = allocate(data);
+
+        setPrev(slot, tail);
+        setNext(slot, NIL);
+
+        if (tail == NIL) {
+            head = slot;
+        }
+        else {
+            setNext(tail, slot);
+        }
+
+        tail = slot;
+        size++;
+    }
+
+    /**
+     * Retrieves an element at a specific index, walking from the nearer end of the list.
+     *
+     * @param index The index of the element to retrieve.
+     * @return The data at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public T get(int index) {
+        checkIndexBounds(index);
+        return read(slotAt(index));
+    }
+
+    /**
+     * Replaces the element at a specific index.
+     *
+     * @param index The index of the element to replace.
+     * @param data  The new data.
+     * @return The data previously at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public T set(int index, T data) {
+        checkIndexBounds(index);
+        checkNotNull(data);
+
+        int slot = slotAt(index);
+        T previous = read(slot);
+        codec.write(chunk(slot), payloadOffset(slot), data);
+
+        return previous;
+    }
+
+    /**
+     * Retrieves the first element in the list.
+     *
+     * @return The first element, or null if the list is empty.
+     */
+    public T getFirst() {
+        return head != NIL ? read(head) : null;
+    }
+
+    /**
+     * Retrieves the last element in the list.
+     *
+     * @return The last element, or null if the list is empty.
+     */
+    public T getLast() {
+        return tail != NIL ? read(tail) : null;
+    }
+
+    /**
+     * Removes an element at a specific index and returns its slot to the free list.
+     *
+     * @param index The index of the element to remove.
+     * @return The removed data.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public T remove(int index) {
+        checkIndexBounds(index);
+
+        int slot = slotAt(index);
+        T data = read(slot);
+        unlink(slot);
+
+        return data;
+    }
+
+    /**
+     * Removes the first element in the list.
+     *
+     * @return The removed element, or null if the list is empty.
+     */
+    public T removeFirst() {
+        if (head == NIL) {
+            return null;
+        }
+
+        T data = read(head);
+        unlink(head);
+
+        return data;
+    }
+
+    /**
+     * Removes the last element in the list.
+     *
+     * @return The removed element, or null if the list is empty.
+     */
+    public T removeLast() {
+        if (tail == NIL) {
+            return null;
+        }
+
+        T data = read(tail);
+        unlink(tail);
+
+        return data;
+    }
+
+    /**
+     * Performs an action for each element, from first to last.
+     *
+     * @param action The action to perform.
+     */
+    public void forEach(Consumer<? super T> action) {
+        for (int slot = head; slot != NIL; slot = next(slot)) {
+            action.accept(read(slot));
+        }
+    }
+
+    /**
+     * Converts the list into a string representation.
+     *
+     * @return A string representation of the list.
+     */
+    @Override
+    public String toString() {
+        if (head == NIL) {
+            return "List is empty";
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int slot = head; slot != NIL; slot = next(slot)) {
+            sb.append(read(slot));
+            if (next(slot) != NIL) {
+                sb.append(" <-> ");
+            }
+        }
+
+        sb.append(" <-> NULL");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list contains a given element.
+     *
+     * @param data The data to search for.
+     * @return True if the list contains the element, false otherwise.
+     */
+    public boolean contains(T data) {
+        for (int slot = head; slot != NIL; slot = next(slot)) {
+            if (read(slot).equals(data)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return True if the list is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears all elements from the list and releases every arena chunk but the first.
+     */
+    public void clear() {
+        if (chunkCount > 1) {
+            Arrays.fill(chunks, 1, chunkCount, null);
+            chunkCount = 1;
+        }
+
+        head = tail = freeHead = NIL;
+        highWater = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of slots currently allocated in the arena, used or free.
+     *
+     * @return The capacity of the arena in nodes.
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Returns the number of bytes of direct memory held by the arena.
+     *
+     * @return The off-heap footprint in bytes.
+     */
+    public long offHeapBytes() {
+        return capacity() * slotSize;
+    }
+
+    /**
+     * Checks if the provided index is within the valid range.
+     *
+     * @param index The index to check.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    private void checkIndexBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+    }
+
+    /**
+     * Rejects null values, which cannot be encoded inline.
+     *
+     * @param data The value to check.
+     * @throws NullPointerException If the value is null.
+     */
+    private void checkNotNull(T data) {
+        if (data == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+    }
+
+    /**
+     * Finds the slot holding the element at an index, walking from the nearer end.
+     *
+     * @param index A valid element index.
+     * @return The slot number of the element.
+     */
+    private int slotAt(int index) {
+        int slot;
+
+        if (index < (size >> 1)) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next(slot);
+            }
+        }
+        else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = prev(slot);
+            }
+        }
+
+        return slot;
+    }
+
+    /**
+     * Takes a slot from the free list, or from the end of the arena, and writes the payload into it.
+     * If the codec fails, the slot is given back before the exception propagates.
+     *
+     * @param data The payload to store.
+     * @return The slot number of the new, unlinked node.
+     */
+    private int allocate(T data) {
+        checkNotNull(data);
+
+        int slot;
+        boolean reused = freeHead != NIL;
+
+        if (reused) {
+            slot = freeHead;
+            freeHead = next(slot);
+        }
+        else {
+            if (highWater == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Arena is full");
+            }
+            if (highWater >>> chunkShift == chunkCount) {
+                addChunk();
+            }
+            slot = highWater++;
+        }
+
+        try {
+            codec.write(chunk(slot), payloadOffset(slot), data);
+        }
+        catch (RuntimeException | Error e) {
+            if (reused) {
+                setNext(slot, freeHead);
+                freeHead = slot;
+            }
+            else {
+                highWater--;
+            }
+            throw e;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Appends a new direct buffer to the arena.
+     */
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+
+        chunks[chunkCount++] = ByteBuffer.allocateDirect((chunkMask + 1) * slotSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Unlinks a node from the list and pushes its slot onto the free list.
+     *
+     * @param slot The slot of the node to remove.
+     */
+    private void unlink(int slot) {
+        int before = prev(slot);
+        int after = next(slot);
+
+        if (before == NIL) {
+            head = after;
+        }
+        else {
+            setNext(before, after);
+        }
+
+        if (after == NIL) {
+            tail = before;
+        }
+        else {
+            setPrev(after, before);
+        }
+
+        setNext(slot, freeHead);
+        freeHead = slot;
+        size--;
+    }
+
+    /**
+     * Decodes the payload stored in a slot.
+     *
+     * @param slot The slot to read.
+     * @return The decoded element.
+     */
+    private T read(int slot) {
+        return codec.read(chunk(slot), payloadOffset(slot));
+    }
+
+    /**
+     * Returns the buffer holding a slot.
+     *
+     * @param slot The slot number.
+     * @return The chunk containing the slot.
+     */
+    private ByteBuffer chunk(int slot) {
+        return chunks[slot >>> chunkShift];
+    }
+
+    /**
+     * Returns the byte offset of a slot within its chunk.
+     *
+     * @param slot The slot number.
+     * @return The offset of the slot header.
+     */
+    private int slotOffset(int slot) {
+        return (slot & chunkMask) * slotSize;
+    }
+
+    /**
+     * Returns the byte offset of a slot's payload within its chunk.
+     *
+     * @param slot The slot number.
+     * @return The offset of the payload.
+     */
+    private int payloadOffset(int slot) {
+        return slotOffset(slot) + HEADER_SIZE;
+    }
+
+    /**
+     * Reads the {@code prev} link of a slot.
+     *
+     * @param slot The slot number.
+     * @return The slot of the previous node, or {@code NIL}.
+     */
+    private int prev(int slot) {
+        return chunk(slot).getInt(slotOffset(slot) + PREV_OFFSET);
+    }
+
+    /**
+     * Reads the {@code next} link of a slot.
+     *
+     * @param slot The slot number.
+     * @return The slot of the next node (or next free slot), or {@code NIL}.
+     */
+    private int next(int slot) {
+        return chunk(slot).getInt(slotOffset(slot) + NEXT_OFFSET);
+    }
+
+    /**
+     * Writes the {@code prev} link of a slot.
+     *
+     * @param slot  The slot number.
+     * @param value The slot of the previous node, or {@code NIL}.
+     */
+    private void setPrev(int slot, int value) {
+        chunk(slot).putInt(slotOffset(slot) + PREV_OFFSET, value);
+    }
+
+    /**
+     * Writes the {@code next} link of a slot.
+     *
+     * @param slot  The slot number.
+     * @param value The slot of the next node, or {@code NIL}.
+     */
+    private void setNext(int slot, int value) {
+        chunk(slot).putInt(slotOffset(slot) + NEXT_OFFSET, value);
+    }
+}
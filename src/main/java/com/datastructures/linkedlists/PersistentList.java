@@ -0,0 +1,384 @@
+package com.datastructures.linkedlists;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.RandomAccess;
+import java.util.AbstractList;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, persistent list with structural sharing between versions.
+ * <p>
+ * The elements are stored in a 32-way bit-partitioned trie whose leaves hold 32 elements each,
+ * plus a separate tail leaf for the most recent elements. Every "modifying" operation returns a
+ * new version that copies only the path from the root to the changed leaf (at most
+ * log<sub>32</sub>(n) arrays of 32 references) and shares everything else with the old version.
+ * Appending to the tail copies nothing but the tail itself.
+ * </p>
+ * <p>
+ * Because versions never change, taking a snapshot is just keeping a reference: a writer can
+ * publish each new version through a {@code volatile} field or an
+ * {@link java.util.concurrent.atomic.AtomicReference}, and readers can iterate any old version
+ * without locks or copying while the writer keeps appending.
+ * </p>
+ * <p>
+ * The list implements the read-only part of {@link java.util.List}; the mutators inherited from
+ * {@link AbstractList} throw {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * @param <T> The type of elements stored in the list.
+ */
+public final class PersistentList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    /**
+     * Constructs a version of the list from its trie and tail.
+     *
+     * @param size  The number of elements.
+     * @param shift The bit shift of the root level.
+     * @param root  The root node of the trie.
+     * @param tail  The tail leaf holding the last elements.
+     */
+    private PersistentList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <T> The type of elements stored in the list.
+     * @return The empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the given elements in order.
+     *
+     * @param <T>      The type of elements stored in the list.
+     * @param elements The elements of the list.
+     * @return A list containing the elements.
+     */
+    @SafeVarargs
+    public static <T> PersistentList<T> of(T... elements) {
+        PersistentList<T> list = empty();
+
+        for (T element : elements) {
+            list = list.append(element);
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns a list holding the elements of an iterable, in iteration order.
+     *
+     * @param <T>      The type of elements stored in the list.
+     * @param elements The elements of the list.
+     * @return A list containing the elements.
+     */
+    public static <T> PersistentList<T> copyOf(Iterable<? extends T> elements) {
+        PersistentList<T> list = empty();
+
+        for (T element : elements) {
+            list = list.append(element);
+        }
+
+        return list;
+    }
+
+    /**
+     * Retrieves an element at a specific index in O(log<sub>32</sub> n).
+     *
+     * @param index The index of the element to retrieve.
+     * @return The data at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns the number of elements in this version.
+     *
+     * @return The number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new version with an element added at the end. This version is unchanged.
+     *
+     * @param data The data to be added.
+     * @return The new version of the list.
+     */
+    public PersistentList<T> append(T data) {
+        // room in the tail: copy only the tail.
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = data;
+
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+
+        // full tail: push it into the trie, adding a level when the root itself is full.
+        Object[] newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        }
+        else {
+            newRoot = pushTail(shift, root, tail);
+        }
+
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[] {data});
+    }
+
+    /**
+     * Returns a new version with the element at an index replaced. This version is unchanged.
+     *
+     * @param index The index of the element to replace.
+     * @param data  The new data.
+     * @return The new version of the list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public PersistentList<T> update(int index, T data) {
+        checkIndexBounds(index);
+
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = data;
+
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+
+        return new PersistentList<>(size, shift, updatePath(shift, root, index, data), tail);
+    }
+
+    /**
+     * Returns a new version without its last element. This version is unchanged.
+     *
+     * @return The new version of the list.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public PersistentList<T> dropLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+
+        if (size - tailOffset() > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // the tail becomes empty: the last leaf of the trie becomes the new tail.
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns an iterator that walks the leaves directly instead of descending from the root for
+     * every element.
+     *
+     * @return An iterator over this version of the list.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private Object[] leaf = size > 0 ? leafFor(0) : EMPTY_TAIL;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (cursor > 0 && (cursor & MASK) == 0) {
+                    leaf = leafFor(cursor);
+                }
+
+                return (T) leaf[cursor++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Checks if the provided index is within the valid range.
+     *
+     * @param index The index to check.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    private void checkIndexBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+    }
+
+    /**
+     * Returns the index of the first element stored in the tail.
+     *
+     * @return The tail offset.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf array holding the element at an index.
+     *
+     * @param index The index of the element.
+     * @return The leaf containing the element.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    private Object[] leafFor(int index) {
+        checkIndexBounds(index);
+
+        if (index >= tailOffset()) {
+            return tail;
+        }
+
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+
+        return node;
+    }
+
+    /**
+     * Copies the path to the rightmost free slot of a subtree and hangs the full tail there.
+     *
+     * @param level    The bit shift of the current level.
+     * @param parent   The node of the current level.
+     * @param tailNode The full tail leaf to insert.
+     * @return The copied node.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        Object[] inserted;
+
+        if (level == BITS) {
+            inserted = tailNode;
+        }
+        else {
+            Object[] child = (Object[]) parent[subIndex];
+            inserted = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+
+        result[subIndex] = inserted;
+        return result;
+    }
+
+    /**
+     * Builds a chain of single-child nodes down to a leaf.
+     *
+     * @param level The bit shift of the top node of the chain.
+     * @param leaf  The leaf at the bottom of the chain.
+     * @return The top node of the chain.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+
+        return node;
+    }
+
+    /**
+     * Copies the path to an element and replaces it.
+     *
+     * @param level The bit shift of the current level.
+     * @param node  The node of the current level.
+     * @param index The index of the element.
+     * @param data  The new data.
+     * @return The copied node.
+     */
+    private static Object[] updatePath(int level, Object[] node, int index, Object data) {
+        Object[] result = node.clone();
+
+        if (level == 0) {
+            result[index & MASK] = data;
+        }
+        else {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = updatePath(level - BITS, (Object[]) node[subIndex], index, data);
+        }
+
+        return result;
+    }
+
+    /**
+     * Copies the path to the last leaf of the trie with that leaf removed.
+     *
+     * @param level The bit shift of the current level.
+     * @param node  The node of the current level.
+     * @return The copied node, or null if it became empty.
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+
+        if (level > BITS) {
+            Object[] child = popTail(level - BITS, (Object[]) node[subIndex]);
+            if (child == null && subIndex == 0) {
+                return null;
+            }
+
+            Object[] result = node.clone();
+            result[subIndex] = child;
+            return result;
+        }
+        else if (subIndex == 0) {
+            return null;
+        }
+
+        Object[] result = node.clone();
+        result[subIndex] = null;
+        return result;
+    }
+}
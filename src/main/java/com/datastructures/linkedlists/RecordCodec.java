@@ -0,0 +1,112 @@
+package com.datastructures.linkedlists;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes values of a fixed width into and out of a {@link ByteBuffer}.
+ * <p>
+ * Used by {@link OffHeapDoublyLinkedList} to store payloads inline in its memory arena. Every
+ * value must occupy exactly {@link #recordSize()} bytes.
+ * </p>
+ *
+ * @param <T> The type of the encoded values.
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Returns the number of bytes every encoded value occupies.
+     *
+     * @return The fixed record size in bytes.
+     */
+    int recordSize();
+
+    /**
+     * Writes a value at an absolute position of the buffer.
+     *
+     * @param buffer The buffer to write into.
+     * @param offset The absolute byte offset of the record.
+     * @param value  The value to encode.
+     */
+    void write(ByteBuffer buffer, int offset, T value);
+
+    /**
+     * Reads a value from an absolute position of the buffer.
+     *
+     * @param buffer The buffer to read from.
+     * @param offset The absolute byte offset of the record.
+     * @return The decoded value.
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Returns a codec storing {@code Integer} values in 4 bytes.
+     *
+     * @return The integer codec.
+     */
+    static RecordCodec<Integer> ints() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer value) {
+                buffer.putInt(offset, value);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec storing {@code Long} values in 8 bytes.
+     *
+     * @return The long codec.
+     */
+    static RecordCodec<Long> longs() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long value) {
+                buffer.putLong(offset, value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec storing {@code Double} values in 8 bytes.
+     *
+     * @return The double codec.
+     */
+    static RecordCodec<Double> doubles() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double value) {
+                buffer.putDouble(offset, value);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package com.datastructures.stacks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EmptyStackException;
+import java.util.function.BinaryOperator;
+
+/**
+ * A stack that answers minimum, maximum and an optional associative aggregate of its contents in
+ * O(1).
+ * <p>
+ * Alongside every element the stack stores the minimum, maximum and aggregate of that element and
+ * everything below it. A push combines the new element with the values of the level below and a
+ * pop simply discards the top level, so queries never rescan the stack. The aggregate can be any
+ * associative operation (sum, product, gcd, string concatenation, ...); it does not need an
+ * inverse.
+ * </p>
+ * <p>
+ * {@link SlidingWindowQueue} builds a FIFO queue with O(1) amortized window aggregates from two
+ * of these stacks.
+ * </p>
+ *
+ * @param <T> the type of elements held in this stack
+ */
+public class AggregateStack<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Comparator<? super T> comparator;
+    private final BinaryOperator<T> combiner;
+    private final boolean combineOnLeft;
+
+    private Object[] values;
+    private Object[] mins;
+    private Object[] maxs;
+    private Object[] aggregates;
+    private int size;
+
+    /**
+     * Constructs an empty stack tracking the minimum and maximum in natural order.
+     *
+     * @param <T> the type of elements held in this stack
+     * @return an empty min/max-tracking stack
+     */
+    public static <T extends Comparable<? super T>> AggregateStack<T> naturalOrder() {
+        return new AggregateStack<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructs an empty stack tracking the minimum and maximum according to a comparator.
+     *
+     * @param comparator the ordering used for {@link #min()} and {@link #max()}
+     * @throws NullPointerException if the comparator is null
+     */
+    public AggregateStack(Comparator<? super T> comparator) {
+        this(comparator, null, false);
+    }
+
+    /**
+     * Constructs an empty stack tracking the minimum, the maximum and the fold of an associative
+     * operator, from the bottom of the stack to the top.
+     *
+     * @param comparator the ordering used for {@link #min()} and {@link #max()}
+     * @param combiner   the associative operator folded by {@link #aggregate()}
+     * @throws NullPointerException if the comparator or the combiner is null
+     */
+    public AggregateStack(Comparator<? super T> comparator, BinaryOperator<T> combiner) {
+        this(comparator, combiner, false);
+        if (combiner == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+    }
+
+    /**
+     * Constructs an empty stack, choosing on which side new elements enter the fold.
+     *
+     * @param comparator    the ordering used for {@link #min()} and {@link #max()}
+     * @param combiner      the associative operator, or null to track only min and max
+     * @param combineOnLeft whether the fold is taken from the top of the stack down to the bottom,
+     *                      as needed by the front stack of a {@link SlidingWindowQueue}
+     * @throws NullPointerException if the comparator is null
+     */
+    AggregateStack(Comparator<? super T> comparator, BinaryOperator<T> combiner, boolean combineOnLeft) {
+        if (comparator == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.comparator = comparator;
+        this.combiner = combiner;
+        this.combineOnLeft = combineOnLeft;
+        this.values = new Object[DEFAULT_CAPACITY];
+        this.mins = new Object[DEFAULT_CAPACITY];
+        this.maxs = new Object[DEFAULT_CAPACITY];
+        this.aggregates = combiner == null ? null : new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Pushes an element onto the top of the stack and records the aggregates up to it.
+     *
+     * @param value the element to be pushed onto the stack
+     */
+    public void push(T value) {
+        if (size == values.length) {
+            int capacity = StackCapacity.grow(GrowthPolicy.doubling(), size);
+            values = Arrays.copyOf(values, capacity);
+            mins = Arrays.copyOf(mins, capacity);
+            maxs = Arrays.copyOf(maxs, capacity);
+            if (aggregates != null) {
+                aggregates = Arrays.copyOf(aggregates, capacity);
+            }
+        }
+
+        values[size] = value;
+
+        if (size == 0) {
+            mins[0] = value;
+            maxs[0] = value;
+            if (aggregates != null) {
+                aggregates[0] = value;
+            }
+        }
+        else {
+            T min = element(mins, size - 1);
+            T max = element(maxs, size - 1);
+            mins[size] = comparator.compare(value, min) < 0 ? value : min;
+            maxs[size] = comparator.compare(value, max) > 0 ? value : max;
+
+            if (aggregates != null) {
+                T below = element(aggregates, size - 1);
+                aggregates[size] = combineOnLeft ? combiner.apply(value, below) : combiner.apply(below, value);
+            }
+        }
+
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     *
+     * @return the element removed from the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    public T pop() throws EmptyStackException {
+        checkNotEmpty();
+
+        T value = element(values, --size);
+        values[size] = null;
+        mins[size] = null;
+        maxs[size] = null;
+        if (aggregates != null) {
+            aggregates[size] = null;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     *
+     * @return the element at the top of the stack, or {@code null} if the stack is empty
+     */
+    public T peek() {
+        return size == 0 ? null : element(values, size - 1);
+    }
+
+    /**
+     * Returns the smallest element currently in the stack.
+     *
+     * @return the minimum element
+     * @throws EmptyStackException if the stack is empty
+     */
+    public T min() {
+        checkNotEmpty();
+        return element(mins, size - 1);
+    }
+
+    /**
+     * Returns the largest element currently in the stack.
+     *
+     * @return the maximum element
+     * @throws EmptyStackException if the stack is empty
+     */
+    public T max() {
+        checkNotEmpty();
+        return element(maxs, size - 1);
+    }
+
+    /**
+     * Returns the fold of the combiner over the stack, from the bottom element to the top one.
+     *
+     * @return the aggregate of the stack contents
+     * @throws EmptyStackException if the stack is empty
+     * @throws IllegalStateException if the stack was created without a combiner
+     */
+    public T aggregate() {
+        if (aggregates == null) {
+            throw new IllegalStateException("No combiner was configured for this stack");
+        }
+
+        checkNotEmpty();
+        return element(aggregates, size - 1);
+    }
+
+    /**
+     * Returns the ordering used for {@link #min()} and {@link #max()}.
+     *
+     * @return the comparator of the stack
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the associative operator folded by {@link #aggregate()}.
+     *
+     * @return the combiner, or {@code null} if only min and max are tracked
+     */
+    public BinaryOperator<T> combiner() {
+        return combiner;
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Throws if the stack has no element to report on.
+     *
+     * @throws EmptyStackException if the stack is empty
+     */
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+    }
+
+    /**
+     * Reads a slot of one of the parallel arrays.
+     *
+     * @param array the array to read
+     * @param index the level to read
+     * @return the element stored at that level
+     */
+    @SuppressWarnings("unchecked")
+    private T element(Object[] array, int index) {
+        return (T) array[index];
+    }
+}
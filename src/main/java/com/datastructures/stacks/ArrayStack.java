@@ -0,0 +1,157 @@
+package com.datastructures.stacks;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * A generic stack backed by a resizable array.
+ * <p>
+ * Unlike {@link Stack}, which allocates a linked list node for every push, this stack stores its
+ * elements contiguously: a push only writes a slot (growing the array according to a
+ * {@link GrowthPolicy} when it is full) and a pop only clears one. Optionally, the array shrinks
+ * again after pops, with enough hysteresis that a stack oscillating around one size never
+ * reallocates on every push/pop pair.
+ * </p>
+ *
+ * @param <T> the type of elements held in this stack
+ */
+public class ArrayStack<T> {
+    private final GrowthPolicy growthPolicy;
+    private final boolean shrinkOnPop;
+    private final int minimumCapacity;
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty stack with the default capacity, doubling growth and no shrinking.
+     */
+    public ArrayStack() {
+        this(StackCapacity.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with the given capacity, doubling growth and no shrinking.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ArrayStack(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling(), false);
+    }
+
+    /**
+     * Constructs an empty stack with a custom growth policy.
+     *
+     * @param initialCapacity the initial length of the backing array, which is also the capacity
+     *                        the stack never shrinks below
+     * @param growthPolicy    decides the new capacity when the backing array is full
+     * @param shrinkOnPop     whether to halve the backing array once it is three-quarters empty
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @throws NullPointerException if the growth policy is null
+     */
+    public ArrayStack(int initialCapacity, GrowthPolicy growthPolicy, boolean shrinkOnPop) {
+        StackCapacity.validate(initialCapacity);
+        if (growthPolicy == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.elements = new Object[initialCapacity];
+        this.growthPolicy = growthPolicy;
+        this.shrinkOnPop = shrinkOnPop;
+        this.minimumCapacity = initialCapacity;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param value the element to be pushed onto the stack
+     */
+    public void push(T value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, StackCapacity.grow(growthPolicy, elements.length));
+        }
+
+        elements[size++] = value;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     *
+     * @return the element removed from the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() throws EmptyStackException {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+
+        T value = (T) elements[--size];
+        elements[size] = null;
+
+        if (shrinkOnPop) {
+            int capacity = StackCapacity.shrink(size, elements.length, minimumCapacity);
+            if (capacity != elements.length) {
+                elements = Arrays.copyOf(elements, capacity);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     *
+     * @return the element at the top of the stack, or {@code null} if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return size == 0 ? null : (T) elements[size - 1];
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the number of elements the stack can hold before growing
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all elements, keeping the current backing array.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Shrinks the backing array to the current size, but not below the initial capacity.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, minimumCapacity);
+        if (capacity < elements.length) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.datastructures.stacks;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, thread-safe stack (Treiber stack) with an elimination array.
+ * <p>
+ * The stack is a singly linked list whose top is swapped with a compare-and-set. Under contention
+ * a failed compare-and-set does not simply retry on the same hot top pointer: the thread instead
+ * visits a random slot of a small elimination array and waits there briefly for an opposite
+ * operation. A push and a pop that meet in a slot cancel out (the pushed element is handed
+ * directly to the popper) without touching the top pointer at all, so throughput keeps growing
+ * with the number of threads instead of collapsing on a single cache line.
+ * </p>
+ * <p>
+ * Null elements are not permitted. {@link #size()} walks the list and is only a snapshot.
+ * </p>
+ *
+ * @param <T> the type of elements held in this stack
+ */
+public class ConcurrentStack<T> {
+    private static final int DEFAULT_SPINS = 128;
+    private static final Object WAITING = new Object();
+    private static final Object TAKEN = new Object();
+    private static final Object CANCELLED = new Object();
+
+    /**
+     * A node of the linked list holding the stack elements.
+     *
+     * @param <T> the type of the element stored in the node
+     */
+    private static final class Node<T> {
+        final T item;
+        Node<T> next;
+
+        /**
+         * Constructs a node holding an element.
+         *
+         * @param item the element
+         */
+        Node(T item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * An operation waiting in an elimination slot. Its value starts as {@code WAITING} and is
+     * moved exactly once, either by a partner (to the pushed item for a waiting pop, or to
+     * {@code TAKEN} for a waiting push) or by its owner giving up (to {@code CANCELLED}).
+     *
+     * @param <T> the type of elements held in the stack
+     */
+    private static final class Offer<T> extends AtomicReference<Object> {
+        final boolean push;
+        final T item;
+
+        /**
+         * Constructs a waiting offer.
+         *
+         * @param push whether the offer is a push
+         * @param item the element to push, or null for a pop
+         */
+        Offer(boolean push, T item) {
+            super(WAITING);
+            this.push = push;
+            this.item = item;
+        }
+    }
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Offer<T>> eliminationArray;
+    private final int spins;
+    private final LongAdder eliminations = new LongAdder();
+
+    /**
+     * Constructs an empty stack with one elimination slot per available processor.
+     */
+    public ConcurrentStack() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_SPINS);
+    }
+
+    /**
+     * Constructs an empty stack with a custom elimination array.
+     *
+     * @param slots the number of elimination slots
+     * @param spins how many times a thread polls its slot before giving up on elimination
+     * @throws IllegalArgumentException if {@code slots} is not positive or {@code spins} is negative
+     */
+    public ConcurrentStack(int slots, int spins) {
+        if (slots < 1 || spins < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid elimination parameters: slots=%d, spins=%d", slots, spins));
+        }
+
+        this.eliminationArray = new AtomicReferenceArray<>(slots);
+        this.spins = spins;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param value the element to be pushed onto the stack
+     * @throws NullPointerException if the element is null
+     */
+    public void push(T value) {
+        if (value == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+
+        Node<T> node = new Node<>(value);
+        Offer<T> offer = null;
+
+        while (true) {
+            Node<T> current = top.get();
+            node.next = current;
+
+            if (top.compareAndSet(current, node)) {
+                return;
+            }
+
+            if (offer == null || offer.get() != WAITING) {
+                offer = new Offer<>(true, value);
+            }
+            if (eliminate(offer) != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     *
+     * @return the element removed from the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    public T pop() throws EmptyStackException {
+        T value = poll();
+
+        if (value == null) {
+            throw new EmptyStackException();
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack, or returns {@code null} if the
+     * stack is empty.
+     *
+     * @return the element removed from the top of the stack, or {@code null}
+     */
+    public T poll() {
+        Offer<T> offer = null;
+
+        while (true) {
+            Node<T> current = top.get();
+
+            if (current == null) {
+                return null;
+            }
+            if (top.compareAndSet(current, current.next)) {
+                return current.item;
+            }
+
+            if (offer == null || offer.get() != WAITING) {
+                offer = new Offer<>(false, null);
+            }
+
+            T value = eliminate(offer);
+            if (value != null) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     *
+     * @return the element at the top of the stack, or {@code null} if the stack is empty
+     */
+    public T peek() {
+        Node<T> current = top.get();
+        return current == null ? null : current.item;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Returns the number of elements in the stack by walking it. Concurrent updates may or may
+     * not be reflected.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        int size = 0;
+
+        for (Node<T> current = top.get(); current != null; current = current.next) {
+            size++;
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns how many push/pop pairs have been matched in the elimination array so far.
+     *
+     * @return the number of eliminated pairs
+     */
+    public long eliminationCount() {
+        return eliminations.sum();
+    }
+
+    /**
+     * Tries to pair an operation with an opposite one in a random elimination slot.
+     *
+     * @param offer the operation of the calling thread, in the {@code WAITING} state
+     * @return for a push, the pushed item if it was handed to a popper; for a pop, the received
+     *         item; {@code null} if no partner was found
+     */
+    @SuppressWarnings("unchecked")
+    private T eliminate(Offer<T> offer) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        Offer<T> other = eliminationArray.get(slot);
+
+        if (other == null) {
+            if (!eliminationArray.compareAndSet(slot, null, offer)) {
+                return null;
+            }
+
+            // wait in the slot for a partner, then withdraw if none came.
+            for (int i = 0; i < spins && offer.get() == WAITING; i++) {
+                Thread.onSpinWait();
+            }
+
+            if (offer.compareAndSet(WAITING, CANCELLED)) {
+                eliminationArray.compareAndSet(slot, offer, null);
+                return null;
+            }
+
+            Object result = offer.get();
+            return offer.push ? offer.item : (T) result;
+        }
+
+        if (other.push == offer.push) {
+            return null;
+        }
+
+        Object handOff = offer.push ? offer.item : TAKEN;
+
+        if (other.compareAndSet(WAITING, handOff)) {
+            eliminationArray.compareAndSet(slot, other, null);
+            eliminations.increment();
+            return offer.push ? offer.item : other.item;
+        }
+
+        return null;
+    }
+}
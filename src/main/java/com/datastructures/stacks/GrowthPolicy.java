@@ -0,0 +1,61 @@
+package com.datastructures.stacks;
+
+/**
+ * Decides how much an array-backed stack grows when its backing array is full.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Returns the capacity to grow to from the current capacity. Negative values are taken as an
+     * {@code int} overflow and raised to the maximum array size; other values that are not larger
+     * than the current capacity are raised to {@code currentCapacity + 1}.
+     *
+     * @param currentCapacity The length of the full backing array.
+     * @return The desired new capacity.
+     */
+    int nextCapacity(int currentCapacity);
+
+    /**
+     * Returns a policy that doubles the capacity, giving amortized O(1) pushes. The doubled
+     * capacity is capped at {@code Integer.MAX_VALUE} rather than overflowing.
+     *
+     * @return The doubling policy.
+     */
+    static GrowthPolicy doubling() {
+        return currentCapacity -> (int) Math.min(Integer.MAX_VALUE, (long) currentCapacity << 1);
+    }
+
+    /**
+     * Returns a policy that multiplies the capacity by a constant factor.
+     *
+     * @param factor The growth factor, which must be greater than 1.
+     * @return The multiplicative policy.
+     * @throws IllegalArgumentException If the factor is not greater than 1.
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("Growth factor needs to be greater than 1, was %s", factor));
+        }
+
+        return currentCapacity -> (int) Math.min(Integer.MAX_VALUE, Math.ceil(currentCapacity * factor));
+    }
+
+    /**
+     * Returns a policy that adds a fixed number of slots, trading amortized O(1) pushes for a
+     * tighter memory footprint.
+     *
+     * @param increment The number of slots to add, which must be positive.
+     * @return The additive policy.
+     * @throws IllegalArgumentException If the increment is not positive.
+     */
+    static GrowthPolicy increment(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Growth increment needs to be positive, was %d", increment));
+        }
+
+        return currentCapacity -> (int) Math.min(Integer.MAX_VALUE, (long) currentCapacity + increment);
+    }
+}
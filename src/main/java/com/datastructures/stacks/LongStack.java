@@ -0,0 +1,154 @@
+package com.datastructures.stacks;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * A stack of primitive {@code long} values backed by a resizable {@code long[]}.
+ * <p>
+ * Values are stored unboxed and contiguously, so push and pop never allocate (except when the
+ * array grows or shrinks) and walk memory sequentially. Growth follows a {@link GrowthPolicy} and
+ * the array can optionally shrink after pops, as in {@link ArrayStack}.
+ * </p>
+ */
+public class LongStack {
+    private final GrowthPolicy growthPolicy;
+    private final boolean shrinkOnPop;
+    private final int minimumCapacity;
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty stack with the default capacity, doubling growth and no shrinking.
+     */
+    public LongStack() {
+        this(StackCapacity.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with the given capacity, doubling growth and no shrinking.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public LongStack(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling(), false);
+    }
+
+    /**
+     * Constructs an empty stack with a custom growth policy.
+     *
+     * @param initialCapacity the initial length of the backing array, which is also the capacity
+     *                        the stack never shrinks below
+     * @param growthPolicy    decides the new capacity when the backing array is full
+     * @param shrinkOnPop     whether to halve the backing array once it is three-quarters empty
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @throws NullPointerException if the growth policy is null
+     */
+    public LongStack(int initialCapacity, GrowthPolicy growthPolicy, boolean shrinkOnPop) {
+        StackCapacity.validate(initialCapacity);
+        if (growthPolicy == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        this.elements = new long[initialCapacity];
+        this.growthPolicy = growthPolicy;
+        this.shrinkOnPop = shrinkOnPop;
+        this.minimumCapacity = initialCapacity;
+    }
+
+    /**
+     * Pushes a value onto the top of the stack.
+     *
+     * @param value the value to be pushed onto the stack
+     */
+    public void push(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, StackCapacity.grow(growthPolicy, elements.length));
+        }
+
+        elements[size++] = value;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack.
+     *
+     * @return the value removed from the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    public long pop() throws EmptyStackException {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+
+        long value = elements[--size];
+
+        if (shrinkOnPop) {
+            int capacity = StackCapacity.shrink(size, elements.length, minimumCapacity);
+            if (capacity != elements.length) {
+                elements = Arrays.copyOf(elements, capacity);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the value at the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    public long peek() throws EmptyStackException {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+
+        return elements[size - 1];
+    }
+
+    /**
+     * Returns the number of values in the stack.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the number of values the stack can hold before growing
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all values, keeping the current backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Shrinks the backing array to the current size, but not below the initial capacity.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, minimumCapacity);
+        if (capacity < elements.length) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+}
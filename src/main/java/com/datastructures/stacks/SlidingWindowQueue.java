@@ -0,0 +1,183 @@
+package com.datastructures.stacks;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+
+/**
+ * A FIFO queue that answers minimum, maximum and an associative aggregate of its contents in O(1)
+ * amortized time, for sliding-window computations.
+ * <p>
+ * The queue is made of two {@link AggregateStack}s: new elements are pushed on the back stack and
+ * removals pop from the front stack. When the front stack runs empty, the back stack is drained
+ * into it, which reverses the order so that the oldest element ends up on top. Every element is
+ * moved at most once, so each operation is O(1) amortized, and a window aggregate is just the
+ * combination of the two stacks' aggregates.
+ * </p>
+ *
+ * @param <T> the type of elements held in this queue
+ */
+public class SlidingWindowQueue<T> {
+    private final AggregateStack<T> front;
+    private final AggregateStack<T> back;
+    private final Comparator<? super T> comparator;
+    private final BinaryOperator<T> combiner;
+
+    /**
+     * Constructs an empty queue tracking the minimum and maximum in natural order.
+     *
+     * @param <T> the type of elements held in this queue
+     * @return an empty min/max-tracking queue
+     */
+    public static <T extends Comparable<? super T>> SlidingWindowQueue<T> naturalOrder() {
+        return new SlidingWindowQueue<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructs an empty queue tracking the minimum and maximum according to a comparator.
+     *
+     * @param comparator the ordering used for {@link #min()} and {@link #max()}
+     * @throws NullPointerException if the comparator is null
+     */
+    public SlidingWindowQueue(Comparator<? super T> comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Constructs an empty queue tracking the minimum, the maximum and the fold of an associative
+     * operator, from the oldest element to the newest.
+     *
+     * @param comparator the ordering used for {@link #min()} and {@link #max()}
+     * @param combiner   the associative operator folded by {@link #aggregate()}, or null
+     * @throws NullPointerException if the comparator is null
+     */
+    public SlidingWindowQueue(Comparator<? super T> comparator, BinaryOperator<T> combiner) {
+        this.front = new AggregateStack<>(comparator, combiner, true);
+        this.back = new AggregateStack<>(comparator, combiner, false);
+        this.comparator = comparator;
+        this.combiner = combiner;
+    }
+
+    /**
+     * Adds an element at the back of the queue.
+     *
+     * @param value the element to add
+     */
+    public void offer(T value) {
+        back.push(value);
+    }
+
+    /**
+     * Removes and returns the oldest element of the queue.
+     *
+     * @return the oldest element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T poll() {
+        if (front.isEmpty()) {
+            if (back.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            while (!back.isEmpty()) {
+                front.push(back.pop());
+            }
+        }
+
+        return front.pop();
+    }
+
+    /**
+     * Returns the smallest element in the queue.
+     *
+     * @return the minimum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T min() {
+        checkNotEmpty();
+
+        if (front.isEmpty()) {
+            return back.min();
+        }
+        if (back.isEmpty()) {
+            return front.min();
+        }
+
+        T a = front.min();
+        T b = back.min();
+        return comparator.compare(b, a) < 0 ? b : a;
+    }
+
+    /**
+     * Returns the largest element in the queue.
+     *
+     * @return the maximum element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T max() {
+        checkNotEmpty();
+
+        if (front.isEmpty()) {
+            return back.max();
+        }
+        if (back.isEmpty()) {
+            return front.max();
+        }
+
+        T a = front.max();
+        T b = back.max();
+        return comparator.compare(b, a) > 0 ? b : a;
+    }
+
+    /**
+     * Returns the fold of the combiner over the queue, from the oldest element to the newest.
+     *
+     * @return the aggregate of the queue contents
+     * @throws NoSuchElementException if the queue is empty
+     * @throws IllegalStateException if the queue was created without a combiner
+     */
+    public T aggregate() {
+        if (combiner == null) {
+            throw new IllegalStateException("No combiner was configured for this queue");
+        }
+
+        checkNotEmpty();
+
+        if (front.isEmpty()) {
+            return back.aggregate();
+        }
+        if (back.isEmpty()) {
+            return front.aggregate();
+        }
+
+        return combiner.apply(front.aggregate(), back.aggregate());
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return front.size() + back.size();
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return {@code true} if the queue is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return front.isEmpty() && back.isEmpty();
+    }
+
+    /**
+     * Throws if the queue has no element to report on.
+     *
+     * @throws NoSuchElementException if the queue is empty
+     */
+    private void checkNotEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.datastructures.stacks;
+
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.io.IOException;
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.EmptyStackException;
+import java.nio.file.StandardOpenOption;
+import com.datastructures.linkedlists.RecordCodec;
+
+/**
+ * A stack of fixed-width records whose depth is bounded by disk space instead of heap space.
+ * <p>
+ * The records are grouped in segments of {@code segmentRecords} records. Only the top
+ * {@code residentSegments} segments are kept in memory; when a push needs a new segment and that
+ * budget is used up, the bottom-most resident segment is written to a temporary
+ * file and its buffer is reused for the new top. When pops empty the resident segments, the
+ * segment below is paged back in from the file. A stack that oscillates around a segment boundary
+ * never touches the disk as long as more than one segment is resident.
+ * </p>
+ * <p>
+ * Records are encoded with a {@link RecordCodec}, so every element must occupy exactly
+ * {@link RecordCodec#recordSize()} bytes. The temporary file is created on the first spill and
+ * deleted by {@link #close()}.
+ * </p>
+ *
+ * @param <T> the type of elements held in this stack
+ */
+public class SpillingStack<T> implements AutoCloseable {
+    private static final int DEFAULT_SEGMENT_RECORDS = 1 << 16;
+    private static final int DEFAULT_RESIDENT_SEGMENTS = 4;
+
+    private final RecordCodec<T> codec;
+    private final int segmentRecords;
+    private final int segmentBytes;
+    private final int residentLimit;
+    private final Path directory;
+    private final ArrayDeque<ByteBuffer> resident = new ArrayDeque<>();
+
+    private ByteBuffer spare;
+    private FileChannel file;
+    private long size;
+
+    /**
+     * Constructs an empty stack with default segment size and memory budget, spilling to the
+     * default temporary directory.
+     *
+     * @param codec the codec encoding the elements
+     * @throws NullPointerException if the codec is null
+     */
+    public SpillingStack(RecordCodec<T> codec) {
+        this(codec, DEFAULT_SEGMENT_RECORDS, DEFAULT_RESIDENT_SEGMENTS);
+    }
+
+    /**
+     * Constructs an empty stack spilling to the default temporary directory.
+     *
+     * @param codec            the codec encoding the elements
+     * @param segmentRecords   the number of records per segment
+     * @param residentSegments the number of top segments kept in memory
+     * @throws NullPointerException if the codec is null
+     * @throws IllegalArgumentException if a size is not positive or a segment would exceed 2 GiB
+     */
+    public SpillingStack(RecordCodec<T> codec, int segmentRecords, int residentSegments) {
+        this(codec, segmentRecords, residentSegments, null);
+    }
+
+    /**
+     * Constructs an empty stack spilling to a temporary file in the given directory.
+     *
+     * @param codec            the codec encoding the elements
+     * @param segmentRecords   the number of records per segment
+     * @param residentSegments the number of top segments kept in memory
+     * @param directory        the directory of the spill file, or null for the default one
+     * @throws NullPointerException if the codec is null
+     * @throws IllegalArgumentException if a size is not positive or a segment would exceed 2 GiB
+     */
+    public SpillingStack(RecordCodec<T> codec, int segmentRecords, int residentSegments, Path directory) {
+        if (codec == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+        if (segmentRecords < 1 || (long) segmentRecords * codec.recordSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid number of records per segment: %d", segmentRecords));
+        }
+        if (residentSegments < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Resident segments needs to be at least 1: %d", residentSegments));
+        }
+
+        this.codec = codec;
+        this.segmentRecords = segmentRecords;
+        this.segmentBytes = segmentRecords * codec.recordSize();
+        this.residentLimit = residentSegments;
+        this.directory = directory;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack, spilling the coldest resident segment if a new
+     * segment is needed and the memory budget is used up.
+     *
+     * @param value the element to be pushed onto the stack
+     * @throws UncheckedIOException if spilling to the file fails
+     */
+    public void push(T value) {
+        int slot = (int) (size % segmentRecords);
+
+        if (slot == 0) {
+            ByteBuffer segment;
+
+            if (resident.size() == residentLimit) {
+                writeSegment(firstResidentSegment(), resident.peekFirst());
+                segment = resident.pollFirst();
+            }
+            else if (spare != null) {
+                segment = spare;
+                spare = null;
+            }
+            else {
+                segment = ByteBuffer.allocate(segmentBytes);
+            }
+
+            resident.addLast(segment);
+        }
+
+        codec.write(resident.peekLast(), slot * codec.recordSize(), value);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack, paging the segment below back in
+     * when no resident segment is left.
+     *
+     * @return the element removed from the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     * @throws UncheckedIOException if reading back from the file fails
+     */
+    public T pop() throws EmptyStackException {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+
+        size--;
+        int slot = (int) (size % segmentRecords);
+        T value = codec.read(resident.peekLast(), slot * codec.recordSize());
+
+        if (slot == 0) {
+            spare = resident.pollLast();
+
+            if (size > 0 && resident.isEmpty()) {
+                readSegment((size - 1) / segmentRecords, spare);
+                resident.addLast(spare);
+                spare = null;
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     *
+     * @return the element at the top of the stack, or {@code null} if the stack is empty
+     */
+    public T peek() {
+        if (size == 0) {
+            return null;
+        }
+
+        int slot = (int) ((size - 1) % segmentRecords);
+        return codec.read(resident.peekLast(), slot * codec.recordSize());
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return the size of the stack
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of segments currently held in memory.
+     *
+     * @return the number of resident segments
+     */
+    public int residentSegments() {
+        return resident.size();
+    }
+
+    /**
+     * Returns the number of segments currently living only in the spill file.
+     *
+     * @return the number of spilled segments
+     */
+    public long spilledSegments() {
+        return size == 0 ? 0 : firstResidentSegment();
+    }
+
+    /**
+     * Discards the contents of the stack and deletes the spill file, if any.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        size = 0;
+        resident.clear();
+        spare = null;
+
+        if (file != null) {
+            try {
+                file.close();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            finally {
+                file = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the bottom-most segment held in memory.
+     *
+     * @return the first resident segment index
+     */
+    private long firstResidentSegment() {
+        long topSegment = size == 0 ? 0 : (size - 1) / segmentRecords;
+        return topSegment - resident.size() + 1;
+    }
+
+    /**
+     * Copies a segment into its region of the spill file, creating the file on first use.
+     * <p>
+     * The copy is a positional write rather than a memory mapping: a mapping cannot be released
+     * explicitly before Java 14 and lives until it is garbage collected, so a stack crossing a
+     * segment boundary back and forth would pile up mappings until the process limit is hit.
+     * </p>
+     *
+     * @param index   the index of the segment
+     * @param segment the buffer holding the segment
+     * @throws UncheckedIOException if the file cannot be created or written
+     */
+    private void writeSegment(long index, ByteBuffer segment) {
+        try {
+            if (file == null) {
+                Path path = directory == null
+                        ? Files.createTempFile("spilling-stack", ".seg")
+                        : Files.createTempFile(directory, "spilling-stack", ".seg");
+
+                file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            }
+
+            ByteBuffer source = segment.duplicate().clear();
+            long position = index * segmentBytes;
+
+            while (source.hasRemaining()) {
+                position += file.write(source, position);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies a segment from its region of the spill file into a buffer.
+     *
+     * @param index   the index of the segment
+     * @param segment the buffer receiving the segment
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    private void readSegment(long index, ByteBuffer segment) {
+        try {
+            ByteBuffer target = segment.duplicate().clear();
+            long position = index * segmentBytes;
+
+            while (target.hasRemaining()) {
+                int read = file.read(target, position);
+                if (read < 0) {
+                    throw new EOFException(String.format("Spill file is missing segment %d", index));
+                }
+                position += read;
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
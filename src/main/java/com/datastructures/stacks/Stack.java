@@ -1,15 +1,21 @@
 package com.datastructures.stacks;
 
-import java.util.EmptyStackException;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Collections;
+import java.util.EmptyStackException;
 
 /**
  * A generic Stack implementation using Java's LinkedList as the underlying data structure.
- * Supports typical stack operations: push, pop, peek, size, and isEmpty.
+ * Supports typical stack operations: push, pop, peek, size, and isEmpty, plus bulk
+ * {@link #pushAll(Object[])} / {@link #popInto(Object[], int)} and a read-only top-down
+ * {@link #view()} for consumers that move items in batches.
  *
  * @param <T> the type of elements held in this stack, must be comparable
  */
-public class Stack<T extends Comparable<T>> {
+public class Stack<T extends Comparable<T>> implements Iterable<T> {
 
     /**
      * Internal linked list used to store stack elements.
@@ -27,11 +33,34 @@ public class Stack<T extends Comparable<T>> {
      * Returns the internal representation of the stack as a LinkedList.
      *
      * @return the internal LinkedList storing stack elements
+     * @deprecated changes to the returned list bypass the stack; use {@link #view()} or
+     *             {@link #iterator()} to read the elements without copying them
      */
+    @Deprecated
     public LinkedList<T> getStack() {
         return stack;
     }
 
+    /**
+     * Returns a read-only, live view of the stack from the top element down. The view is backed by
+     * the stack, so it reflects later pushes and pops without copying anything.
+     *
+     * @return an unmodifiable top-down list view of the stack
+     */
+    public List<T> view() {
+        return Collections.unmodifiableList(stack);
+    }
+
+    /**
+     * Returns a read-only iterator over the stack from the top element down.
+     *
+     * @return a top-down iterator that does not support removal
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return view().iterator();
+    }
+
     /**
      * Pushes an element onto the top of the stack.
      *
@@ -41,6 +70,70 @@ public class Stack<T extends Comparable<T>> {
         this.stack.push(value);
     }
 
+    /**
+     * Pushes every element of an array onto the stack, in array order, so that the last element of
+     * the array ends up on top.
+     *
+     * @param values the elements to be pushed onto the stack
+     * @throws NullPointerException if the array is null
+     */
+    public void pushAll(T[] values) {
+        if (values == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        for (T value : values) {
+            this.stack.addFirst(value);
+        }
+    }
+
+    /**
+     * Pushes every element of a collection onto the stack, in iteration order, so that the last
+     * element returned by the iterator ends up on top.
+     *
+     * @param values the elements to be pushed onto the stack
+     * @throws NullPointerException if the collection is null
+     */
+    public void pushAll(Collection<? extends T> values) {
+        if (values == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+
+        for (T value : values) {
+            this.stack.addFirst(value);
+        }
+    }
+
+    /**
+     * Removes up to {@code max} elements from the top of the stack and stores them in an array,
+     * the top element first. Popping stops early when the stack runs empty.
+     *
+     * @param dest the array receiving the popped elements, starting at index 0
+     * @param max  the maximum number of elements to pop
+     * @return the number of elements popped and stored in {@code dest}
+     * @throws NullPointerException if the array is null
+     * @throws IllegalArgumentException if {@code max} is negative or larger than the array
+     */
+    public int popInto(T[] dest, int max) {
+        if (dest == null) {
+            throw new NullPointerException("Null argument(s)");
+        }
+        if (max < 0 || max > dest.length) {
+            throw new IllegalArgumentException(
+                    String.format("Max needs to be between 0 and %d: %d", dest.length, max));
+        }
+
+        int count = Math.min(max, this.stack.size());
+        Iterator<T> iterator = this.stack.iterator();
+
+        for (int i = 0; i < count; i++) {
+            dest[i] = iterator.next();
+            iterator.remove();
+        }
+
+        return count;
+    }
+
     /**
      * Removes and returns the element at the top of the stack.
      *
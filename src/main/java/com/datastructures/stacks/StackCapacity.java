@@ -0,0 +1,74 @@
+package com.datastructures.stacks;
+
+/**
+ * Capacity arithmetic shared by the array-backed stacks.
+ */
+final class StackCapacity {
+    static final int DEFAULT_CAPACITY = 16;
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Shrinking only happens once the stack is down to a quarter of its capacity, and then halves
+     * it, so a stack oscillating around one size never reallocates on every push/pop pair.
+     */
+    private static final int SHRINK_DIVISOR = 4;
+
+    private StackCapacity() {
+    }
+
+    /**
+     * Validates an initial capacity.
+     *
+     * @param initialCapacity The capacity to validate.
+     * @throws IllegalArgumentException If the capacity is not between 1 and the maximum array size.
+     */
+    static void validate(int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    String.format("Initial capacity needs to be an int between %d and %d", 1, MAX_CAPACITY));
+        }
+    }
+
+    /**
+     * Computes the capacity to grow a full backing array to.
+     *
+     * @param policy          The growth policy of the stack.
+     * @param currentCapacity The current capacity.
+     * @return The new capacity, strictly greater than the current one.
+     * @throws OutOfMemoryError If the stack is already at the maximum array size.
+     */
+    static int grow(GrowthPolicy policy, int currentCapacity) {
+        if (currentCapacity >= MAX_CAPACITY) {
+            throw new OutOfMemoryError("Stack size limit exceeded");
+        }
+
+        int next = policy.nextCapacity(currentCapacity);
+
+        // a negative capacity can only come from a policy that overflowed, so it means "as large as possible".
+        if (next < 0 || next > MAX_CAPACITY) {
+            next = MAX_CAPACITY;
+        }
+        else if (next <= currentCapacity) {
+            next = currentCapacity + 1;
+        }
+
+        return next;
+    }
+
+    /**
+     * Computes the capacity to shrink to after a pop, or returns the current capacity if the
+     * stack should keep its backing array.
+     *
+     * @param size            The number of elements after the pop.
+     * @param currentCapacity The current capacity.
+     * @param minimumCapacity The capacity the stack never shrinks below.
+     * @return The new capacity.
+     */
+    static int shrink(int size, int currentCapacity, int minimumCapacity) {
+        if (currentCapacity <= minimumCapacity || size > currentCapacity / SHRINK_DIVISOR) {
+            return currentCapacity;
+        }
+
+        return Math.max(minimumCapacity, currentCapacity >> 1);
+    }
+}
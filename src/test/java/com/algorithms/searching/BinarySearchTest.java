@@ -1,5 +1,9 @@
 package com.algorithms.searching;
 
+import java.util.List;
+import java.util.Random;
+import java.util.Arrays;
+import java.util.Comparator;
 import org.junit.jupiter.api.Test;
 import java.util.stream.IntStream;
 import java.util.stream.DoubleStream;
@@ -78,4 +82,209 @@ public class BinarySearchTest {
         assertEquals(499999, BinarySearch.search(array, 500000.0));
         assertEquals(-1, BinarySearch.search(array, 1000001.0));
     }
+
+    @Test
+    public void testSearchPrimitiveArrays() {
+        int[] ints = {1, 3, 5, 7, 9};
+        long[] longs = {-10L, 0L, 10L, Long.MAX_VALUE};
+        double[] doubles = {-1.5, 0.0, 2.5, 4.0};
+
+        assertEquals(2, BinarySearch.search(ints, 5));
+        assertEquals(-1, BinarySearch.search(ints, 6));
+        assertEquals(-1, BinarySearch.search(ints, 10));
+        assertEquals(3, BinarySearch.search(longs, Long.MAX_VALUE));
+        assertEquals(-1, BinarySearch.search(longs, -11L));
+        assertEquals(2, BinarySearch.search(doubles, 2.5));
+        assertEquals(-1, BinarySearch.search(doubles, 3.0));
+        assertEquals(-1, BinarySearch.search(new int[0], 1));
+    }
+
+    @Test
+    public void testSearchReturnsFirstOccurrenceOfDuplicates() {
+        int[] array = {1, 2, 2, 2, 2, 3, 3, 4};
+
+        assertEquals(1, BinarySearch.search(array, 2));
+        assertEquals(5, BinarySearch.search(array, 3));
+    }
+
+    @Test
+    public void testSearchPrimitiveSubRange() {
+        long[] array = {1, 3, 5, 7, 9, 11};
+
+        assertEquals(3, BinarySearch.search(array, 2, 5, 7L));
+        assertEquals(-1, BinarySearch.search(array, 2, 5, 11L));
+        assertEquals(-1, BinarySearch.search(array, 2, 5, 1L));
+        assertEquals(-1, BinarySearch.search(array, 3, 3, 7L));
+        assertThrows(IllegalArgumentException.class, () -> BinarySearch.search(array, 4, 2, 7L));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> BinarySearch.search(array, 0, 7, 7L));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> BinarySearch.search(array, -1, 2, 7L));
+    }
+
+    @Test
+    public void testSearchDoubleFollowsDoubleCompareOrder() {
+        double[] array = {Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, Double.NaN};
+
+        assertEquals(1, BinarySearch.search(array, -0.0));
+        assertEquals(2, BinarySearch.search(array, 0.0));
+        assertEquals(4, BinarySearch.search(array, Double.NaN));
+        assertEquals(0, BinarySearch.search(array, Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void testPrimitiveSearchAgainstArraysBinarySearch() {
+        Random rand = new Random(38);
+
+        for (int round = 0; round < 200; round++) {
+            int[] array = rand.ints(rand.nextInt(300), -500, 500).distinct().sorted().toArray();
+            int from = array.length == 0 ? 0 : rand.nextInt(array.length);
+            int to = from + rand.nextInt(array.length - from + 1);
+
+            for (int i = 0; i < 50; i++) {
+                int key = rand.nextInt(1100) - 550;
+                int expected = Math.max(-1, Arrays.binarySearch(array, from, to, key));
+
+                assertEquals(expected, BinarySearch.search(array, from, to, key));
+                assertEquals(expected, BinarySearch.search(Arrays.stream(array).asLongStream().toArray(), from, to, key));
+            }
+        }
+    }
+
+    @Test
+    public void testSearchAllSortedAndUnsortedKeys() {
+        int[] array = {1, 3, 3, 3, 5, 7, 9, 9};
+        int[] sortedKeys = {0, 1, 3, 4, 9, 10};
+        int[] unsortedKeys = {9, 0, 3, 7, 1, 10, 5};
+        int[] results = new int[7];
+
+        BinarySearch.searchAll(array, sortedKeys, results);
+        assertArrayEquals(new int[] {-1, 0, 1, -1, 6, -1}, Arrays.copyOf(results, 6));
+
+        BinarySearch.searchAll(array, unsortedKeys, results);
+        assertArrayEquals(new int[] {6, -1, 1, 5, 0, -1, 4}, results);
+
+        BinarySearch.searchAll(new long[0], new long[] {1L, 2L, 3L, 4L, 5L}, results);
+        assertArrayEquals(new int[] {-1, -1, -1, -1, -1}, Arrays.copyOf(results, 5));
+
+        assertThrows(IllegalArgumentException.class, () -> BinarySearch.searchAll(array, unsortedKeys, new int[6]));
+    }
+
+    @Test
+    public void testSearchAllLargeBatchesMatchSingleSearches() {
+        Random rand = new Random(40);
+        long[] array = rand.longs(100_000, -1_000_000, 1_000_000).sorted().toArray();
+        long[] keys = rand.longs(100_003, -1_100_000, 1_100_000).toArray();
+        int[] results = new int[keys.length];
+
+        BinarySearch.searchAll(array, keys, results);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(BinarySearch.search(array, keys[i]), results[i]);
+        }
+
+        Arrays.sort(keys);
+        BinarySearch.searchAll(array, keys, results);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(BinarySearch.search(array, keys[i]), results[i]);
+        }
+    }
+
+    @Test
+    public void testBoundsAndEqualRange() {
+        int[] array = {1, 3, 3, 3, 5, 7, 7, 9};
+
+        assertEquals(1, BinarySearch.lowerBound(array, 3));
+        assertEquals(4, BinarySearch.upperBound(array, 3));
+        assertEquals(4, BinarySearch.lowerBound(array, 4));
+        assertEquals(4, BinarySearch.upperBound(array, 4));
+        assertEquals(0, BinarySearch.lowerBound(array, 0));
+        assertEquals(8, BinarySearch.upperBound(array, 9));
+        assertArrayEquals(new int[] {5, 7}, BinarySearch.equalRange(array, 7));
+        assertArrayEquals(new int[] {8, 8}, BinarySearch.equalRange(array, 10));
+        assertEquals(3, BinarySearch.lowerBound(array, 3, 6, 3));
+        assertEquals(4, BinarySearch.upperBound(array, 3, 6, 3));
+    }
+
+    @Test
+    public void testCountInRange() {
+        long[] array = {1, 3, 3, 3, 5, 7, 7, 9};
+
+        assertEquals(6, BinarySearch.countInRange(array, 2L, 7L));
+        assertEquals(8, BinarySearch.countInRange(array, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0, BinarySearch.countInRange(array, 4L, 4L));
+        assertEquals(0, BinarySearch.countInRange(array, 7L, 2L));
+        assertEquals(3, BinarySearch.countInRange(new Integer[] {1, 2, 2, 4}, 2, 4));
+    }
+
+    @Test
+    public void testGenericBounds() {
+        String[] array = {"apple", "banana", "banana", "cherry"};
+
+        assertEquals(1, BinarySearch.lowerBound(array, "banana"));
+        assertEquals(3, BinarySearch.upperBound(array, "banana"));
+        assertArrayEquals(new int[] {4, 4}, BinarySearch.equalRange(array, "date"));
+    }
+
+    @Test
+    public void testGallopFromHintMatchesLowerBound() {
+        Random rand = new Random(41);
+        int[] array = rand.ints(5000, 0, 2000).sorted().toArray();
+
+        for (int i = 0; i < 5000; i++) {
+            int key = rand.nextInt(2100) - 50;
+            int hint = rand.nextInt(array.length + 1);
+
+            assertEquals(BinarySearch.lowerBound(array, key), BinarySearch.gallopLowerBound(array, hint, key));
+        }
+
+        assertEquals(0, BinarySearch.gallopLowerBound(new long[0], 0, 5L));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> BinarySearch.gallopLowerBound(array, -1, 5));
+    }
+
+    @Test
+    public void testBoundsAgainstLinearScan() {
+        Random rand = new Random(4141);
+
+        for (int round = 0; round < 100; round++) {
+            long[] array = rand.longs(rand.nextInt(200), 0, 50).sorted().toArray();
+
+            for (long key = -1; key <= 51; key++) {
+                int lower = 0;
+                while (lower < array.length && array[lower] < key) {
+                    lower++;
+                }
+                int upper = lower;
+                while (upper < array.length && array[upper] == key) {
+                    upper++;
+                }
+
+                assertArrayEquals(new int[] {lower, upper}, BinarySearch.equalRange(array, key));
+            }
+        }
+    }
+
+    @Test
+    public void testSearchWithComparatorAndKeyExtractor() {
+        long[][] records = new long[200][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new long[] {i / 2, (i / 2) * 1_000_000_000L};
+        }
+        List<long[]> list = Arrays.asList(records);
+        Comparator<long[]> byFirst = Comparator.comparingLong(record -> record[0]);
+
+        for (int key = -1; key <= 100; key++) {
+            int expected = key >= 0 && key < 100 ? 2 * key : -1;
+            int lower = Math.max(0, Math.min(200, 2 * key));
+
+            assertEquals(expected, BinarySearch.search(records, new long[] {key}, byFirst));
+            assertEquals(expected, BinarySearch.search(list, new long[] {key}, byFirst));
+            assertEquals(expected, BinarySearch.searchByInt(records, record -> (int) record[0], key));
+            assertEquals(expected, BinarySearch.searchByInt(list, record -> (int) record[0], key));
+            assertEquals(expected, BinarySearch.searchByLong(records, record -> record[1], key * 1_000_000_000L));
+            assertEquals(expected, BinarySearch.searchByLong(list, record -> record[1], key * 1_000_000_000L));
+            assertEquals(lower, BinarySearch.lowerBound(records, new long[] {key}, byFirst));
+            assertEquals(lower, BinarySearch.lowerBoundByLong(list, record -> record[0], key));
+        }
+
+        assertEquals(-1, BinarySearch.searchByInt(new long[0][], record -> 0, 0));
+        assertEquals(0, BinarySearch.lowerBoundByInt(List.<long[]>of(), record -> 0, 0));
+    }
 }
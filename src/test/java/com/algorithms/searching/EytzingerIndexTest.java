@@ -0,0 +1,62 @@
+package com.algorithms.searching;
+
+import java.util.Random;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EytzingerIndexTest {
+
+    @Test
+    public void testSearchSmallArray() {
+        int[] array = {1, 3, 5, 7, 9};
+        EytzingerIndex index = EytzingerIndex.of(array);
+
+        assertEquals(5, index.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, index.search(array[i]));
+        }
+        assertEquals(-1, index.search(0));
+        assertEquals(-1, index.search(4));
+        assertEquals(-1, index.search(10));
+        assertEquals(-1, index.search(1L << 40));
+    }
+
+    @Test
+    public void testEmptyAndSingleElement() {
+        assertEquals(-1, EytzingerIndex.of(new int[0]).search(1));
+        assertEquals(0, EytzingerIndex.of(new long[] {42L}).search(42));
+        assertEquals(-1, EytzingerIndex.of(new long[] {42L}).search(41L));
+    }
+
+    @Test
+    public void testDuplicatesReturnFirstOccurrence() {
+        int[] array = {2, 2, 2, 4, 4, 6, 6, 6, 6, 8};
+        EytzingerIndex index = EytzingerIndex.of(array);
+
+        assertEquals(0, index.search(2));
+        assertEquals(3, index.search(4));
+        assertEquals(5, index.search(6));
+        assertEquals(9, index.search(8));
+    }
+
+    @Test
+    public void testMatchesBinarySearchOnRandomArrays() {
+        Random rand = new Random(39);
+
+        for (int round = 0; round < 100; round++) {
+            int n = rand.nextInt(2000);
+            int[] ints = rand.ints(n, -1000, 1000).sorted().toArray();
+            long[] longs = Arrays.stream(ints).asLongStream().map(x -> x * 1_000_000_007L).toArray();
+            EytzingerIndex intIndex = EytzingerIndex.of(ints);
+            EytzingerIndex longIndex = EytzingerIndex.of(longs);
+
+            for (int i = 0; i < 200; i++) {
+                int key = rand.nextInt(2200) - 1100;
+
+                assertEquals(BinarySearch.search(ints, key), intIndex.search(key));
+                assertEquals(BinarySearch.search(longs, key * 1_000_000_007L), longIndex.search(key * 1_000_000_007L));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.algorithms.searching;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LearnedIndexTest {
+
+    @Test
+    public void testSearchSmoothKeys() {
+        long[] timestamps = new long[100_000];
+        Random rand = new Random(42);
+        timestamps[0] = 1_700_000_000_000L;
+        for (int i = 1; i < timestamps.length; i++) {
+            timestamps[i] = timestamps[i - 1] + 1 + rand.nextInt(20);
+        }
+
+        LearnedIndex index = LearnedIndex.of(timestamps, 16);
+
+        assertEquals(timestamps.length, index.size());
+        assertTrue(index.segments() < timestamps.length / 100);
+        for (int i = 0; i < timestamps.length; i += 7) {
+            assertEquals(i, index.search(timestamps[i]));
+            assertEquals(BinarySearch.search(timestamps, timestamps[i] + 1), index.search(timestamps[i] + 1));
+        }
+        assertEquals(-1, index.search(0L));
+        assertEquals(-1, index.search(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testEmptyAndSmallArrays() {
+        assertEquals(-1, LearnedIndex.of(new int[0]).search(1));
+        assertEquals(0, LearnedIndex.of(new int[0]).lowerBound(1));
+        assertEquals(0, LearnedIndex.of(new int[] {5}).search(5));
+        assertEquals(1, LearnedIndex.of(new int[] {5}).lowerBound(6));
+        assertEquals(-1, LearnedIndex.of(new int[] {5}).search(1L << 40));
+        assertThrows(IllegalArgumentException.class, () -> LearnedIndex.of(new int[] {1}, -1));
+    }
+
+    @Test
+    public void testLongRunsOfDuplicates() {
+        int[] array = new int[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i < 9000 ? 7 : i;
+        }
+
+        LearnedIndex index = LearnedIndex.of(array, 0);
+
+        assertEquals(0, index.search(7));
+        assertEquals(9000, index.lowerBound(8));
+        assertEquals(9500, index.search(9500));
+        assertEquals(-1, index.search(8999));
+    }
+
+    @Test
+    public void testMatchesBinarySearchOnRandomData() {
+        Random rand = new Random(4242);
+
+        for (int round = 0; round < 50; round++) {
+            int[] array = rand.ints(rand.nextInt(5000), -100_000, 100_000).sorted().toArray();
+            LearnedIndex index = LearnedIndex.of(array, rand.nextInt(20));
+
+            for (int i = 0; i < 500; i++) {
+                int key = rand.nextInt(220_000) - 110_000;
+
+                assertEquals(BinarySearch.search(array, key), index.search(key));
+                assertEquals(BinarySearch.lowerBound(array, key), index.lowerBound(key));
+            }
+        }
+    }
+}
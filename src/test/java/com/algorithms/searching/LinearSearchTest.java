@@ -0,0 +1,197 @@
+package com.algorithms.searching;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinearSearchTest {
+
+    /**
+     * A record with an {@code int} and a {@code long} key.
+     */
+    private static final class Item {
+        private final int id;
+        private final long stamp;
+
+        Item(int id, long stamp) {
+            this.id = id;
+            this.stamp = stamp;
+        }
+    }
+
+    @Test
+    public void testSearchIntegerArray() {
+        Integer[] array = {4, 8, 1, 9};
+
+        assertEquals(2, LinearSearch.search(array, 1));
+        assertEquals(-1, LinearSearch.search(array, 7));
+        assertEquals(3, LinearSearch.search(array, 9));
+    }
+
+    @Test
+    public void testSearchWithComparatorAndKeyExtractor() {
+        Item[] array = {new Item(7, 70L), new Item(3, 30L), new Item(5, 50L), new Item(3, 31L)};
+        List<Item> list = Arrays.asList(array);
+        List<Item> linked = new LinkedList<>(list);
+        Comparator<Item> byId = Comparator.comparingInt(item -> item.id);
+
+        assertEquals(1, LinearSearch.search(array, new Item(3, 0L), byId));
+        assertEquals(1, LinearSearch.search(linked, new Item(3, 0L), byId));
+        assertEquals(1, LinearSearch.searchByInt(array, item -> item.id, 3));
+        assertEquals(2, LinearSearch.searchByInt(linked, item -> item.id, 5));
+        assertEquals(3, LinearSearch.searchByLong(list, item -> item.stamp, 31L));
+        assertEquals(-1, LinearSearch.searchByLong(array, item -> item.stamp, 32L));
+        assertEquals(-1, LinearSearch.searchByInt(linked, item -> item.id, 4));
+    }
+
+    @Test
+    public void testPrimitiveSearchesAgainstNaiveScan() {
+        Random rand = new Random(46);
+
+        for (int round = 0; round < 300; round++) {
+            int n = rand.nextInt(40);
+            int[] ints = rand.ints(n, 0, 6).toArray();
+            long[] longs = new long[n];
+            byte[] bytes = new byte[n];
+            for (int i = 0; i < n; i++) {
+                longs[i] = ints[i] * 0x1_0000_0001L;
+                bytes[i] = (byte) (ints[i] * 51 - 128);
+            }
+            int from = rand.nextInt(n + 1);
+            int to = from + rand.nextInt(n - from + 1);
+
+            for (int key = 0; key < 6; key++) {
+                int first = -1;
+                int last = -1;
+                int count = 0;
+                int firstInRange = -1;
+                for (int i = 0; i < n; i++) {
+                    if (ints[i] == key) {
+                        first = first < 0 ? i : first;
+                        last = i;
+                        count++;
+                        firstInRange = firstInRange < 0 && i >= from && i < to ? i : firstInRange;
+                    }
+                }
+                long longKey = key * 0x1_0000_0001L;
+                byte byteKey = (byte) (key * 51 - 128);
+
+                assertEquals(first, LinearSearch.search(ints, key));
+                assertEquals(first, LinearSearch.search(longs, longKey));
+                assertEquals(first, LinearSearch.search(bytes, byteKey));
+                assertEquals(last, LinearSearch.lastIndexOf(ints, key));
+                assertEquals(last, LinearSearch.lastIndexOf(longs, longKey));
+                assertEquals(last, LinearSearch.lastIndexOf(bytes, byteKey));
+                assertEquals(count, LinearSearch.countMatches(ints, key));
+                assertEquals(count, LinearSearch.countMatches(longs, longKey));
+                assertEquals(count, LinearSearch.countMatches(bytes, byteKey));
+                assertEquals(firstInRange, LinearSearch.indexOf(ints, from, to, key));
+                assertEquals(firstInRange, LinearSearch.indexOf(longs, from, to, longKey));
+                assertEquals(firstInRange, LinearSearch.indexOf(bytes, from, to, byteKey));
+            }
+        }
+    }
+
+    @Test
+    public void testByteSearchHasNoFalsePositives() {
+        byte[] array = {0, 1, 1, 0, 1, -128, -127, 1, 0, 1};
+
+        assertEquals(1, LinearSearch.search(array, (byte) 1));
+        assertEquals(9, LinearSearch.lastIndexOf(array, (byte) 1));
+        assertEquals(5, LinearSearch.countMatches(array, (byte) 1));
+        assertEquals(5, LinearSearch.search(array, (byte) -128));
+        assertEquals(-1, LinearSearch.search(array, (byte) 2));
+        assertThrows(IllegalArgumentException.class, () -> LinearSearch.indexOf(array, 3, 2, (byte) 1));
+    }
+
+    @Test
+    public void testParallelSearchFindsFirstMatch() {
+        int n = 1 << 20;
+        int[] ints = new int[n];
+        long[] longs = new long[n];
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = i % 1000;
+            longs[i] = ints[i];
+            boxed[i] = ints[i];
+        }
+        ints[700_000] = -1;
+        ints[900_000] = -1;
+        longs[123_457] = -1;
+
+        assertEquals(700_000, LinearSearch.parallelSearch(ints, -1));
+        assertEquals(123_457, LinearSearch.parallelSearch(longs, -1L));
+        assertEquals(-1, LinearSearch.parallelSearch(ints, 1000));
+        assertEquals(700_000, LinearSearch.parallelSearch(ints, value -> value < 0));
+        assertEquals(123_457, LinearSearch.parallelSearch(longs, value -> value < 0));
+        assertEquals(999, LinearSearch.parallelSearch(boxed, value -> value == 999));
+        assertEquals(-1, LinearSearch.parallelSearch(new int[0], 0));
+    }
+
+    @Test
+    public void testFindAllMatchesSequentialScan() {
+        Random rand = new Random(47);
+        int n = 300_000;
+        int[] ints = rand.ints(n, 0, 5000).toArray();
+        long[] longs = Arrays.stream(ints).asLongStream().toArray();
+        Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+
+        int[] expected = IntStream.range(0, n).filter(i -> ints[i] == 42).toArray();
+        assertTrue(expected.length > 0);
+        assertArrayEquals(expected, LinearSearch.findAll(ints, 42));
+        assertArrayEquals(expected, LinearSearch.findAll(longs, 42L));
+        assertArrayEquals(expected, LinearSearch.findAll(ints, value -> value == 42));
+        assertArrayEquals(expected, LinearSearch.findAll(longs, value -> value == 42));
+        assertArrayEquals(expected, LinearSearch.findAll(boxed, value -> value == 42));
+        assertEquals(n, LinearSearch.findAll(ints, value -> true).length);
+        assertArrayEquals(new int[0], LinearSearch.findAll(ints, -1));
+    }
+
+    @Test
+    public void testMultiKeySearchMatchesOneScanPerKey() {
+        Random rand = new Random(48);
+
+        for (int keyCount : new int[] {0, 1, 50, 6000}) {
+            int[] array = rand.ints(20_000, 0, 40_000).toArray();
+            long[] longs = Arrays.stream(array).asLongStream().map(value -> value * 0x1_0000_0001L).toArray();
+            int[] keys = rand.ints(keyCount, 0, 40_000).toArray();
+            long[] longKeys = Arrays.stream(keys).asLongStream().map(value -> value * 0x1_0000_0001L).toArray();
+            int[] results = new int[keyCount];
+            int[] longResults = new int[keyCount];
+            int[][] all = LinearSearch.findAll(array, keys);
+            int[][] allLongs = LinearSearch.findAll(longs, longKeys);
+
+            LinearSearch.searchAll(array, keys, results);
+            LinearSearch.searchAll(longs, longKeys, longResults);
+
+            for (int k = 0; k < keyCount; k++) {
+                int key = keys[k];
+                int[] expected = IntStream.range(0, array.length).filter(i -> array[i] == key).toArray();
+
+                assertEquals(LinearSearch.search(array, key), results[k]);
+                assertEquals(results[k], longResults[k]);
+                assertArrayEquals(expected, all[k]);
+                assertArrayEquals(expected, allLongs[k]);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiKeySearchWithDuplicateKeys() {
+        int[] array = {5, 3, 5, 9, 3};
+        int[] keys = {3, 5, 3, 7};
+        int[] results = new int[4];
+
+        LinearSearch.searchAll(array, keys, results);
+
+        assertArrayEquals(new int[] {1, 0, 1, -1}, results);
+        assertArrayEquals(new int[] {1, 4}, LinearSearch.findAll(array, keys)[2]);
+        assertArrayEquals(new int[0], LinearSearch.findAll(array, keys)[3]);
+        assertThrows(IllegalArgumentException.class, () -> LinearSearch.searchAll(array, keys, new int[3]));
+    }
+}
@@ -0,0 +1,101 @@
+package com.algorithms.searching;
+
+import java.util.Random;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedSortedFileTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Writes records of a 4-byte payload followed by an 8-byte key.
+     */
+    private Path writeRecords(long[] keys, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(keys.length * 12).order(order);
+        for (int i = 0; i < keys.length; i++) {
+            buffer.putInt(i);
+            buffer.putLong(keys[i]);
+        }
+
+        Path file = directory.resolve("records.bin");
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Test
+    public void testSearchLongKeys() throws IOException {
+        long[] keys = {-5, 1, 3, 3, 3, 8, 13, 21};
+
+        try (MappedSortedFile file = new MappedSortedFile(writeRecords(keys, ByteOrder.BIG_ENDIAN), 12, 4, 8)) {
+            assertEquals(8, file.size());
+            assertEquals(0, file.search(-5));
+            assertEquals(2, file.search(3));
+            assertEquals(7, file.search(21));
+            assertEquals(-1, file.search(4));
+            assertEquals(5, file.lowerBound(4));
+            assertEquals(8, file.lowerBound(22));
+            assertEquals(13, file.keyAt(6));
+
+            ByteBuffer record = file.record(5);
+            assertEquals(12, record.remaining());
+            assertEquals(5, record.getInt(0));
+            assertEquals(8L, record.getLong(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.record(8));
+        }
+    }
+
+    @Test
+    public void testSearchAcrossChunksMatchesBinarySearch() throws IOException {
+        Random rand = new Random(43);
+        long[] keys = rand.longs(10_000).sorted().toArray();
+        Path path = writeRecords(keys, ByteOrder.LITTLE_ENDIAN);
+
+        try (MappedSortedFile file = new MappedSortedFile(path, 12, 4, 8, ByteOrder.LITTLE_ENDIAN, 1000)) {
+            for (int i = 0; i < keys.length; i += 3) {
+                assertEquals(i, file.search(keys[i]));
+                assertEquals(BinarySearch.search(keys, keys[i] + 1), file.search(keys[i] + 1));
+            }
+        }
+    }
+
+    @Test
+    public void testSearchByteStringKeys() throws IOException {
+        String[] names = {"apple", "berry", "cedar", "zebra"};
+        Path path = directory.resolve("names.bin");
+        StringBuilder content = new StringBuilder();
+        for (String name : names) {
+            content.append(name).append('|');
+        }
+        Files.write(path, content.toString().getBytes(StandardCharsets.US_ASCII));
+
+        try (MappedSortedFile file = new MappedSortedFile(path, 6, 0, 5)) {
+            assertEquals(2, file.search("cedar".getBytes(StandardCharsets.US_ASCII)));
+            assertEquals(-1, file.search("mango".getBytes(StandardCharsets.US_ASCII)));
+            assertEquals(3, file.lowerBound("mango".getBytes(StandardCharsets.US_ASCII)));
+            assertThrows(IllegalStateException.class, () -> file.search(1L));
+            assertThrows(IllegalArgumentException.class, () -> file.search(new byte[2]));
+        }
+    }
+
+    @Test
+    public void testInvalidLayouts() throws IOException {
+        Path path = writeRecords(new long[] {1, 2}, ByteOrder.BIG_ENDIAN);
+
+        assertThrows(IllegalArgumentException.class, () -> new MappedSortedFile(path, 10, 4, 8));
+        assertThrows(IllegalArgumentException.class, () -> new MappedSortedFile(path, 12, 6, 8));
+
+        Path empty = Files.createFile(directory.resolve("empty.bin"));
+        try (MappedSortedFile file = new MappedSortedFile(empty, 12, 4, 8)) {
+            assertEquals(-1, file.search(1));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.algorithms.searching;
+
+import java.nio.ByteOrder;
+import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.io.EOFException;
+import java.nio.channels.Pipe;
+import java.time.Duration;
+import java.nio.channels.Channels;
+import java.io.ByteArrayInputStream;
+import org.junit.jupiter.api.Test;
+import java.nio.channels.ReadableByteChannel;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecordChannelSearchTest {
+    private static final int RECORD_SIZE = 12;
+    private static final int RECORDS = 10_000;
+
+    /**
+     * Builds a stream of records holding a 4-byte tag and an 8-byte key equal to three times the
+     * record index, in little-endian order.
+     */
+    private static ReadableByteChannel records(int trailingBytes) {
+        ByteBuffer data = ByteBuffer.allocate(RECORDS * RECORD_SIZE + trailingBytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < RECORDS; i++) {
+            data.putInt(i % 7).putLong(3L * i);
+        }
+
+        return Channels.newChannel(new ByteArrayInputStream(data.array()));
+    }
+
+    /**
+     * Creates a search over the records keyed by their 8-byte field.
+     */
+    private static RecordChannelSearch byKey(ReadableByteChannel channel, int chunkBytes) {
+        return new RecordChannelSearch(channel, RECORD_SIZE, 4, 8, ByteOrder.LITTLE_ENDIAN, chunkBytes);
+    }
+
+    @Test
+    public void testSearchIntegerKeysAcrossChunks() throws IOException {
+        assertEquals(0, byKey(records(0), 1000).search(0L));
+        assertEquals(RECORDS - 1, byKey(records(0), 1000).search(3L * (RECORDS - 1)));
+        assertEquals(-1, byKey(records(0), 1000).search(4L));
+
+        RecordChannelSearch search = byKey(records(0), 1000);
+        assertEquals(5000, search.search(15_000L));
+        assertEquals(5001, search.position());
+    }
+
+    @Test
+    public void testSearchResumesAfterMatch() throws IOException {
+        RecordChannelSearch tags =
+                new RecordChannelSearch(records(0), RECORD_SIZE, 0, 4, ByteOrder.LITTLE_ENDIAN, 1 << 16);
+
+        assertEquals(6, tags.search(6L));
+        assertEquals(13, tags.search(6L));
+        assertEquals(17, tags.search(new byte[] {3, 0, 0, 0}));
+        assertEquals(1234, tags.search(record -> record.getLong(record.position() + 4) == 3702L));
+        assertEquals(-1, tags.search(record -> record.getLong(record.position() + 4) == 3702L));
+        assertEquals(RECORDS, tags.position());
+
+        tags.reset(records(0));
+        assertEquals(6, tags.search(6L));
+        assertThrows(IllegalArgumentException.class, () -> tags.search(new byte[3]));
+        RecordChannelSearch shortKeys = new RecordChannelSearch(records(0), RECORD_SIZE, 0, 3);
+        assertThrows(IllegalStateException.class, () -> shortKeys.search(1L));
+    }
+
+    @Test
+    public void testReportsMatchBeforeBufferFills() throws IOException {
+        Pipe pipe = Pipe.open();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        record.putInt(0).putLong(42L).flip();
+        pipe.sink().write(record);
+
+        RecordChannelSearch search = byKey(pipe.source(), 1 << 16);
+        assertEquals(0, assertTimeoutPreemptively(Duration.ofSeconds(2), () -> search.search(42L)));
+
+        pipe.source().configureBlocking(false);
+        assertEquals(-2, search.search(42L));
+
+        record.clear();
+        record.putInt(0).putLong(42L).flip();
+        pipe.sink().write(record);
+        assertEquals(1, search.search(42L));
+
+        pipe.sink().close();
+        pipe.source().close();
+    }
+
+    @Test
+    public void testTruncatedStream() {
+        assertThrows(EOFException.class, () -> byKey(records(5), 4096).search(-1L));
+        assertThrows(IllegalArgumentException.class, () -> new RecordChannelSearch(records(0), RECORD_SIZE, 8, 8));
+        assertThrows(NullPointerException.class, () -> byKey(null, 4096));
+    }
+}
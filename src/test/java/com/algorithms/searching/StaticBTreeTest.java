@@ -0,0 +1,76 @@
+package com.algorithms.searching;
+
+import java.util.Random;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StaticBTreeTest {
+
+    @Test
+    public void testSearchSmallArray() {
+        int[] array = {1, 3, 5, 7, 9};
+        StaticBTree tree = StaticBTree.of(array);
+
+        assertEquals(5, tree.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, tree.search(array[i]));
+        }
+        assertEquals(-1, tree.search(4));
+        assertEquals(-1, tree.search(10));
+        assertEquals(5, tree.lowerBound(10));
+        assertEquals(0, tree.lowerBound(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testMaxValueKeysAndPadding() {
+        int[] array = {1, 2, Integer.MAX_VALUE};
+        long[] longs = {1, 2};
+
+        assertEquals(2, StaticBTree.of(array).search(Integer.MAX_VALUE));
+        assertEquals(-1, StaticBTree.of(longs).search(Long.MAX_VALUE));
+        assertEquals(2, StaticBTree.of(longs).lowerBound(Long.MAX_VALUE));
+        assertEquals(-1, StaticBTree.of(new int[0]).search(0));
+    }
+
+    @Test
+    public void testMatchesBinarySearchOnRandomArrays() {
+        Random rand = new Random(44);
+
+        for (int round = 0; round < 100; round++) {
+            int n = rand.nextInt(3000);
+            int[] ints = rand.ints(n, -1000, 1000).sorted().toArray();
+            long[] longs = Arrays.stream(ints).asLongStream().map(x -> x << 33).toArray();
+            StaticBTree intTree = StaticBTree.of(ints);
+            StaticBTree longTree = StaticBTree.of(longs);
+
+            for (int i = 0; i < 200; i++) {
+                int key = rand.nextInt(2200) - 1100;
+
+                assertEquals(BinarySearch.search(ints, key), intTree.search(key));
+                assertEquals(BinarySearch.lowerBound(ints, key), intTree.lowerBound(key));
+                assertEquals(BinarySearch.search(longs, (long) key << 33), longTree.search((long) key << 33));
+            }
+        }
+    }
+
+    @Test
+    public void testLevelBoundariesAndDuplicates() {
+        Random rand = new Random(4);
+        int[] sizes = {1, 15, 16, 17, 272, 273, 288, 289, 4624, 4625, 100_000};
+
+        for (int n : sizes) {
+            int[] ints = rand.ints(n, -n / 4 - 1, n / 4 + 1).sorted().toArray();
+            long[] longs = Arrays.stream(ints).asLongStream().map(x -> x * 3).toArray();
+            StaticBTree intTree = StaticBTree.of(ints);
+            StaticBTree longTree = StaticBTree.of(longs);
+
+            for (int key = -n / 4 - 3; key <= n / 4 + 3; key++) {
+                assertEquals(BinarySearch.search(ints, key), intTree.search(key));
+                assertEquals(BinarySearch.lowerBound(ints, key), intTree.lowerBound(key));
+                assertEquals(BinarySearch.search(longs, key * 3L), longTree.search(key * 3L));
+                assertEquals(BinarySearch.lowerBound(longs, key * 3L), longTree.lowerBound(key * 3L));
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.algorithms.searching;
+
+import java.util.List;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.PrimitiveIterator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamingSearchTest {
+
+    @Test
+    public void testSearchObjectIterator() {
+        Iterator<String> iterator = List.of("a", "b", "c", "b", "d").iterator();
+
+        assertEquals(1, StreamingSearch.search(iterator, "b"));
+        assertEquals(1, StreamingSearch.search(iterator, "b"));
+        assertEquals(-1, StreamingSearch.search(iterator, "b"));
+        assertEquals(-1, StreamingSearch.search(iterator, "b"));
+        assertEquals(2, StreamingSearch.searchMatching(List.of("x", "yy", "zzz").iterator(), s -> s.length() == 3));
+    }
+
+    @Test
+    public void testSearchPrimitiveIterators() {
+        PrimitiveIterator.OfInt ints = IntStream.range(0, 1000).map(i -> i % 10).iterator();
+        PrimitiveIterator.OfLong longs = LongStream.iterate(1, x -> x * 3).iterator();
+
+        assertEquals(7, StreamingSearch.search(ints, 7));
+        assertEquals(4, StreamingSearch.searchMatchingInt(ints, value -> value == 2));
+        assertEquals(-1, StreamingSearch.search(ints, 10));
+        assertEquals(5, StreamingSearch.search(longs, 243L));
+        assertEquals(5, StreamingSearch.searchMatchingLong(longs, value -> value > 100_000));
+    }
+}
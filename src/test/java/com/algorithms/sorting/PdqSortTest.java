@@ -0,0 +1,91 @@
+package com.algorithms.sorting;
+
+import java.util.Random;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PdqSortTest {
+
+    @Test
+    void testSortingIntegers() {
+        Integer[] array = {5, 3, 8, 1, 2};
+        Integer[] expected = {1, 2, 3, 5, 8};
+
+        PdqSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortingStringsWithComparator() {
+        String[] array = {"banana", "fig", "apple", "cherry", "date"};
+        String[] expected = {"fig", "date", "apple", "banana", "cherry"};
+
+        PdqSort.sort(array, Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortingEmptyAndNullArrays() {
+        int[] empty = {};
+
+        PdqSort.sort(empty);
+        PdqSort.sort((int[]) null);
+        PdqSort.sort((Integer[]) null);
+
+        assertEquals(0, empty.length);
+    }
+
+    @Test
+    void testSortingRandomArraysAgainstArraysSort() {
+        Random rand = new Random(50);
+
+        for (int round = 0; round < 200; round++) {
+            int n = rand.nextInt(round < 150 ? 300 : 20_000);
+            int bound = rand.nextBoolean() ? 10 : Integer.MAX_VALUE;
+            int[] ints = rand.ints(n, 0, bound).toArray();
+            long[] longs = Arrays.stream(ints).asLongStream().map(value -> value * -0x1_0000_0001L).toArray();
+            Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+
+            PdqSort.sort(ints);
+            PdqSort.sort(longs);
+            PdqSort.sort(boxed);
+
+            assertArrayEquals(expectedInts, ints);
+            assertArrayEquals(expectedLongs, longs);
+            assertArrayEquals(Arrays.stream(expectedInts).boxed().toArray(Integer[]::new), boxed);
+        }
+    }
+
+    @Test
+    void testSortingPatternedArrays() {
+        int n = 50_000;
+        int[][] patterns = new int[7][n];
+        for (int i = 0; i < n; i++) {
+            patterns[0][i] = i;
+            patterns[1][i] = n - i;
+            patterns[2][i] = 7;
+            patterns[3][i] = i < n / 2 ? i : n - i;
+            patterns[4][i] = i % 2 == 0 ? i : n - i;
+            patterns[5][i] = i % 64;
+            patterns[6][i] = i;
+        }
+        patterns[6][n / 3] = -1;
+
+        for (int[] pattern : patterns) {
+            int[] expected = pattern.clone();
+            Arrays.sort(expected);
+
+            PdqSort.sort(pattern);
+
+            assertArrayEquals(expected, pattern);
+        }
+    }
+}
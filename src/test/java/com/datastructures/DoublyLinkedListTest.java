@@ -1,8 +1,22 @@
 package com.datastructures;
 
 import org.junit.jupiter.api.BeforeEach;
+import com.datastructures.linkedlists.DoublyLinkedList;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Random;
+import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DoublyLinkedListTest {
@@ -184,4 +198,409 @@ public class DoublyLinkedListTest {
         assertTrue(stringList.contains("Bob"));
         assertFalse(stringList.contains("David"));
     }
+
+    @Test
+    void testReverse() {
+        for (int i = 1; i <= 5; i++) {
+            intList.add(i);
+        }
+        intList.reverse();
+
+        assertEquals("5 <-> 4 <-> 3 <-> 2 <-> 1 <-> NULL", intList.toString());
+        assertEquals(5, intList.getFirst());
+        assertEquals(2, intList.get(3));
+
+        intList.addFirst(6);
+        intList.add(0);
+        intList.remove(1);
+        assertEquals("6 <-> 4 <-> 3 <-> 2 <-> 1 <-> 0 <-> NULL", intList.toString());
+
+        intList.reverse();
+        assertEquals("0 <-> 1 <-> 2 <-> 3 <-> 4 <-> 6 <-> NULL", intList.toString());
+    }
+
+    @Test
+    void testReversedCopy() {
+        for (int i = 1; i <= 5; i++) {
+            intList.add(i);
+        }
+
+        DoublyLinkedList<Integer> copy = intList.reversed();
+        assertEquals("5 <-> 4 <-> 3 <-> 2 <-> 1 <-> NULL", copy.toString());
+        assertEquals("1 <-> 2 <-> 3 <-> 4 <-> 5 <-> NULL", intList.toString());
+
+        copy.addLast(0);
+        intList.addFirst(0);
+        assertEquals(List.of(5, 4, 3, 2, 1, 0), copy);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), intList);
+        assertEquals(List.of(5, 4, 3, 2, 1, 0), intList.reversed());
+
+        DoublyLinkedList<Integer> indexed = new DoublyLinkedList<>(true);
+        indexed.addAll(List.of(1, 2, 2, 3));
+        DoublyLinkedList<Integer> indexedCopy = indexed.reversed();
+        assertEquals(1, indexedCopy.indexOf(2));
+        assertEquals(2, indexedCopy.lastIndexOf(2));
+        assertTrue(indexedCopy.remove(Integer.valueOf(2)));
+        assertEquals(List.of(3, 2, 1), indexedCopy);
+        assertEquals(List.of(1, 2, 2, 3), indexed);
+
+        assertTrue(new DoublyLinkedList<Integer>().reversed().isEmpty());
+    }
+
+    @Test
+    void testSpliceBetweenLists() {
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            intList.add(i);
+            other.add(10 + i);
+        }
+
+        intList.splice(other, 1, 4, 2);
+
+        assertEquals("0 <-> 1 <-> 11 <-> 12 <-> 13 <-> 2 <-> 3 <-> 4 <-> NULL", intList.toString());
+        assertEquals("10 <-> 14 <-> NULL", other.toString());
+        assertEquals(8, intList.size());
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    void testSpliceWithinListAndAcrossDirections() {
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            intList.add(i);
+            other.add(10 + i);
+        }
+
+        intList.splice(intList, 0, 2, 3);
+        assertEquals("2 <-> 3 <-> 4 <-> 0 <-> 1 <-> NULL", intList.toString());
+
+        other.reverse();
+        intList.splice(other, 0, 2, 5);
+        assertEquals("2 <-> 3 <-> 4 <-> 0 <-> 1 <-> 14 <-> 13 <-> NULL", intList.toString());
+        assertEquals("12 <-> 11 <-> 10 <-> NULL", other.toString());
+        assertEquals(13, intList.getLast());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.splice(other, 2, 4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.splice(intList, 0, 2, 6));
+    }
+
+    @Test
+    void testSplitAt() {
+        for (int i = 0; i < 6; i++) {
+            intList.add(i);
+        }
+
+        DoublyLinkedList<Integer> rest = intList.splitAt(4);
+
+        assertEquals("0 <-> 1 <-> 2 <-> 3 <-> NULL", intList.toString());
+        assertEquals("4 <-> 5 <-> NULL", rest.toString());
+        assertEquals(4, intList.size());
+        assertEquals(2, rest.size());
+        assertTrue(intList.splitAt(4).isEmpty());
+
+        DoublyLinkedList<Integer> all = intList.splitAt(0);
+        assertTrue(intList.isEmpty());
+        assertEquals(4, all.size());
+    }
+
+    @Test
+    void testConcat() {
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        intList.add(1);
+        intList.add(2);
+        other.add(3);
+        other.add(4);
+        other.reverse();
+
+        intList.concat(other);
+
+        assertEquals("1 <-> 2 <-> 4 <-> 3 <-> NULL", intList.toString());
+        assertTrue(other.isEmpty());
+        assertEquals(3, intList.getLast());
+        assertThrows(IllegalArgumentException.class, () -> intList.concat(intList));
+    }
+
+    @Test
+    void testDequeOperations() {
+        intList.offerFirst(2);
+        intList.push(1);
+        intList.offerLast(3);
+
+        assertEquals(1, intList.peekFirst());
+        assertEquals(3, intList.peekLast());
+        assertEquals(1, intList.pop());
+        assertEquals(3, intList.pollLast());
+        assertEquals(2, intList.poll());
+        assertNull(intList.poll());
+        assertNull(intList.peek());
+        assertThrows(NoSuchElementException.class, () -> intList.getFirst());
+        assertThrows(NoSuchElementException.class, () -> intList.removeLast());
+    }
+
+    @Test
+    void testListOperations() {
+        stringList.addAll(List.of("a", "b", "c", "b"));
+
+        assertEquals(List.of("a", "b", "c", "b"), stringList);
+        assertEquals(1, stringList.indexOf("b"));
+        assertEquals(3, stringList.lastIndexOf("b"));
+        assertEquals("c", stringList.set(2, "x"));
+        assertTrue(stringList.removeLastOccurrence("b"));
+        assertTrue(stringList.remove("a"));
+        assertFalse(stringList.remove("z"));
+        assertEquals(List.of("b", "x"), stringList);
+
+        stringList.add(2, "end");
+        assertEquals("end", stringList.getLast());
+    }
+
+    @Test
+    void testListIterator() {
+        intList.addAll(List.of(1, 2, 3, 4));
+        ListIterator<Integer> it = intList.listIterator();
+
+        while (it.hasNext()) {
+            int value = it.next();
+            if (value % 2 == 0) {
+                it.remove();
+            }
+            else {
+                it.add(value * 10);
+            }
+        }
+        assertEquals(List.of(1, 10, 3, 30), intList);
+
+        it = intList.listIterator(intList.size());
+        assertEquals(30, it.previous());
+        it.set(31);
+        assertEquals(31, intList.getLast());
+
+        Iterator<Integer> descending = intList.descendingIterator();
+        assertEquals(31, descending.next());
+        assertEquals(3, descending.next());
+    }
+
+    @Test
+    void testIteratorIsFailFast() {
+        intList.addAll(List.of(1, 2, 3));
+        Iterator<Integer> it = intList.iterator();
+        it.next();
+        intList.add(4);
+
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    void testIterationFollowsReversal() {
+        intList.addAll(List.of(1, 2, 3));
+        intList.reverse();
+
+        assertEquals(List.of(3, 2, 1), new ArrayList<>(intList));
+        assertEquals("3,2,1", intList.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testSpliterator() {
+        IntStream.range(0, 5000).forEach(intList::add);
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(5000, spliterator.estimateSize());
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(5000, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    void testParallelStream() {
+        IntStream.range(0, 100_000).forEach(intList::add);
+
+        long sum = intList.parallelStream().mapToLong(Integer::longValue).sum();
+        List<Integer> collected = intList.parallelStream().collect(Collectors.toList());
+
+        assertEquals(4_999_950_000L, sum);
+        assertEquals(intList, collected);
+    }
+
+    @Test
+    void testIndexedContainsAndRemove() {
+        DoublyLinkedList<String> list = new DoublyLinkedList<>(true);
+        list.addAll(List.of("a", "b", "c"));
+
+        assertTrue(list.isIndexed());
+        assertTrue(list.contains("b"));
+        assertFalse(list.contains("z"));
+        assertTrue(list.remove("b"));
+        assertFalse(list.contains("b"));
+        assertEquals(-1, list.indexOf("b"));
+        assertEquals(List.of("a", "c"), list);
+
+        list.set(0, "x");
+        assertFalse(list.contains("a"));
+        assertTrue(list.contains("x"));
+
+        list.clear();
+        assertFalse(list.contains("c"));
+    }
+
+    @Test
+    void testIndexedDuplicatesKeepListOrder() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(true);
+        list.addAll(List.of(1, 2, 1, 3, 1));
+        list.addFirst(1);
+
+        assertTrue(list.removeFirstOccurrence(1));
+        assertEquals(List.of(1, 2, 1, 3, 1), list);
+        assertTrue(list.removeLastOccurrence(1));
+        assertEquals(List.of(1, 2, 1, 3), list);
+
+        list.add(1);
+        list.reverse();
+        assertTrue(list.remove((Integer) 1));
+        assertEquals(List.of(3, 1, 2, 1), list);
+
+        list.add(1, 1);
+        assertTrue(list.removeLastOccurrence(1));
+        assertEquals(List.of(3, 1, 1, 2), list);
+    }
+
+    @Test
+    void testIndexSurvivesSplicing() {
+        DoublyLinkedList<Integer> indexed = new DoublyLinkedList<>(true);
+        DoublyLinkedList<Integer> plain = new DoublyLinkedList<>();
+        indexed.addAll(List.of(1, 2, 3));
+        plain.addAll(List.of(4, 5, 6));
+
+        indexed.splice(plain, 0, 2, 1);
+        assertTrue(indexed.contains(5));
+
+        plain.concat(indexed.splitAt(3));
+        assertFalse(indexed.contains(2));
+        assertEquals(List.of(1, 4, 5), indexed);
+        assertEquals(List.of(6, 2, 3), plain);
+    }
+
+    @Test
+    void testIndexFootprint() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(true);
+        assertEquals(0, new DoublyLinkedList<Integer>().indexFootprint());
+
+        long empty = list.indexFootprint();
+        IntStream.range(0, 1000).forEach(list::add);
+        long distinct = list.indexFootprint();
+        list.add(0);
+
+        assertTrue(distinct > empty);
+        assertTrue(list.indexFootprint() > distinct);
+    }
+
+    @Test
+    void testIndexedMatchesPlainList() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(true);
+        LinkedList<Integer> reference = new LinkedList<>();
+        Random rand = new Random(30);
+
+        for (int i = 0; i < 5000; i++) {
+            Integer value = rand.nextInt(50);
+            int op = rand.nextInt(6);
+
+            if (op == 0) {
+                list.add(value);
+                reference.add(value);
+            }
+            else if (op == 1) {
+                list.addFirst(value);
+                reference.addFirst(value);
+            }
+            else if (op == 2) {
+                int at = rand.nextInt(reference.size() + 1);
+                list.add(at, value);
+                reference.add(at, value);
+            }
+            else if (op == 3) {
+                assertEquals(reference.removeFirstOccurrence(value), list.removeFirstOccurrence(value));
+            }
+            else if (op == 4) {
+                assertEquals(reference.removeLastOccurrence(value), list.removeLastOccurrence(value));
+            }
+            else {
+                assertEquals(reference.contains(value), list.contains(value));
+            }
+        }
+
+        assertEquals(reference, list);
+    }
+
+    @Test
+    void testIndexedDuplicatesWithMiddleInserts() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(true);
+        list.addAll(List.of(1, 2, 1, 2, 1));
+        list.add(2, 1);
+        list.add(4, 2);
+        list.set(1, 1);
+
+        assertEquals(List.of(1, 1, 1, 1, 2, 2, 1), list);
+        assertTrue(list.removeLastOccurrence(1));
+        assertTrue(list.removeFirstOccurrence(2));
+        assertEquals(List.of(1, 1, 1, 1, 2), list);
+
+        ListIterator<Integer> it = list.listIterator(1);
+        it.next();
+        it.remove();
+        list.remove(2);
+        assertEquals(List.of(1, 1, 2), list);
+        assertTrue(list.removeLastOccurrence(1));
+        assertTrue(list.removeLastOccurrence(2));
+        assertTrue(list.remove((Integer) 1));
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.indexFootprint() - new DoublyLinkedList<Integer>(true).indexFootprint());
+
+        LinkedList<Integer> reference = new LinkedList<>();
+        Random rand = new Random(31);
+
+        for (int i = 0; i < 5000; i++) {
+            Integer value = rand.nextInt(4);
+            int op = rand.nextInt(8);
+
+            if (op == 0 || reference.isEmpty()) {
+                int at = rand.nextInt(reference.size() + 1);
+                list.add(at, value);
+                reference.add(at, value);
+            }
+            else if (op == 1) {
+                int at = rand.nextInt(reference.size());
+                assertEquals(reference.remove(at), list.remove(at));
+            }
+            else if (op == 2) {
+                int at = rand.nextInt(reference.size());
+                assertEquals(reference.set(at, value), list.set(at, value));
+            }
+            else if (op == 3) {
+                int from = rand.nextInt(reference.size());
+                int to = from + rand.nextInt(reference.size() - from + 1);
+                int at = rand.nextInt(reference.size() - (to - from) + 1);
+                List<Integer> moved = new ArrayList<>(reference.subList(from, to));
+                reference.subList(from, to).clear();
+                reference.addAll(at, moved);
+                list.splice(list, from, to, at);
+            }
+            else if (op == 4) {
+                list.reverse();
+                Collections.reverse(reference);
+            }
+            else if (op == 5) {
+                assertEquals(reference.removeFirstOccurrence(value), list.removeFirstOccurrence(value));
+            }
+            else if (op == 6) {
+                assertEquals(reference.removeLastOccurrence(value), list.removeLastOccurrence(value));
+            }
+            else {
+                assertEquals(reference.contains(value), list.contains(value));
+                assertEquals(reference.indexOf(value), list.indexOf(value));
+            }
+        }
+
+        assertEquals(reference, list);
+    }
 }
@@ -1,5 +1,8 @@
 package com.datastructures;
 
+import java.util.List;
+import java.util.Arrays;
+import java.util.Iterator;
 import org.junit.jupiter.api.Test;
 import java.util.EmptyStackException;
 import com.datastructures.stacks.Stack;
@@ -133,4 +136,55 @@ public class StackTest {
             assertEquals(size - 1, stack.peek());
         }
     }
+
+    @Test
+    public void testPushAllKeepsLastElementOnTop() {
+        Stack<Integer> stack = new Stack<>();
+        stack.pushAll(new Integer[] {1, 2, 3});
+        stack.pushAll(Arrays.asList(4, 5));
+
+        assertEquals(5, stack.size());
+        assertEquals(5, stack.peek());
+        assertEquals(List.of(5, 4, 3, 2, 1), stack.view());
+    }
+
+    @Test
+    public void testPopInto() {
+        Stack<Integer> stack = new Stack<>();
+        for (int i = 1; i <= 5; i++) {
+            stack.push(i);
+        }
+
+        Integer[] batch = new Integer[3];
+        assertEquals(3, stack.popInto(batch, 3));
+        assertArrayEquals(new Integer[] {5, 4, 3}, batch);
+        assertEquals(2, stack.size());
+
+        assertEquals(2, stack.popInto(batch, 3));
+        assertEquals(2, batch[0]);
+        assertEquals(1, batch[1]);
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.popInto(batch, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> stack.popInto(batch, 4));
+        assertThrows(NullPointerException.class, () -> stack.popInto(null, 0));
+    }
+
+    @Test
+    public void testViewIsLiveAndReadOnly() {
+        Stack<String> stack = new Stack<>();
+        List<String> view = stack.view();
+        stack.push("a");
+        stack.push("b");
+
+        assertEquals(List.of("b", "a"), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add("c"));
+
+        Iterator<String> iterator = stack.iterator();
+        assertEquals("b", iterator.next());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+
+        stack.pop();
+        assertEquals(List.of("a"), view);
+    }
 }
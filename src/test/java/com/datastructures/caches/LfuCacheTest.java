@@ -0,0 +1,107 @@
+package com.datastructures.caches;
+
+import java.util.Map;
+import java.util.List;
+import java.util.Random;
+import java.util.HashMap;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LfuCacheTest {
+
+    @Test
+    public void testEvictsLeastFrequentlyUsed() {
+        LfuCache<String, Integer> cache = new LfuCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.put("c", 3);
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+    }
+
+    @Test
+    public void testTiesBrokenByRecency() {
+        LfuCache<String, Integer> cache = new LfuCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertFalse(cache.containsKey("a"));
+        assertTrue(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+    }
+
+    @Test
+    public void testFrequencyTracking() {
+        LfuCache<String, Integer> cache = new LfuCache<>(3);
+        cache.put("a", 1);
+        cache.get("a");
+        cache.put("a", 2);
+
+        assertEquals(3, cache.frequencyOf("a"));
+        assertEquals(0, cache.frequencyOf("missing"));
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    public void testWeightBasedEvictionWithListener() {
+        List<String> evicted = new ArrayList<>();
+        LfuCache<String, String> cache = new LfuCache<>(6, (key, value) -> value.length(),
+                (key, value) -> evicted.add(key));
+        cache.put("a", "xx");
+        cache.put("b", "yy");
+        cache.get("b");
+        cache.put("c", "zzzz");
+
+        assertEquals(List.of("a"), evicted);
+        assertEquals(6, cache.weight());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testRemove() {
+        LfuCache<Integer, Integer> cache = new LfuCache<>(2);
+        cache.put(1, 1);
+        cache.get(1);
+
+        assertEquals(1, cache.remove(1));
+        assertEquals(0, cache.size());
+
+        cache.put(2, 2);
+        cache.put(3, 3);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testRandomOperationsAgainstReference() {
+        int capacity = 16;
+        LfuCache<Integer, Integer> cache = new LfuCache<>(capacity);
+        Map<Integer, Integer> values = new HashMap<>();
+        Random rand = new Random(26);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = rand.nextInt(64);
+
+            if (rand.nextBoolean()) {
+                cache.put(key, i);
+                values.put(key, i);
+            }
+            else {
+                Integer cached = cache.get(key);
+                if (cached != null) {
+                    assertEquals(values.get(key), cached);
+                }
+            }
+
+            assertTrue(cache.size() <= capacity);
+            assertEquals(cache.size(), cache.weight());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.datastructures.caches;
+
+import java.util.List;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LruCacheTest {
+
+    @Test
+    public void testPutAndGet() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(1, cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        assertNull(cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+    }
+
+    @Test
+    public void testPutReplacesValue() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+
+        assertEquals(1, cache.put("a", 10));
+        assertEquals(10, cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testWeightBasedEviction() {
+        LruCache<String, String> cache = new LruCache<>(10, (key, value) -> value.length());
+        cache.put("a", "xxxx");
+        cache.put("b", "yyyy");
+        cache.put("c", "zzzz");
+
+        assertEquals(8, cache.weight());
+        assertFalse(cache.containsKey("a"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEntryHeavierThanCacheIsEvicted() {
+        LruCache<String, String> cache = new LruCache<>(3, (key, value) -> value.length());
+        cache.put("a", "toolong");
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testEvictionListener() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = new LruCache<>(2, Weigher.singleton(),
+                (key, value) -> evicted.add(key + "=" + value));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.remove("b");
+
+        assertEquals(List.of("a=1"), evicted);
+    }
+
+    @Test
+    public void testStats() {
+        LruCache<Integer, Integer> cache = new LruCache<>(1);
+        cache.put(1, 1);
+        cache.get(1);
+        cache.get(2);
+        cache.put(2, 2);
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.evictionCount());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        LruCache<Integer, Integer> cache = new LruCache<>(5);
+        cache.put(1, 1);
+        cache.put(2, 2);
+
+        assertEquals(1, cache.remove(1));
+        assertNull(cache.remove(1));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+        assertThrows(NullPointerException.class, () -> new LruCache<>(1, null));
+    }
+}
@@ -0,0 +1,74 @@
+package com.datastructures.caches;
+
+import java.util.List;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StripedCacheTest {
+
+    @Test
+    public void testStripesRoundedToPowerOfTwo() {
+        StripedCache<Integer, Integer> cache = new StripedCache<>(5, () -> new LruCache<>(4));
+
+        assertEquals(8, cache.stripes());
+    }
+
+    @Test
+    public void testBasicOperations() {
+        StripedCache<String, Integer> cache = new StripedCache<>(4, () -> new LfuCache<>(10));
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("c"));
+        assertTrue(cache.containsKey("b"));
+        assertEquals(2, cache.remove("b"));
+        assertEquals(1, cache.size());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        int perSegment = 100;
+        StripedCache<Integer, Integer> cache = new StripedCache<>(8, () -> new LruCache<>(perSegment));
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 10_000;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    cache.put(offset + i, i);
+                    Integer value = cache.get(offset + i / 2);
+                    if (value != null) {
+                        assertEquals(i / 2, value);
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(cache.size() <= cache.stripes() * perSegment);
+        assertEquals(80_000, cache.stats().requestCount());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedCache<>(0, () -> new LruCache<>(1)));
+        assertThrows(NullPointerException.class, () -> new StripedCache<Integer, Integer>(2, null));
+        assertThrows(NullPointerException.class, () -> new StripedCache<Integer, Integer>(2, () -> null));
+    }
+}
@@ -0,0 +1,227 @@
+package com.datastructures.deques;
+
+import java.util.Set;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorkStealingDequeTest {
+
+    /**
+     * Sums a range of integers by splitting it in halves down to a threshold.
+     */
+    private static final class RangeSum extends WorkStealingTask<Long> {
+        private final int from;
+        private final int to;
+
+        RangeSum(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= 1000) {
+                long sum = 0;
+                for (int i = from; i < to; i++) {
+                    sum += i;
+                }
+                return sum;
+            }
+
+            int mid = (from + to) >>> 1;
+            RangeSum left = new RangeSum(from, mid);
+            left.fork();
+            long right = new RangeSum(mid, to).compute();
+
+            return right + left.join();
+        }
+    }
+
+    @Test
+    public void testOwnerPopsLifoAndThievesStealFifo() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(4);
+        for (int i = 0; i < 10; i++) {
+            deque.push(i);
+        }
+
+        assertEquals(10, deque.size());
+        assertEquals(16, deque.capacity());
+        assertEquals(9, deque.pop());
+        assertEquals(0, deque.steal());
+        assertEquals(1, deque.steal());
+        assertEquals(8, deque.pop());
+        assertEquals(2, deque.stealCount());
+        assertEquals(0, deque.failedStealCount());
+        assertEquals(6, deque.size());
+    }
+
+    @Test
+    public void testEmptyDeque() {
+        WorkStealingDeque<String> deque = new WorkStealingDeque<>();
+
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertThrows(NullPointerException.class, () -> deque.push(null));
+        assertThrows(IllegalArgumentException.class, () -> new WorkStealingDeque<>(0));
+
+        deque.push("a");
+        assertEquals("a", deque.pop());
+        assertNull(deque.pop());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentStealsTakeEveryElementOnce() throws InterruptedException {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(8);
+        Set<Integer> taken = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        int total = 200_000;
+        int thieves = 3;
+        CountDownLatch done = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < thieves; t++) {
+            Thread thief = new Thread(() -> {
+                while (done.getCount() > 0 || !deque.isEmpty()) {
+                    Integer value = deque.steal();
+                    if (value != null && !taken.add(value)) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thief);
+            thief.start();
+        }
+
+        for (int i = 0; i < total; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer value = deque.pop();
+                if (value != null && !taken.add(value)) {
+                    duplicates.incrementAndGet();
+                }
+            }
+        }
+        done.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, duplicates.get());
+        assertEquals(total, taken.size());
+    }
+
+    @Test
+    public void testExecutorRunsForkJoinTasks() {
+        try (WorkStealingExecutor executor = new WorkStealingExecutor(4)) {
+            long expected = 999_999L * 1_000_000L / 2;
+
+            assertEquals(expected, executor.invoke(new RangeSum(0, 1_000_000)));
+            assertEquals(4, executor.parallelism());
+            assertTrue(executor.failedStealCount() >= 0);
+        }
+    }
+
+    @Test
+    public void testExecutorRunsCommandsAndShutsDown() throws InterruptedException {
+        WorkStealingExecutor executor = new WorkStealingExecutor(2);
+        CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            executor.execute(latch::countDown);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(executor.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    public void testTaskExceptionIsRethrownByJoin() {
+        try (WorkStealingExecutor executor = new WorkStealingExecutor(2)) {
+            WorkStealingTask<Integer> failing = executor.submit(new WorkStealingTask<Integer>() {
+                @Override
+                protected Integer compute() {
+                    throw new IllegalStateException("boom");
+                }
+            });
+
+            assertThrows(IllegalStateException.class, failing::join);
+            assertTrue(failing.isDone());
+        }
+        assertThrows(IllegalStateException.class, () -> new RangeSum(0, 10_000).fork());
+    }
+
+    @Test
+    public void testJoiningWorkerParksWhileTaskIsStolen() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch joining = new CountDownLatch(1);
+        AtomicReference<Thread> joiner = new AtomicReference<>();
+
+        WorkStealingTask<Integer> stolen = new WorkStealingTask<Integer>() {
+            @Override
+            protected Integer compute() {
+                started.countDown();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 1;
+            }
+        };
+
+        try (WorkStealingExecutor executor = new WorkStealingExecutor(2)) {
+            WorkStealingTask<Integer> root = executor.submit(new WorkStealingTask<Integer>() {
+                @Override
+                protected Integer compute() {
+                    joiner.set(Thread.currentThread());
+                    stolen.fork();
+                    try {
+                        started.await();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    joining.countDown();
+                    return stolen.join() + 1;
+                }
+            });
+
+            int running = 0;
+            try {
+                assertTrue(joining.await(5, TimeUnit.SECONDS));
+                Thread.sleep(100);
+
+                for (int i = 0; i < 20; i++) {
+                    if (joiner.get().getState() == Thread.State.RUNNABLE) {
+                        running++;
+                    }
+                    Thread.sleep(5);
+                }
+            }
+            finally {
+                release.countDown();
+            }
+
+            assertTrue(running < 20, "joining worker never parked");
+            assertEquals(2, root.join());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.datastructures.linkedlists;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapDoublyLinkedListTest {
+
+    @Test
+    public void testAddAndGet() {
+        OffHeapDoublyLinkedList<Long> list = new OffHeapDoublyLinkedList<>(RecordCodec.longs());
+        list.add(1L);
+        list.add(2L);
+        list.addFirst(0L);
+        list.add(3, 3L);
+        list.add(1, 5L);
+
+        assertEquals(5, list.size());
+        assertEquals(0L, list.getFirst());
+        assertEquals(3L, list.getLast());
+        assertEquals(5L, list.get(1));
+        assertEquals("0 <-> 5 <-> 1 <-> 2 <-> 3 <-> NULL", list.toString());
+    }
+
+    @Test
+    public void testRemoveAndSet() {
+        OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(RecordCodec.ints());
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        assertEquals(2, list.remove(2));
+        assertEquals(0, list.removeFirst());
+        assertEquals(4, list.removeLast());
+        assertEquals(1, list.set(0, 10));
+        assertEquals("10 <-> 3 <-> NULL", list.toString());
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(2));
+    }
+
+    @Test
+    public void testEmptyList() {
+        OffHeapDoublyLinkedList<Double> list = new OffHeapDoublyLinkedList<>(RecordCodec.doubles());
+
+        assertTrue(list.isEmpty());
+        assertNull(list.getFirst());
+        assertNull(list.removeLast());
+        assertEquals("List is empty", list.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    @Test
+    public void testFreedSlotsAreReused() {
+        OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(RecordCodec.ints(), 8);
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+        assertEquals(8, list.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            list.removeFirst();
+            list.add(100 + i);
+        }
+
+        assertEquals(8, list.capacity());
+        assertEquals(8, list.size());
+        assertEquals(8 * (8 + Integer.BYTES), list.offHeapBytes());
+    }
+
+    @Test
+    public void testFailedWriteReleasesSlot() {
+        RecordCodec<Integer> ints = RecordCodec.ints();
+        RecordCodec<Integer> nonNegative = new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return ints.recordSize();
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer value) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Negative value");
+                }
+                ints.write(buffer, offset, value);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return ints.read(buffer, offset);
+            }
+        };
+        OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(nonNegative, 8);
+
+        for (int i = 0; i < 16; i++) {
+            assertThrows(IllegalArgumentException.class, () -> list.add(-1));
+        }
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+        assertEquals(8, list.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            list.removeFirst();
+        }
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalArgumentException.class, () -> list.addFirst(-1));
+        }
+        for (int i = 0; i < 4; i++) {
+            list.add(100 + i);
+        }
+
+        assertEquals(8, list.capacity());
+        assertEquals(8, list.size());
+        assertEquals(4, list.get(0));
+        assertEquals(103, list.getLast());
+    }
+
+    @Test
+    public void testGrowsAcrossChunks() {
+        OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(RecordCodec.ints(), 16);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(1000, list.size());
+        assertEquals(1008, list.capacity());
+        assertEquals(999, list.get(999));
+
+        List<Integer> seen = new ArrayList<>();
+        list.forEach(seen::add);
+        assertEquals(1000, seen.size());
+
+        list.clear();
+        assertEquals(16, list.capacity());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testRandomOperationsAgainstReference() {
+        OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(RecordCodec.ints(), 32);
+        LinkedList<Integer> reference = new LinkedList<>();
+        Random rand = new Random(27);
+
+        for (int i = 0; i < 5000; i++) {
+            int op = rand.nextInt(4);
+
+            if (op == 0 || reference.isEmpty()) {
+                int index = rand.nextInt(reference.size() + 1);
+                list.add(index, i);
+                reference.add(index, i);
+            }
+            else if (op == 1) {
+                int index = rand.nextInt(reference.size());
+                assertEquals(reference.remove(index), list.remove(index));
+            }
+            else if (op == 2) {
+                int index = rand.nextInt(reference.size());
+                assertEquals(reference.get(index), list.get(index));
+            }
+            else {
+                assertEquals(reference.pollFirst(), list.removeFirst());
+            }
+
+            assertEquals(reference.size(), list.size());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.datastructures.linkedlists;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentListTest {
+
+    @Test
+    public void testAppendAndGet() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.append(i);
+        }
+
+        assertEquals(100_000, list.size());
+        for (int i = 0; i < 100_000; i += 7) {
+            assertEquals(i, list.get(i));
+        }
+        PersistentList<Integer> finalList = list;
+        assertThrows(IndexOutOfBoundsException.class, () -> finalList.get(100_000));
+    }
+
+    @Test
+    public void testOldVersionsAreUnchanged() {
+        PersistentList<String> v1 = PersistentList.of("a", "b", "c");
+        PersistentList<String> v2 = v1.append("d");
+        PersistentList<String> v3 = v2.update(0, "z");
+        PersistentList<String> v4 = v3.dropLast();
+
+        assertEquals(List.of("a", "b", "c"), v1);
+        assertEquals(List.of("a", "b", "c", "d"), v2);
+        assertEquals(List.of("z", "b", "c", "d"), v3);
+        assertEquals(List.of("z", "b", "c"), v4);
+    }
+
+    @Test
+    public void testUpdateInsideTrie() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            list = list.append(i);
+        }
+
+        PersistentList<Integer> updated = list.update(1234, -1);
+
+        assertEquals(-1, updated.get(1234));
+        assertEquals(1234, list.get(1234));
+        assertEquals(1235, updated.get(1235));
+    }
+
+    @Test
+    public void testDropLastAcrossLevels() {
+        PersistentList<Integer> list = PersistentList.empty();
+        int count = 32 * 32 * 32 + 40;
+        for (int i = 0; i < count; i++) {
+            list = list.append(i);
+        }
+
+        for (int i = count - 1; i >= 0; i--) {
+            assertEquals(i, list.get(i));
+            list = list.dropLast();
+            assertEquals(i, list.size());
+        }
+
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::dropLast);
+    }
+
+    @Test
+    public void testIteration() {
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            list = list.append(i);
+            expected.add(i);
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        for (Integer value : list) {
+            seen.add(value);
+        }
+
+        assertEquals(expected, seen);
+        assertEquals(expected, PersistentList.copyOf(expected));
+        assertEquals(1999L * 2000 / 2, list.stream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void testImmutable() {
+        PersistentList<Integer> list = PersistentList.of(1, 2);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+    }
+
+    @Test
+    public void testSnapshotsWhileWriting() throws InterruptedException {
+        AtomicReference<PersistentList<Integer>> shared = new AtomicReference<>(PersistentList.empty());
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                shared.set(shared.get().append(i));
+            }
+        });
+        writer.start();
+
+        while (writer.isAlive()) {
+            PersistentList<Integer> snapshot = shared.get();
+            int index = 0;
+            for (Integer value : snapshot) {
+                assertEquals(index++, value);
+            }
+            assertEquals(snapshot.size(), index);
+        }
+        writer.join();
+
+        assertEquals(50_000, shared.get().size());
+    }
+}
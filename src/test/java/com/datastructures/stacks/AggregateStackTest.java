@@ -0,0 +1,131 @@
+package com.datastructures.stacks;
+
+import java.util.Random;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregateStackTest {
+
+    @Test
+    public void testMinMaxFollowPushAndPop() {
+        AggregateStack<Integer> stack = AggregateStack.naturalOrder();
+        stack.push(5);
+        stack.push(3);
+        stack.push(8);
+        stack.push(1);
+
+        assertEquals(1, stack.min());
+        assertEquals(8, stack.max());
+
+        assertEquals(1, stack.pop());
+        assertEquals(3, stack.min());
+
+        assertEquals(8, stack.pop());
+        assertEquals(5, stack.max());
+        assertEquals(3, stack.peek());
+        assertEquals(2, stack.size());
+    }
+
+    @Test
+    public void testAggregateFoldsBottomToTop() {
+        AggregateStack<String> stack = new AggregateStack<>(Comparator.naturalOrder(), String::concat);
+        stack.push("a");
+        stack.push("b");
+        stack.push("c");
+
+        assertEquals("abc", stack.aggregate());
+        stack.pop();
+        assertEquals("ab", stack.aggregate());
+    }
+
+    @Test
+    public void testEmptyStack() {
+        AggregateStack<Integer> stack = new AggregateStack<>(Comparator.reverseOrder(), Integer::sum);
+
+        assertTrue(stack.isEmpty());
+        assertNull(stack.peek());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::min);
+        assertThrows(EmptyStackException.class, stack::aggregate);
+        assertThrows(IllegalStateException.class, () -> AggregateStack.<Integer>naturalOrder().aggregate());
+        assertThrows(NullPointerException.class, () -> new AggregateStack<Integer>(null));
+    }
+
+    @Test
+    public void testRandomOperationsAgainstRescan() {
+        AggregateStack<Long> stack = new AggregateStack<>(Comparator.naturalOrder(), Long::sum);
+        ArrayDeque<Long> reference = new ArrayDeque<>();
+        Random rand = new Random(34);
+
+        for (int i = 0; i < 5000; i++) {
+            if (reference.isEmpty() || rand.nextInt(3) > 0) {
+                long value = rand.nextInt(1000) - 500;
+                stack.push(value);
+                reference.push(value);
+            }
+            else {
+                assertEquals(reference.pop(), stack.pop());
+            }
+
+            if (!reference.isEmpty()) {
+                assertEquals(reference.stream().min(Long::compare).get(), stack.min());
+                assertEquals(reference.stream().max(Long::compare).get(), stack.max());
+                assertEquals(reference.stream().mapToLong(Long::longValue).sum(), stack.aggregate());
+            }
+        }
+    }
+
+    @Test
+    public void testSlidingWindowAggregates() {
+        SlidingWindowQueue<Integer> window = new SlidingWindowQueue<>(Comparator.naturalOrder(), Integer::sum);
+        int[] data = {4, 2, 12, 3, 8, 1, 7, 7, 0, 5};
+        int width = 3;
+
+        for (int i = 0; i < data.length; i++) {
+            window.offer(data[i]);
+            if (window.size() > width) {
+                assertEquals(data[i - width], window.poll());
+            }
+
+            int from = Math.max(0, i - width + 1);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int sum = 0;
+            for (int j = from; j <= i; j++) {
+                min = Math.min(min, data[j]);
+                max = Math.max(max, data[j]);
+                sum += data[j];
+            }
+
+            assertEquals(min, window.min());
+            assertEquals(max, window.max());
+            assertEquals(sum, window.aggregate());
+        }
+    }
+
+    @Test
+    public void testSlidingWindowKeepsFifoOrderForNonCommutativeFold() {
+        SlidingWindowQueue<String> window = new SlidingWindowQueue<>(Comparator.naturalOrder(), String::concat);
+        window.offer("a");
+        window.offer("b");
+        window.offer("c");
+        assertEquals("a", window.poll());
+        window.offer("d");
+        window.offer("e");
+
+        assertEquals("bcde", window.aggregate());
+        assertEquals("b", window.min());
+        assertEquals("e", window.max());
+
+        while (!window.isEmpty()) {
+            window.poll();
+        }
+        assertThrows(NoSuchElementException.class, window::poll);
+        assertThrows(NoSuchElementException.class, window::min);
+    }
+}
@@ -0,0 +1,113 @@
+package com.datastructures.stacks;
+
+import org.junit.jupiter.api.Test;
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayStackTest {
+
+    @Test
+    public void testPushAndPop() {
+        ArrayStack<String> stack = new ArrayStack<>();
+        stack.push("a");
+        stack.push("b");
+        stack.push(null);
+
+        assertNull(stack.pop());
+        assertEquals("b", stack.peek());
+        assertEquals("b", stack.pop());
+        assertEquals("a", stack.pop());
+        assertTrue(stack.isEmpty());
+        assertNull(stack.peek());
+        assertThrows(EmptyStackException.class, stack::pop);
+    }
+
+    @Test
+    public void testGrowthPolicies() {
+        ArrayStack<Integer> doubling = new ArrayStack<>(2);
+        ArrayStack<Integer> linear = new ArrayStack<>(2, GrowthPolicy.increment(3), false);
+        ArrayStack<Integer> factor = new ArrayStack<>(2, GrowthPolicy.factor(1.5), false);
+
+        for (int i = 0; i < 3; i++) {
+            doubling.push(i);
+            linear.push(i);
+            factor.push(i);
+        }
+
+        assertEquals(4, doubling.capacity());
+        assertEquals(5, linear.capacity());
+        assertEquals(3, factor.capacity());
+    }
+
+    @Test
+    public void testDegenerateGrowthPolicyStillGrows() {
+        ArrayStack<Integer> stack = new ArrayStack<>(1, capacity -> capacity, false);
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(10, stack.size());
+        assertEquals(9, stack.pop());
+    }
+
+    @Test
+    public void testGrowthNearMaximumCapacity() {
+        assertEquals(StackCapacity.MAX_CAPACITY, StackCapacity.grow(GrowthPolicy.doubling(), 1 << 30));
+        assertEquals(StackCapacity.MAX_CAPACITY, StackCapacity.grow(GrowthPolicy.factor(2.5), 1 << 30));
+        assertEquals(StackCapacity.MAX_CAPACITY, StackCapacity.grow(capacity -> capacity * 3, 1 << 30));
+        assertEquals(Integer.MAX_VALUE, GrowthPolicy.doubling().nextCapacity(1 << 30));
+        assertEquals(1 << 30, StackCapacity.grow(GrowthPolicy.doubling(), 1 << 29));
+        assertThrows(OutOfMemoryError.class,
+                () -> StackCapacity.grow(GrowthPolicy.doubling(), StackCapacity.MAX_CAPACITY));
+    }
+
+    @Test
+    public void testShrinkOnPopWithHysteresis() {
+        ArrayStack<Integer> stack = new ArrayStack<>(4, GrowthPolicy.doubling(), true);
+        for (int i = 0; i < 64; i++) {
+            stack.push(i);
+        }
+        assertEquals(64, stack.capacity());
+
+        while (stack.size() > 17) {
+            stack.pop();
+        }
+        assertEquals(64, stack.capacity());
+
+        stack.pop();
+        assertEquals(32, stack.capacity());
+
+        stack.push(100);
+        stack.pop();
+        assertEquals(32, stack.capacity());
+
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        assertEquals(4, stack.capacity());
+    }
+
+    @Test
+    public void testClearAndTrim() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertEquals(128, stack.capacity());
+
+        stack.trimToSize();
+        assertEquals(2, stack.capacity());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<>(0));
+        assertThrows(NullPointerException.class, () -> new ArrayStack<>(4, null, false));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1.0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.increment(0));
+    }
+}
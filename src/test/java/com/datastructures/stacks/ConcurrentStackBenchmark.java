@@ -0,0 +1,125 @@
+package com.datastructures.stacks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures push/pop throughput of {@link ConcurrentStack} against a lock-guarded {@link Stack}
+ * for 1 to N threads.
+ * <p>
+ * Not part of the test suite. Run it after {@code mvn test-compile} with:
+ * </p>
+ * <pre>
+ * java -cp target/classes:target/test-classes com.datastructures.stacks.ConcurrentStackBenchmark [maxThreads] [millis]
+ * </pre>
+ * <p>
+ * Each thread repeatedly pushes an element and pops one, which is the buffer free-list pattern.
+ * The first round of every configuration is a discarded warm-up.
+ * </p>
+ */
+public final class ConcurrentStackBenchmark {
+    private static final int DEFAULT_MILLIS = 1000;
+
+    /**
+     * A push/pop pair executed by a benchmark thread.
+     */
+    private interface Operation {
+
+        /**
+         * Pushes the value and pops one element.
+         *
+         * @param value the value to push
+         */
+        void run(Integer value);
+    }
+
+    private ConcurrentStackBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional maximum thread count and duration per measurement in milliseconds
+     * @throws InterruptedException if interrupted while waiting for the benchmark threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int millis = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MILLIS;
+
+        System.out.printf("%8s %20s %20s %14s%n", "threads", "locked Stack ops/s", "ConcurrentStack ops/s", "eliminated");
+
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1) {
+            Stack<Integer> locked = new Stack<>();
+            Operation lockedOperation = value -> {
+                synchronized (locked) {
+                    locked.push(value);
+                }
+                synchronized (locked) {
+                    locked.pop();
+                }
+            };
+
+            ConcurrentStack<Integer> concurrent = new ConcurrentStack<>();
+            Operation concurrentOperation = value -> {
+                concurrent.push(value);
+                concurrent.poll();
+            };
+
+            measure(threads, millis, lockedOperation);
+            double lockedRate = measure(threads, millis, lockedOperation);
+            measure(threads, millis, concurrentOperation);
+            long before = concurrent.eliminationCount();
+            double concurrentRate = measure(threads, millis, concurrentOperation);
+
+            System.out.printf("%8d %20.0f %20.0f %14d%n",
+                    threads, lockedRate, concurrentRate, concurrent.eliminationCount() - before);
+        }
+    }
+
+    /**
+     * Runs an operation on several threads for a fixed time.
+     *
+     * @param threads   the number of threads
+     * @param millis    the duration of the measurement
+     * @param operation the push/pop pair to execute
+     * @return the number of push/pop pairs per second
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    private static double measure(int threads, int millis, Operation operation) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long deadline = System.nanoTime() + millis * 1_000_000L + 50_000_000L;
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                Integer value = 42;
+                long count = 0;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 256; i++) {
+                        operation.run(value);
+                    }
+                    count += 256;
+                }
+                operations.add(count);
+            });
+            workers[t].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        return operations.sum() * 1e9 / (System.nanoTime() - begin);
+    }
+}
@@ -0,0 +1,91 @@
+package com.datastructures.stacks;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.EmptyStackException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentStackTest {
+
+    @Test
+    public void testSequentialLifo() {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(100, stack.size());
+        assertEquals(99, stack.peek());
+
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+
+        assertTrue(stack.isEmpty());
+        assertNull(stack.poll());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(NullPointerException.class, () -> stack.push(null));
+    }
+
+    @Test
+    public void testConcurrentPushAndPopLoseNothing() throws InterruptedException {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>(4, 64);
+        int threads = 8;
+        int perThread = 50_000;
+        AtomicLong poppedSum = new AtomicLong();
+        AtomicInteger poppedCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    Integer value = stack.poll();
+                    if (value != null) {
+                        poppedSum.addAndGet(value);
+                        poppedCount.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Integer value;
+        while ((value = stack.poll()) != null) {
+            poppedSum.addAndGet(value);
+            poppedCount.incrementAndGet();
+        }
+
+        long total = (long) threads * perThread;
+        assertEquals(total, poppedCount.get());
+        assertEquals(total * (total - 1) / 2, poppedSum.get());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentStack<>(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentStack<>(1, -1));
+    }
+}
@@ -0,0 +1,48 @@
+package com.datastructures.stacks;
+
+import org.junit.jupiter.api.Test;
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveStackTest {
+
+    @Test
+    public void testIntStack() {
+        IntStack stack = new IntStack(2);
+        for (int i = 0; i < 1_000_000; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(1_000_000, stack.size());
+        assertEquals(999_999, stack.peek());
+
+        for (int i = 999_999; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+    }
+
+    @Test
+    public void testLongStack() {
+        LongStack stack = new LongStack(4, GrowthPolicy.increment(4), true);
+        for (long i = 0; i < 100; i++) {
+            stack.push(i * 10_000_000_000L);
+        }
+        assertEquals(100, stack.capacity());
+
+        for (long i = 99; i >= 10; i--) {
+            assertEquals(i * 10_000_000_000L, stack.pop());
+        }
+
+        assertTrue(stack.capacity() < 100);
+        assertEquals(90_000_000_000L, stack.peek());
+
+        stack.clear();
+        stack.trimToSize();
+        assertEquals(4, stack.capacity());
+    }
+}
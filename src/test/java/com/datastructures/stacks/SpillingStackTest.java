@@ -0,0 +1,114 @@
+package com.datastructures.stacks;
+
+import java.util.Random;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.io.IOException;
+import java.util.stream.Stream;
+import java.util.EmptyStackException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.datastructures.linkedlists.RecordCodec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpillingStackTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testSpillsColdSegmentsAndPagesThemBack() {
+        try (SpillingStack<Long> stack = new SpillingStack<>(RecordCodec.longs(), 8, 2, directory)) {
+            for (long i = 0; i < 1000; i++) {
+                stack.push(i);
+            }
+
+            assertEquals(1000, stack.size());
+            assertEquals(2, stack.residentSegments());
+            assertEquals(123, stack.spilledSegments());
+            assertEquals(999L, stack.peek());
+
+            for (long i = 999; i >= 0; i--) {
+                assertEquals(i, stack.pop());
+            }
+
+            assertTrue(stack.isEmpty());
+            assertEquals(0, stack.spilledSegments());
+        }
+    }
+
+    @Test
+    public void testEmptyStack() {
+        try (SpillingStack<Integer> stack = new SpillingStack<>(RecordCodec.ints())) {
+            assertNull(stack.peek());
+            assertThrows(EmptyStackException.class, stack::pop);
+        }
+
+        assertThrows(NullPointerException.class, () -> new SpillingStack<Integer>(null));
+        assertThrows(IllegalArgumentException.class, () -> new SpillingStack<>(RecordCodec.ints(), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SpillingStack<>(RecordCodec.ints(), 8, 0));
+    }
+
+    @Test
+    public void testRandomOperationsAgainstReference() {
+        ArrayDeque<Integer> reference = new ArrayDeque<>();
+        Random rand = new Random(37);
+
+        try (SpillingStack<Integer> stack = new SpillingStack<>(RecordCodec.ints(), 4, 1, directory)) {
+            for (int i = 0; i < 20_000; i++) {
+                if (reference.isEmpty() || rand.nextInt(5) < 3) {
+                    stack.push(i);
+                    reference.push(i);
+                }
+                else {
+                    assertEquals(reference.pop(), stack.pop());
+                }
+
+                assertEquals(reference.size(), stack.size());
+                assertEquals(reference.peek(), stack.peek());
+            }
+        }
+    }
+
+    @Test
+    public void testCloseLeavesNoSpillFileBehind() throws IOException {
+        SpillingStack<Integer> stack = new SpillingStack<>(RecordCodec.ints(), 2, 1, directory);
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+        assertEquals(4, stack.spilledSegments());
+
+        stack.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testBoundaryCrossingsDoNotAccumulateMappings() throws IOException {
+        Path maps = Path.of("/proc/self/maps");
+
+        try (SpillingStack<Integer> stack = new SpillingStack<>(RecordCodec.ints(), 1024, 1, directory)) {
+            for (int i = 0; i < 1024; i++) {
+                stack.push(i);
+            }
+            for (int crossing = 0; crossing < 2000; crossing++) {
+                stack.push(-1);
+                assertEquals(-1, stack.pop());
+                assertEquals(1023, stack.pop());
+                stack.push(1023);
+            }
+
+            if (Files.isReadable(maps)) {
+                try (Stream<String> lines = Files.lines(maps)) {
+                    assertTrue(lines.filter(line -> line.contains("spilling-stack")).count() < 10);
+                }
+            }
+            assertEquals(1024, stack.size());
+        }
+    }
+}